@@ -0,0 +1,81 @@
+package cz.habarta.typescript.generator;
+
+import cz.habarta.typescript.generator.compiler.SymbolTable;
+import cz.habarta.typescript.generator.util.Pair;
+import java.lang.reflect.Type;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import org.jspecify.annotations.Nullable;
+
+
+/**
+ * Memoizes results of {@link #processTypeInTemporaryContext} (used by parsers to discover and exclude types)
+ * by java type and type context. Processing in real context (used by model compiler) is not cached.
+ * Type contexts which don't override {@link Object#equals} are not cached since lookups would never hit.
+ * Caching is disabled when wrapped processor is not {@link TypeProcessor#isCacheable() cacheable}.
+ */
+public class CachingTypeProcessor implements TypeProcessor {
+
+    private final TypeProcessor typeProcessor;
+    private final boolean enabled;
+    private final Map<Pair<Type, @Nullable Object>, Optional<Result>> cache = new ConcurrentHashMap<>();
+    private final ThreadLocal<SymbolTable> discoverySymbolTable;
+    private final AtomicLong hitCount = new AtomicLong();
+    private final AtomicLong missCount = new AtomicLong();
+
+    private static final ClassValue<Boolean> hasStructuralEquality = new ClassValue<>() {
+        @Override
+        protected Boolean computeValue(Class<?> cls) {
+            try {
+                return cls.getMethod("equals", Object.class).getDeclaringClass() != Object.class;
+            } catch (NoSuchMethodException e) {
+                return false;
+            }
+        }
+    };
+
+    public CachingTypeProcessor(TypeProcessor typeProcessor, Settings settings) {
+        this.typeProcessor = typeProcessor;
+        this.enabled = typeProcessor.isCacheable();
+        this.discoverySymbolTable = ThreadLocal.withInitial(() -> new SymbolTable(settings));
+    }
+
+    @Override
+    public @Nullable Result processType(Type javaType, Context context) {
+        return typeProcessor.processType(javaType, context);
+    }
+
+    @Override
+    public @Nullable Result processTypeInTemporaryContext(Type type, @Nullable Object typeContext, Settings settings) {
+        if (!enabled || (typeContext != null && !hasStructuralEquality.get(typeContext.getClass()))) {
+            return typeProcessor.processTypeInTemporaryContext(type, typeContext, settings);
+        }
+        final Pair<Type, @Nullable Object> key = Pair.of(type, typeContext);
+        final Optional<Result> cached = cache.get(key);
+        if (cached != null) {
+            hitCount.incrementAndGet();
+            return cached.orElse(null);
+        }
+        missCount.incrementAndGet();
+        // symbols from temporary context are never resolved so one symbol table can be shared by all calls (per thread)
+        final Result result = typeProcessor.processType(type, new Context(discoverySymbolTable.get(), typeProcessor, typeContext));
+        cache.putIfAbsent(key, Optional.ofNullable(result));
+        return result;
+    }
+
+    @Override
+    public boolean isCacheable() {
+        return enabled;
+    }
+
+    public long getHitCount() {
+        return hitCount.get();
+    }
+
+    public long getMissCount() {
+        return missCount.get();
+    }
+
+}
@@ -0,0 +1,169 @@
+
+package cz.habarta.typescript.generator;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.ClosedWatchServiceException;
+import java.nio.file.FileSystems;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardWatchEventKinds;
+import java.nio.file.WatchEvent;
+import java.nio.file.WatchKey;
+import java.nio.file.WatchService;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+import org.jspecify.annotations.Nullable;
+
+
+/**
+ * Watches class directories (recursively) for changed class files using {@link WatchService}.
+ * Used by watch mode which regenerates output when classes affecting it change
+ * (see {@link cz.habarta.typescript.generator.parser.Model#getAffectedClasses(java.util.Collection)}).
+ */
+public class ClassesWatcher implements AutoCloseable {
+
+    private final WatchService watchService;
+    private final Map<WatchKey, Path> roots = new HashMap<>();
+    private final Set<String> existingClassNames = new HashSet<>();
+
+    public ClassesWatcher(List<File> directories) throws IOException {
+        this.watchService = FileSystems.getDefault().newWatchService();
+        try {
+            for (File directory : directories) {
+                final Path root = directory.toPath().toAbsolutePath();
+                if (Files.isDirectory(root)) {
+                    for (Path file : registerTree(root, root, new ArrayList<>())) {
+                        final String className = getClassName(root, file);
+                        if (className != null) {
+                            existingClassNames.add(className);
+                        }
+                    }
+                }
+            }
+        } catch (IOException e) {
+            watchService.close();
+            throw e;
+        }
+    }
+
+    public static class Changes {
+        /**
+         * Names of created, modified or deleted classes.
+         */
+        public final Set<String> changedClassNames;
+        /**
+         * <code>true</code> when changes cannot be evaluated using dependencies of previously parsed classes,
+         * for example when class was added or removed (it can match input class patterns)
+         * or when some events were lost.
+         */
+        public final boolean fullGenerationRequired;
+
+        public Changes(Set<String> changedClassNames, boolean fullGenerationRequired) {
+            this.changedClassNames = Collections.unmodifiableSet(changedClassNames);
+            this.fullGenerationRequired = fullGenerationRequired;
+        }
+    }
+
+    /**
+     * Blocks until some class file changes and then collects other changes
+     * until no change happens during <code>quietPeriodMillis</code> (for example while classes are being compiled).
+     */
+    public Changes awaitChanges(long quietPeriodMillis) throws IOException, InterruptedException {
+        final Map<String, Path> changedClasses = new LinkedHashMap<>();
+        boolean fullGenerationRequired = false;
+        try {
+            WatchKey key = watchService.take();
+            while (key != null) {
+                fullGenerationRequired |= processEvents(key, changedClasses);
+                key = watchService.poll(quietPeriodMillis, TimeUnit.MILLISECONDS);
+                if (key == null && changedClasses.isEmpty() && !fullGenerationRequired) {
+                    // only irrelevant files changed
+                    key = watchService.take();
+                }
+            }
+        } catch (ClosedWatchServiceException e) {
+            throw new InterruptedException("Watch service closed");
+        }
+        // compilers often replace class files (delete and create), so added and removed classes are detected by comparing state
+        for (Map.Entry<String, Path> entry : changedClasses.entrySet()) {
+            final String className = entry.getKey();
+            final boolean exists = Files.isRegularFile(entry.getValue());
+            final boolean existed = exists ? !existingClassNames.add(className) : existingClassNames.remove(className);
+            // added or removed class can match input, package-info can change annotations of all classes in package
+            if (exists != existed || className.endsWith("package-info")) {
+                fullGenerationRequired = true;
+            }
+        }
+        return new Changes(new LinkedHashSet<>(changedClasses.keySet()), fullGenerationRequired);
+    }
+
+    private boolean processEvents(WatchKey key, Map<String, Path> changedClasses) throws IOException {
+        boolean overflow = false;
+        final Path root = roots.get(key);
+        final Path directory = (Path) key.watchable();
+        for (WatchEvent<?> event : key.pollEvents()) {
+            if (event.kind() == StandardWatchEventKinds.OVERFLOW || root == null) {
+                overflow = true;
+                continue;
+            }
+            final Path path = directory.resolve((Path) event.context());
+            final List<Path> files = event.kind() == StandardWatchEventKinds.ENTRY_CREATE && Files.isDirectory(path)
+                ? registerTree(root, path, new ArrayList<>())
+                : Collections.singletonList(path);
+            for (Path file : files) {
+                final String className = getClassName(root, file);
+                if (className != null) {
+                    changedClasses.put(className, file);
+                }
+            }
+        }
+        if (!key.reset()) {
+            roots.remove(key);
+        }
+        return overflow;
+    }
+
+    private static @Nullable String getClassName(Path root, Path path) {
+        final String relativePath = root.relativize(path).toString();
+        if (!relativePath.endsWith(".class")) {
+            return null;
+        }
+        return relativePath
+            .substring(0, relativePath.length() - ".class".length())
+            .replace(File.separatorChar, '.');
+    }
+
+    private List<Path> registerTree(Path root, Path directory, List<Path> files) throws IOException {
+        try (Stream<Path> paths = Files.walk(directory)) {
+            for (Path path : paths.collect(Collectors.toList())) {
+                if (Files.isDirectory(path)) {
+                    final WatchKey key = path.register(watchService,
+                        StandardWatchEventKinds.ENTRY_CREATE,
+                        StandardWatchEventKinds.ENTRY_DELETE,
+                        StandardWatchEventKinds.ENTRY_MODIFY);
+                    roots.put(key, root);
+                } else {
+                    files.add(path);
+                }
+            }
+        }
+        return files;
+    }
+
+    @Override
+    public void close() throws IOException {
+        watchService.close();
+    }
+
+}
@@ -0,0 +1,306 @@
+package cz.habarta.typescript.generator;
+
+import cz.habarta.typescript.generator.util.CacheFiles;
+import io.github.classgraph.ClassGraph;
+import io.github.classgraph.ClassInfo;
+import io.github.classgraph.ScanResult;
+import java.io.BufferedInputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import org.jspecify.annotations.Nullable;
+
+
+/**
+ * Class names, superclasses, interfaces and annotations of classes on classpath.
+ * Used instead of ClassGraph {@link ScanResult} when scan cache directory is configured.
+ * Each classpath entry is scanned separately. Entries of jar files are stored in cache directory
+ * together with jar size and modification time so only changed jars are scanned again.
+ * Directories are always scanned (they usually contain classes of current project which change often).
+ */
+class ClasspathIndex {
+
+    private static final int FormatVersion = 2;
+
+    private final Map<String, ClassEntry> classes;
+
+    private ClasspathIndex(Map<String, ClassEntry> classes) {
+        this.classes = classes;
+    }
+
+    private static class ClassEntry {
+        public final String name;
+        public final ClassKind kind;
+        public final @Nullable String superclass;
+        public final List<String> interfaces;
+        public final List<String> annotations;
+        public final boolean inputCandidate; // not synthetic nor anonymous
+
+        public ClassEntry(String name, ClassKind kind, @Nullable String superclass, List<String> interfaces, List<String> annotations, boolean inputCandidate) {
+            this.name = name;
+            this.kind = kind;
+            this.superclass = superclass;
+            this.interfaces = interfaces;
+            this.annotations = annotations;
+            this.inputCandidate = inputCandidate;
+        }
+    }
+
+    private enum ClassKind {
+        standardClass, interfaceClass, annotation
+    }
+
+    public static ClasspathIndex scan(List<File> classpath, @Nullable List<String> acceptedPackages, boolean verbose, File cacheDirectory) {
+        final List<String> packages = acceptedPackages != null ? acceptedPackages : Collections.emptyList();
+        final List<List<ClassEntry>> entries = new ArrayList<>();
+        int scannedCount = 0;
+        final ExecutorService executor = Executors.newFixedThreadPool(Runtime.getRuntime().availableProcessors());
+        try {
+            for (File file : classpath) {
+                final File cacheFile = new File(cacheDirectory, CacheFiles.hash(file.getAbsolutePath() + "\n" + String.join(",", packages)) + ".bin");
+                final boolean cacheable = file.isFile();
+                final List<ClassEntry> cached = cacheable ? readCacheFile(cacheFile, file, packages) : null;
+                if (cached != null) {
+                    entries.add(cached);
+                } else {
+                    final List<ClassEntry> scanned = scanClasspathEntry(file, packages, verbose, executor);
+                    scannedCount++;
+                    if (cacheable) {
+                        writeCacheFile(cacheFile, file, packages, scanned);
+                    }
+                    entries.add(scanned);
+                }
+            }
+        } finally {
+            executor.shutdown();
+        }
+        // first occurrence of class on classpath wins
+        final Map<String, ClassEntry> classes = new LinkedHashMap<>();
+        for (List<ClassEntry> list : entries) {
+            for (ClassEntry entry : list) {
+                classes.putIfAbsent(entry.name, entry);
+            }
+        }
+        TypeScriptGenerator.getLogger().verbose(String.format("Scanned %d of %d classpath entries, other entries loaded from cache", scannedCount, classpath.size()));
+        return new ClasspathIndex(classes);
+    }
+
+    private static List<ClassEntry> scanClasspathEntry(File file, List<String> packages, boolean verbose, ExecutorService executor) {
+        ClassGraph classGraph = new ClassGraph()
+            .overrideClasspath(file)
+            .enableClassInfo()
+            .enableAnnotationInfo()
+            .enableExternalClasses()
+            .ignoreClassVisibility();
+        if (!packages.isEmpty()) {
+            classGraph = classGraph.acceptPackages(packages.toArray(new String[0]));
+        }
+        if (verbose) {
+            classGraph = classGraph.verbose();
+        }
+        final List<ClassEntry> entries = new ArrayList<>();
+        try (ScanResult scanResult = classGraph.scan(executor, Runtime.getRuntime().availableProcessors())) {
+            for (ClassInfo classInfo : scanResult.getAllClasses()) {
+                if (classInfo.isExternalClass()) {
+                    continue;
+                }
+                final ClassKind kind = classInfo.isAnnotation() ? ClassKind.annotation
+                    : classInfo.isInterface() ? ClassKind.interfaceClass
+                    : ClassKind.standardClass;
+                final ClassInfo superclass = classInfo.getSuperclass();
+                entries.add(new ClassEntry(
+                    classInfo.getName(),
+                    kind,
+                    superclass != null ? superclass.getName() : null,
+                    classInfo.getInterfaces().directOnly().getNames(),
+                    classInfo.getAnnotations().directOnly().getNames(),
+                    !classInfo.isSynthetic() && !classInfo.isAnonymousInnerClass()));
+            }
+        }
+        return entries;
+    }
+
+    public List<String> getAllClassNames() {
+        return classes.values().stream()
+            .filter(entry -> entry.kind != ClassKind.annotation)
+            .map(entry -> entry.name)
+            .sorted()
+            .collect(Collectors.toList());
+    }
+
+    /**
+     * Returns <code>false</code> for synthetic and anonymous classes which should not be used as input.
+     */
+    public boolean isInputCandidate(String className) {
+        final ClassEntry entry = classes.get(className);
+        return entry == null || entry.inputCandidate;
+    }
+
+    public List<String> getSubclasses(String superclassName) {
+        return getStandardClasses(entry -> {
+            for (String superclass = entry.superclass; superclass != null; superclass = getSuperclass(superclass)) {
+                if (superclass.equals(superclassName)) {
+                    return true;
+                }
+            }
+            return false;
+        });
+    }
+
+    public List<String> getClassesImplementing(String interfaceName) {
+        final Map<String, Boolean> implementing = new HashMap<>();
+        return getStandardClasses(entry -> implementsInterface(entry.name, interfaceName, implementing));
+    }
+
+    /**
+     * Returns classes with specified annotation or meta-annotation,
+     * if annotation is <code>@Inherited</code> also subclasses of annotated classes.
+     */
+    public List<String> getClassesWithAnnotation(String annotationName) {
+        final Set<String> annotations = new HashSet<>();
+        annotations.add(annotationName);
+        boolean changed = true;
+        while (changed) {
+            changed = false;
+            for (ClassEntry entry : classes.values()) {
+                if (entry.kind == ClassKind.annotation && !annotations.contains(entry.name)
+                    && entry.annotations.stream().anyMatch(annotations::contains)) {
+                    annotations.add(entry.name);
+                    changed = true;
+                }
+            }
+        }
+        final Set<String> annotatedClasses = classes.values().stream()
+            .filter(entry -> entry.annotations.stream().anyMatch(annotations::contains))
+            .map(entry -> entry.name)
+            .collect(Collectors.toSet());
+        final ClassEntry annotation = classes.get(annotationName);
+        if (annotation != null && annotation.annotations.contains("java.lang.annotation.Inherited")) {
+            for (String annotatedClass : new ArrayList<>(annotatedClasses)) {
+                annotatedClasses.addAll(getSubclasses(annotatedClass));
+            }
+        }
+        return annotatedClasses.stream().sorted().collect(Collectors.toList());
+    }
+
+    private List<String> getStandardClasses(Function<ClassEntry, Boolean> filter) {
+        return classes.values().stream()
+            .filter(entry -> entry.kind == ClassKind.standardClass)
+            .filter(filter::apply)
+            .map(entry -> entry.name)
+            .sorted()
+            .collect(Collectors.toList());
+    }
+
+    private @Nullable String getSuperclass(String className) {
+        final ClassEntry entry = classes.get(className);
+        return entry != null ? entry.superclass : null;
+    }
+
+    private boolean implementsInterface(String className, String interfaceName, Map<String, Boolean> cache) {
+        final Boolean cached = cache.get(className);
+        if (cached != null) {
+            return cached;
+        }
+        // prevents infinite recursion on malformed hierarchies
+        cache.put(className, false);
+        final ClassEntry entry = classes.get(className);
+        boolean result = false;
+        if (entry != null) {
+            if (entry.superclass != null && implementsInterface(entry.superclass, interfaceName, cache)) {
+                result = true;
+            }
+            for (String implementedInterface : entry.interfaces) {
+                if (implementedInterface.equals(interfaceName) || implementsInterface(implementedInterface, interfaceName, cache)) {
+                    result = true;
+                }
+            }
+        }
+        cache.put(className, result);
+        return result;
+    }
+
+    private static @Nullable List<ClassEntry> readCacheFile(File cacheFile, File classpathEntry, List<String> packages) {
+        if (!cacheFile.isFile()) {
+            return null;
+        }
+        try (DataInputStream input = new DataInputStream(new BufferedInputStream(Files.newInputStream(cacheFile.toPath())))) {
+            if (input.readInt() != FormatVersion
+                || !input.readUTF().equals(classpathEntry.getAbsolutePath())
+                || !input.readUTF().equals(String.join(",", packages))
+                || input.readLong() != classpathEntry.length()
+                || input.readLong() != classpathEntry.lastModified()) {
+                return null;
+            }
+            final ClassKind[] kinds = ClassKind.values();
+            final int count = input.readInt();
+            final List<ClassEntry> entries = new ArrayList<>(count);
+            for (int i = 0; i < count; i++) {
+                final String name = input.readUTF();
+                final ClassKind kind = kinds[input.readByte()];
+                final String superclass = input.readBoolean() ? input.readUTF() : null;
+                final List<String> interfaces = readStrings(input);
+                final List<String> annotations = readStrings(input);
+                final boolean inputCandidate = input.readBoolean();
+                entries.add(new ClassEntry(name, kind, superclass, interfaces, annotations, inputCandidate));
+            }
+            return entries;
+        } catch (IOException | RuntimeException e) {
+            TypeScriptGenerator.getLogger().verbose("Cannot read classpath scan cache file " + cacheFile + ": " + e.getMessage());
+            return null;
+        }
+    }
+
+    private static void writeCacheFile(File cacheFile, File classpathEntry, List<String> packages, List<ClassEntry> entries) {
+        CacheFiles.write(cacheFile, "classpath scan", output -> {
+            output.writeInt(FormatVersion);
+            output.writeUTF(classpathEntry.getAbsolutePath());
+            output.writeUTF(String.join(",", packages));
+            output.writeLong(classpathEntry.length());
+            output.writeLong(classpathEntry.lastModified());
+            output.writeInt(entries.size());
+            for (ClassEntry entry : entries) {
+                output.writeUTF(entry.name);
+                output.writeByte(entry.kind.ordinal());
+                output.writeBoolean(entry.superclass != null);
+                if (entry.superclass != null) {
+                    output.writeUTF(entry.superclass);
+                }
+                writeStrings(output, entry.interfaces);
+                writeStrings(output, entry.annotations);
+                output.writeBoolean(entry.inputCandidate);
+            }
+        });
+    }
+
+    private static List<String> readStrings(DataInputStream input) throws IOException {
+        final int count = input.readInt();
+        final List<String> strings = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            strings.add(input.readUTF());
+        }
+        return strings;
+    }
+
+    private static void writeStrings(DataOutputStream output, List<String> strings) throws IOException {
+        output.writeInt(strings.size());
+        for (String string : strings) {
+            output.writeUTF(string);
+        }
+    }
+
+}
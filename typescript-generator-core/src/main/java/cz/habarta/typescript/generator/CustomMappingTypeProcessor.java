@@ -18,6 +18,11 @@ public class CustomMappingTypeProcessor implements TypeProcessor {
         this.customMappings = customMappings;
     }
 
+    @Override
+    public boolean isCacheable() {
+        return true;
+    }
+
     @Override
     public @Nullable Result processType(Type javaType, Context context) {
         final Class<?> rawClass = Utils.getRawClassOrNull(javaType);
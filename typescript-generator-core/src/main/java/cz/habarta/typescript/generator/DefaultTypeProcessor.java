@@ -51,6 +51,11 @@ public class DefaultTypeProcessor implements TypeProcessor {
         return classes.stream().filter(c -> c.isAssignableFrom(cls)).findFirst();
     }
 
+    @Override
+    public boolean isCacheable() {
+        return true;
+    }
+
     @Override
     public @Nullable Result processType(Type javaType, Context context) {
         if (Objects.equals(javaType, Object.class)) {
@@ -30,6 +30,11 @@ public class ExcludingTypeProcessor implements TypeProcessor {
         this.excludeFilter = excludeFilter;
     }
 
+    @Override
+    public boolean isCacheable() {
+        return true;
+    }
+
     @Override
     public @Nullable Result processType(Type javaType, Context context) {
         final Class<?> rawClass = Utils.getRawClassOrNull(javaType);
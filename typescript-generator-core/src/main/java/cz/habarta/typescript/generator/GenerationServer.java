@@ -0,0 +1,60 @@
+package cz.habarta.typescript.generator;
+
+import cz.habarta.typescript.generator.util.Utils;
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.PrintStream;
+import java.nio.charset.StandardCharsets;
+import tools.jackson.core.JacksonException;
+import tools.jackson.databind.DeserializationFeature;
+import tools.jackson.databind.ObjectMapper;
+import tools.jackson.databind.SerializationFeature;
+
+
+/**
+ * Generation server using stdin/stdout protocol.
+ * Each line of standard input contains one {@link GenerationService.Request} in JSON format,
+ * for each request one {@link GenerationService.Response} line is written to standard output.
+ * Server ends when input is closed.
+ * Log messages are written to standard error output.
+ * <p>
+ * Usage: <code>java -cp &lt;typescript-generator-core with dependencies&gt; cz.habarta.typescript.generator.GenerationServer</code>
+ */
+public class GenerationServer {
+
+    private final ObjectMapper objectMapper = Utils.getObjectMapper().rebuild()
+        .enable(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES)
+        .disable(SerializationFeature.INDENT_OUTPUT)
+        .build();
+
+    public static void main(String[] args) throws IOException {
+        final PrintStream output = System.out;
+        // stdout is used by protocol
+        System.setOut(System.err);
+        TypeScriptGenerator.printVersion();
+        new GenerationServer().run(new BufferedReader(new InputStreamReader(System.in, StandardCharsets.UTF_8)), output);
+    }
+
+    public void run(BufferedReader input, PrintStream output) throws IOException {
+        try (GenerationService service = new GenerationService()) {
+            String line;
+            while ((line = input.readLine()) != null) {
+                if (line.trim().isEmpty()) {
+                    continue;
+                }
+                GenerationService.Response response;
+                try {
+                    final GenerationService.Request request = objectMapper.readValue(line, GenerationService.Request.class);
+                    response = service.generate(request);
+                } catch (JacksonException e) {
+                    response = new GenerationService.Response();
+                    response.error = "Invalid request: " + e.getMessage();
+                }
+                output.println(objectMapper.writeValueAsString(response));
+                output.flush();
+            }
+        }
+    }
+
+}
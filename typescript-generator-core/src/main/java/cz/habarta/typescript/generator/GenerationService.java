@@ -0,0 +1,287 @@
+package cz.habarta.typescript.generator;
+
+import cz.habarta.typescript.generator.util.CacheFiles;
+import cz.habarta.typescript.generator.util.Utils;
+import java.io.File;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.net.MalformedURLException;
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.stream.Stream;
+import org.jspecify.annotations.Nullable;
+import tools.jackson.databind.DeserializationFeature;
+import tools.jackson.databind.ObjectMapper;
+
+
+/**
+ * Long-lived generation service which keeps state warm between generations:
+ * class loader and classpath scan results are reused while classpath doesn't change,
+ * scan results of jar files are also cached on disk (see {@link Input.ClasspathScanner}).
+ * Generator (loaded settings, type processors and model compiler) is reused while classpath and settings don't change.
+ * Used by {@link GenerationServer}, can also be used directly by tools running in long-lived process.
+ */
+public class GenerationService implements AutoCloseable {
+
+    private final ClassLoader parentClassLoader;
+    private final ObjectMapper objectMapper = Utils.getObjectMapper().rebuild()
+        .enable(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES)
+        .build();
+    private @Nullable Session session = null;
+
+    public GenerationService() {
+        this(GenerationService.class.getClassLoader());
+    }
+
+    public GenerationService(ClassLoader parentClassLoader) {
+        this.parentClassLoader = parentClassLoader;
+    }
+
+    /**
+     * Generation request, fields not specified here are the same as in Maven or Gradle plugin.
+     */
+    public static class Request {
+        public @Nullable String id;
+        public @Nullable List<String> classpath;
+        /**
+         * Classpath delta - files (classpath entries or files inside classpath directories) changed since previous request.
+         * Empty list means nothing changed, when <code>null</code> classpath is checked for changes
+         * using sizes and modification times of all files.
+         */
+        public @Nullable List<String> changedFiles;
+        public @Nullable String outputFile;
+        public @Nullable String scanCacheDirectory;
+        /**
+         * Values of {@link Settings} fields, classes (for example annotations) are specified by name.
+         */
+        public @Nullable Map<String, Object> settings;
+        public @Nullable Jackson2Configuration jackson2Configuration;
+        public @Nullable Jackson3Configuration jackson3Configuration;
+        public @Nullable String customTypeProcessor;
+        public @Nullable List<String> extensions;
+        public @Nullable List<Settings.ConfiguredExtension> extensionsWithConfiguration;
+        public @Nullable List<String> classes;
+        public @Nullable List<String> classPatterns;
+        public @Nullable List<String> classesWithAnnotations;
+        public @Nullable List<String> classesImplementingInterfaces;
+        public @Nullable List<String> classesExtendingClasses;
+        public @Nullable String classesFromJaxrsApplication;
+        public boolean classesFromAutomaticJaxrsApplication;
+        public @Nullable List<String> scanningAcceptedPackages;
+        public @Nullable List<String> excludeClasses;
+        public @Nullable List<String> excludeClassPatterns;
+    }
+
+    public static class Response {
+        public @Nullable String id;
+        public boolean success;
+        public @Nullable String error;
+        public boolean classpathReused;
+        public boolean generatorReused;
+        public long durationMillis;
+    }
+
+    private static class Session implements AutoCloseable {
+        public final List<File> classpath;
+        // null if unknown (session created for classpath delta)
+        public final @Nullable String fingerprint;
+        public final URLClassLoader classLoader;
+        public final @Nullable List<String> acceptedPackages;
+        public final Input.ClasspathScanner classpathScanner;
+        // generator created for settings given by key
+        public @Nullable String generatorKey = null;
+        public @Nullable Settings generatorSettings = null;
+        public @Nullable TypeScriptGenerator generator = null;
+
+        public Session(List<File> classpath, @Nullable String fingerprint, URLClassLoader classLoader, @Nullable List<String> acceptedPackages, File scanCacheDirectory) {
+            this.classpath = classpath;
+            this.fingerprint = fingerprint;
+            this.classLoader = classLoader;
+            this.acceptedPackages = acceptedPackages;
+            this.classpathScanner = new Input.ClasspathScanner(classLoader, acceptedPackages, false, scanCacheDirectory);
+        }
+
+        @Override
+        public void close() throws IOException {
+            classpathScanner.close();
+            classLoader.close();
+        }
+    }
+
+    public synchronized Response generate(Request request) {
+        final long start = System.nanoTime();
+        final Response response = new Response();
+        response.id = request.id;
+        try {
+            doGenerate(request, response);
+            response.success = true;
+        } catch (Exception | LinkageError e) {
+            // linkage errors (for example NoClassDefFoundError or ExceptionInInitializerError) are caused by user classes, service keeps running
+            TypeScriptGenerator.getLogger().error(String.valueOf(e));
+            response.error = String.valueOf(e);
+        }
+        response.durationMillis = (System.nanoTime() - start) / 1_000_000;
+        return response;
+    }
+
+    private void doGenerate(Request request, Response response) throws IOException {
+        if (request.outputFile == null) {
+            throw new RuntimeException("Required 'outputFile' is not specified.");
+        }
+        final List<File> classpath = new ArrayList<>();
+        for (String file : Utils.listFromNullable(request.classpath)) {
+            classpath.add(new File(file));
+        }
+        final Input.Parameters parameters = new Input.Parameters();
+        parameters.classNames = request.classes;
+        parameters.classNamePatterns = request.classPatterns;
+        parameters.classesWithAnnotations = request.classesWithAnnotations;
+        parameters.classesImplementingInterfaces = request.classesImplementingInterfaces;
+        parameters.classesExtendingClasses = request.classesExtendingClasses;
+        parameters.jaxrsApplicationClassName = request.classesFromJaxrsApplication;
+        parameters.automaticJaxrsApplication = request.classesFromAutomaticJaxrsApplication;
+        parameters.scanningAcceptedPackages = request.scanningAcceptedPackages;
+        final List<String> acceptedPackages = Input.getScanningAcceptedPackages(Collections.singletonList(parameters));
+        final File scanCacheDirectory = request.scanCacheDirectory != null
+            ? new File(request.scanCacheDirectory)
+            : new File(System.getProperty("java.io.tmpdir"), "typescript-generator-scan-cache");
+
+        response.classpathReused = prepareSession(classpath, request.changedFiles, acceptedPackages, scanCacheDirectory);
+        final Session session = Objects.requireNonNull(this.session);
+
+        final ClassLoader originalContextClassLoader = Thread.currentThread().getContextClassLoader();
+        try {
+            Thread.currentThread().setContextClassLoader(session.classLoader);
+            response.generatorReused = prepareGenerator(session, request);
+            final Settings settings = Objects.requireNonNull(session.generatorSettings);
+            final TypeScriptGenerator generator = Objects.requireNonNull(session.generator);
+            parameters.isClassNameExcluded = settings.getExcludeFilter();
+            parameters.classLoader = session.classLoader;
+
+            final File outputFile = new File(request.outputFile);
+            settings.validateFileName(outputFile);
+            final Input input = Input.from(parameters, session.classpathScanner);
+            generator.generateTypeScript(input, Output.toFileIfChanged(outputFile));
+        } finally {
+            Thread.currentThread().setContextClassLoader(originalContextClassLoader);
+        }
+    }
+
+    /**
+     * Reuses generator of the session when settings didn't change, otherwise loads settings and creates new generator.
+     * Returns <code>true</code> if generator was reused.
+     */
+    private boolean prepareGenerator(Session session, Request request) {
+        final String generatorKey = objectMapper.writeValueAsString(Arrays.asList(
+            request.settings,
+            request.jackson2Configuration,
+            request.jackson3Configuration,
+            request.customTypeProcessor,
+            request.extensions,
+            request.extensionsWithConfiguration,
+            request.excludeClasses,
+            request.excludeClassPatterns
+        ));
+        if (session.generator != null && generatorKey.equals(session.generatorKey)) {
+            session.generator.resetModelParser();
+            return true;
+        }
+        session.generatorKey = null;
+        session.generatorSettings = null;
+        session.generator = null;
+        final Settings settings = new Settings();
+        settings.classLoader = session.classLoader;
+        if (request.settings != null) {
+            objectMapper.updateValue(settings, request.settings);
+        }
+        settings.setJackson2Configuration(session.classLoader, request.jackson2Configuration);
+        settings.setJackson3Configuration(session.classLoader, request.jackson3Configuration);
+        settings.loadCustomTypeProcessor(session.classLoader, request.customTypeProcessor);
+        settings.loadExtensions(session.classLoader, request.extensions, request.extensionsWithConfiguration);
+        settings.setExcludeFilter(request.excludeClasses, request.excludeClassPatterns);
+        final TypeScriptGenerator generator = new TypeScriptGenerator(settings);
+        session.generatorKey = generatorKey;
+        session.generatorSettings = settings;
+        session.generator = generator;
+        return false;
+    }
+
+    /**
+     * Reuses class loader and scanner when classpath didn't change, otherwise creates new ones.
+     * Returns <code>true</code> if previous session was reused.
+     */
+    private boolean prepareSession(List<File> classpath, @Nullable List<String> changedFiles, @Nullable List<String> acceptedPackages, File scanCacheDirectory) throws IOException {
+        final Session current = session;
+        final boolean sameClasspath = current != null
+            && current.classpath.equals(classpath)
+            && Objects.equals(current.acceptedPackages, acceptedPackages);
+        final @Nullable String fingerprint;
+        if (current != null && sameClasspath && changedFiles != null) {
+            if (changedFiles.isEmpty()) {
+                return true;
+            }
+            // changed files are known but their new sizes and modification times are not, fingerprint is computed by next request without delta
+            fingerprint = null;
+        } else {
+            fingerprint = computeFingerprint(classpath);
+            if (current != null && sameClasspath && fingerprint.equals(current.fingerprint)) {
+                return true;
+            }
+        }
+        if (current != null) {
+            current.close();
+            session = null;
+        }
+        final URL[] urls = new URL[classpath.size()];
+        for (int i = 0; i < classpath.size(); i++) {
+            try {
+                urls[i] = classpath.get(i).toURI().toURL();
+            } catch (MalformedURLException e) {
+                throw new RuntimeException(e);
+            }
+        }
+        final URLClassLoader classLoader = Settings.createClassLoader("generation-service", urls, parentClassLoader);
+        session = new Session(classpath, fingerprint, classLoader, acceptedPackages, scanCacheDirectory);
+        return false;
+    }
+
+    private static String computeFingerprint(List<File> classpath) throws IOException {
+        final StringBuilder sb = new StringBuilder();
+        for (File file : classpath) {
+            final Path root = file.toPath();
+            if (Files.isDirectory(root)) {
+                try (Stream<Path> paths = Files.walk(root)) {
+                    paths.filter(Files::isRegularFile).sorted().forEach(path -> appendFile(sb, path));
+                }
+            } else if (Files.isRegularFile(root)) {
+                appendFile(sb, root);
+            }
+        }
+        return CacheFiles.hash(sb.toString());
+    }
+
+    private static void appendFile(StringBuilder sb, Path path) {
+        try {
+            sb.append(path).append(':').append(Files.size(path)).append(':').append(Files.getLastModifiedTime(path).toMillis()).append('\n');
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    @Override
+    public synchronized void close() throws IOException {
+        if (session != null) {
+            session.close();
+            session = null;
+        }
+    }
+
+}
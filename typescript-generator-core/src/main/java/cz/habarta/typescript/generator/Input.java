@@ -4,15 +4,18 @@ package cz.habarta.typescript.generator;
 import cz.habarta.typescript.generator.parser.SourceType;
 import cz.habarta.typescript.generator.util.Utils;
 import io.github.classgraph.ClassGraph;
+import io.github.classgraph.ClassInfo;
 import io.github.classgraph.ScanResult;
+import java.io.File;
 import java.lang.reflect.Type;
 import java.net.URLClassLoader;
 import java.util.ArrayList;
-import java.util.Arrays;
 import java.util.Collections;
 import java.util.Date;
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Objects;
+import java.util.Set;
 import java.util.function.Predicate;
 import java.util.regex.Pattern;
 import java.util.stream.Collectors;
@@ -51,91 +54,224 @@ public class Input {
         public @Nullable Predicate<String> isClassNameExcluded;
         public @Nullable URLClassLoader classLoader;
         public @Nullable List<String> scanningAcceptedPackages;
+        public @Nullable File scanCacheDirectory;
         public boolean debug;
     }
 
     public static Input from(Parameters parameters) {
+        final List<String> acceptedPackages = getScanningAcceptedPackages(Collections.singletonList(parameters));
+        try (final ClasspathScanner classpathScanner = new ClasspathScanner(parameters.classLoader, acceptedPackages, parameters.debug, parameters.scanCacheDirectory)) {
+            return from(parameters, classpathScanner);
+        }
+    }
+
+    /**
+     * Returns packages which need to be scanned to find input classes for all specified parameters
+     * or <code>null</code> if whole classpath needs to be scanned.
+     * If <code>scanningAcceptedPackages</code> is not configured packages are derived from literal prefixes
+     * of <code>classNamePatterns</code> (package part before first wildcard).
+     * Packages cannot be derived when classes are searched by annotation, interface, superclass
+     * or as automatic JAX-RS application (these classes can be in any package).
+     */
+    public static @Nullable List<String> getScanningAcceptedPackages(List<Parameters> parametersList) {
+        final Set<String> packages = new LinkedHashSet<>();
+        boolean derived = false;
+        for (Parameters parameters : parametersList) {
+            if (parameters.scanningAcceptedPackages != null && !parameters.scanningAcceptedPackages.isEmpty()) {
+                packages.addAll(parameters.scanningAcceptedPackages);
+                continue;
+            }
+            if (parameters.classesWithAnnotations != null
+                || parameters.classesImplementingInterfaces != null
+                || parameters.classesExtendingClasses != null
+                || parameters.automaticJaxrsApplication) {
+                return null;
+            }
+            if (parameters.classNamePatterns != null) {
+                for (String pattern : parameters.classNamePatterns) {
+                    final String packageName = getPatternPackage(pattern);
+                    if (packageName == null) {
+                        return null;
+                    }
+                    packages.add(packageName);
+                    derived = true;
+                }
+            }
+        }
+        if (packages.isEmpty()) {
+            return null;
+        }
+        if (derived) {
+            TypeScriptGenerator.getLogger().info("Scanning only packages derived from class patterns: " + packages);
+        }
+        return new ArrayList<>(packages);
+    }
+
+    private static @Nullable String getPatternPackage(String classNamePattern) {
+        final int wildcardIndex = classNamePattern.indexOf('*');
+        final String prefix = wildcardIndex != -1 ? classNamePattern.substring(0, wildcardIndex) : classNamePattern;
+        final int dotIndex = prefix.lastIndexOf('.');
+        return dotIndex > 0 ? prefix.substring(0, dotIndex) : null;
+    }
+
+    /**
+     * Same as {@link #from(Parameters)} but uses provided scanner so that one classpath scan can be shared by multiple inputs.
+     * Scanner settings (class loader, accepted packages) take precedence over the ones in parameters.
+     */
+    public static Input from(Parameters parameters, ClasspathScanner classpathScanner) {
         final ClassLoader originalContextClassLoader = Thread.currentThread().getContextClassLoader();
         try {
             if (parameters.classLoader != null) {
                 Thread.currentThread().setContextClassLoader(parameters.classLoader);
             }
-            try (final ClasspathScanner classpathScanner = new ClasspathScanner(parameters.classLoader, parameters.scanningAcceptedPackages, parameters.debug)) {
-                final List<SourceType<Type>> types = new ArrayList<>();
-                if (parameters.classNames != null) {
-                    types.addAll(fromClassNames(parameters.classNames));
-                }
-                if (parameters.classNamePatterns != null) {
-                    types.addAll(fromClassNamePatterns(classpathScanner.getScanResult(), parameters.classNamePatterns));
-                }
-                if (parameters.classesImplementingInterfaces != null) {
-                    final ScanResult scanResult = classpathScanner.getScanResult();
-                    final List<SourceType<Type>> c = fromClassNames(parameters.classesImplementingInterfaces.stream()
-                        .flatMap(interf -> scanResult.getClassesImplementing(interf).getNames().stream())
-                        .distinct()
-                        .collect(Collectors.toList())
-                    );
-                    types.addAll(c);
-                }
-                if (parameters.classesExtendingClasses != null) {
-                    final ScanResult scanResult = classpathScanner.getScanResult();
-                    final List<SourceType<Type>> c = fromClassNames(parameters.classesExtendingClasses.stream()
-                        .flatMap(superclass -> scanResult.getSubclasses(superclass).getNames().stream())
-                        .distinct()
-                        .collect(Collectors.toList())
-                    );
-                    types.addAll(c);
-                }
-                if (parameters.classesWithAnnotations != null) {
-                    final ScanResult scanResult = classpathScanner.getScanResult();
-                    types.addAll(fromClassNames(parameters.classesWithAnnotations.stream()
-                        .flatMap(annotation -> scanResult.getClassesWithAnnotation(annotation).getNames().stream())
-                        .distinct()
-                        .collect(Collectors.toList())
-                    ));
+            // class names from all sources are deduplicated and scanned classes are filtered before loading
+            final Set<String> classNames = new LinkedHashSet<>();
+            final Set<String> scannedClassNames = new LinkedHashSet<>();
+            if (parameters.classNames != null) {
+                classNames.addAll(parameters.classNames);
+            }
+            if (parameters.classNamePatterns != null) {
+                scannedClassNames.addAll(fromClassNamePatterns(classpathScanner, parameters.classNamePatterns));
+            }
+            if (parameters.classesImplementingInterfaces != null) {
+                for (String interfaceName : parameters.classesImplementingInterfaces) {
+                    scannedClassNames.addAll(classpathScanner.getClassesImplementing(interfaceName));
                 }
-                if (parameters.jaxrsApplicationClassName != null) {
-                    types.addAll(fromClassNames(Arrays.asList(parameters.jaxrsApplicationClassName)));
+            }
+            if (parameters.classesExtendingClasses != null) {
+                for (String superclassName : parameters.classesExtendingClasses) {
+                    scannedClassNames.addAll(classpathScanner.getSubclasses(superclassName));
                 }
-                if (parameters.automaticJaxrsApplication) {
-                    types.addAll(JaxrsApplicationScanner.scanAutomaticJaxrsApplication(classpathScanner.getScanResult(), parameters.isClassNameExcluded));
+            }
+            if (parameters.classesWithAnnotations != null) {
+                for (String annotationName : parameters.classesWithAnnotations) {
+                    scannedClassNames.addAll(classpathScanner.getClassesWithAnnotation(annotationName));
                 }
-                if (types.isEmpty()) {
-                    final String errorMessage = "No input classes found.";
-                    TypeScriptGenerator.getLogger().error(errorMessage);
-                    throw new RuntimeException(errorMessage);
+            }
+            final Predicate<String> isClassNameExcluded = parameters.isClassNameExcluded;
+            if (isClassNameExcluded != null) {
+                final int scannedCount = scannedClassNames.size();
+                scannedClassNames.removeIf(isClassNameExcluded);
+                if (scannedClassNames.size() < scannedCount) {
+                    TypeScriptGenerator.getLogger().verbose(String.format("Skipped %d excluded classes found by classpath scanning.", scannedCount - scannedClassNames.size()));
                 }
-                return new Input(types);
             }
+            classNames.addAll(scannedClassNames);
+            if (parameters.jaxrsApplicationClassName != null) {
+                classNames.add(parameters.jaxrsApplicationClassName);
+            }
+            final List<SourceType<Type>> types = new ArrayList<>(fromClassNames(new ArrayList<>(classNames)));
+            if (parameters.automaticJaxrsApplication) {
+                types.addAll(JaxrsApplicationScanner.scanAutomaticJaxrsApplication(classpathScanner, parameters.isClassNameExcluded));
+            }
+            if (types.isEmpty()) {
+                final String errorMessage = "No input classes found.";
+                TypeScriptGenerator.getLogger().error(errorMessage);
+                throw new RuntimeException(errorMessage);
+            }
+            return new Input(types);
         } finally {
             Thread.currentThread().setContextClassLoader(originalContextClassLoader);
         }
     }
 
-    private static class ClasspathScanner implements AutoCloseable {
+    /**
+     * Lazily scans classpath when first needed, scan result is released when scanner is closed.
+     * When cache directory is specified classpath is scanned using {@link ClasspathIndex}
+     * which scans only jar files changed since previous scan.
+     */
+    public static class ClasspathScanner implements AutoCloseable {
 
         private final @Nullable URLClassLoader classLoader;
         private final @Nullable List<String> acceptedPackages;
         private final boolean verbose;
+        private final @Nullable File cacheDirectory;
         private @Nullable ScanResult scanResult = null;
+        private @Nullable ClasspathIndex classpathIndex = null;
 
         public ClasspathScanner(@Nullable URLClassLoader classLoader, @Nullable List<String> acceptedPackages, boolean verbose) {
+            this(classLoader, acceptedPackages, verbose, null);
+        }
+
+        public ClasspathScanner(@Nullable URLClassLoader classLoader, @Nullable List<String> acceptedPackages, boolean verbose, @Nullable File cacheDirectory) {
             this.classLoader = classLoader;
             this.acceptedPackages = acceptedPackages;
             this.verbose = verbose;
+            this.cacheDirectory = cacheDirectory;
+        }
+
+        /**
+         * Returns names of all classes and interfaces (not annotations).
+         * This and other query methods skip synthetic and anonymous classes (they cannot be used as input)
+         * so that these classes don't need to be loaded.
+         */
+        public List<String> getAllClassNames() {
+            if (cacheDirectory != null) {
+                return inputCandidates(getClasspathIndex(cacheDirectory).getAllClassNames());
+            }
+            final ScanResult scanResult = getScanResult();
+            final List<String> allClassNames = new ArrayList<>();
+            allClassNames.addAll(scanResult.getAllStandardClasses().getNames());
+            allClassNames.addAll(scanResult.getAllInterfaces().getNames());
+            Collections.sort(allClassNames);
+            return inputCandidates(allClassNames);
+        }
+
+        public List<String> getClassesImplementing(String interfaceName) {
+            return inputCandidates(cacheDirectory != null
+                ? getClasspathIndex(cacheDirectory).getClassesImplementing(interfaceName)
+                : getScanResult().getClassesImplementing(interfaceName).getNames());
+        }
+
+        public List<String> getSubclasses(String superclassName) {
+            return inputCandidates(cacheDirectory != null
+                ? getClasspathIndex(cacheDirectory).getSubclasses(superclassName)
+                : getScanResult().getSubclasses(superclassName).getNames());
+        }
+
+        public List<String> getClassesWithAnnotation(String annotationName) {
+            return inputCandidates(cacheDirectory != null
+                ? getClasspathIndex(cacheDirectory).getClassesWithAnnotation(annotationName)
+                : getScanResult().getClassesWithAnnotation(annotationName).getNames());
+        }
+
+        private List<String> inputCandidates(List<String> classNames) {
+            if (cacheDirectory != null) {
+                final ClasspathIndex index = getClasspathIndex(cacheDirectory);
+                return classNames.stream().filter(index::isInputCandidate).collect(Collectors.toList());
+            }
+            final ScanResult scanResult = getScanResult();
+            return classNames.stream()
+                .filter(className -> {
+                    final ClassInfo classInfo = scanResult.getClassInfo(className);
+                    return classInfo == null || !classInfo.isSynthetic() && !classInfo.isAnonymousInnerClass();
+                })
+                .collect(Collectors.toList());
+        }
+
+        private ClasspathIndex getClasspathIndex(File cacheDirectory) {
+            if (classpathIndex == null) {
+                TypeScriptGenerator.getLogger().info("Scanning classpath (using cache in " + cacheDirectory + ")");
+                final Date scanStart = new Date();
+                final List<File> classpath = createClassGraph().getClasspathFiles();
+                final ClasspathIndex index = ClasspathIndex.scan(classpath, acceptedPackages, verbose, cacheDirectory);
+                final int count = index.getAllClassNames().size();
+                final Date scanEnd = new Date();
+                final double timeInSeconds = (scanEnd.getTime() - scanStart.getTime()) / 1000.0;
+                TypeScriptGenerator.getLogger().info(String.format("Scanning finished in %.2f seconds. Total number of classes: %d.", timeInSeconds, count));
+                classpathIndex = index;
+            }
+            return classpathIndex;
         }
 
         public ScanResult getScanResult() {
             if (scanResult == null) {
                 TypeScriptGenerator.getLogger().info("Scanning classpath");
                 final Date scanStart = new Date();
-                ClassGraph classGraph = new ClassGraph()
+                ClassGraph classGraph = createClassGraph()
                     .enableClassInfo()
                     .enableAnnotationInfo()
                     .ignoreClassVisibility();
-                if (classLoader != null) {
-                    classGraph = classGraph.overrideClasspath((Object[]) classLoader.getURLs());
-                }
                 if (acceptedPackages != null && !acceptedPackages.isEmpty()) {
                     classGraph = classGraph.acceptPackages(acceptedPackages.toArray(new String[0]));
                 }
@@ -147,11 +283,21 @@ public class Input {
                 final Date scanEnd = new Date();
                 final double timeInSeconds = (scanEnd.getTime() - scanStart.getTime()) / 1000.0;
                 TypeScriptGenerator.getLogger().info(String.format("Scanning finished in %.2f seconds. Total number of classes: %d.", timeInSeconds, count));
+                if (acceptedPackages != null && !acceptedPackages.isEmpty()) {
+                    final long elementCount = result.getAllClasses().stream().map(ClassInfo::getClasspathElementFile).distinct().count();
+                    TypeScriptGenerator.getLogger().info(String.format("Classes of scanned packages found in %d of %d classpath entries, other entries were skipped.",
+                        elementCount, result.getClasspathFiles().size()));
+                }
                 scanResult = result;
             }
             return scanResult;
         }
 
+        private ClassGraph createClassGraph() {
+            final ClassGraph classGraph = new ClassGraph();
+            return classLoader != null ? classGraph.overrideClasspath((Object[]) classLoader.getURLs()) : classGraph;
+        }
+
         @Override
         public void close() {
             if (scanResult != null) {
@@ -161,14 +307,10 @@ public class Input {
 
     }
 
-    private static List<SourceType<Type>> fromClassNamePatterns(ScanResult scanResult, List<String> classNamePatterns) {
-        final List<String> allClassNames = new ArrayList<>();
-        allClassNames.addAll(scanResult.getAllStandardClasses().getNames());
-        allClassNames.addAll(scanResult.getAllInterfaces().getNames());
-        Collections.sort(allClassNames);
-        final List<String> classNames = filterClassNames(allClassNames, classNamePatterns);
+    private static List<String> fromClassNamePatterns(ClasspathScanner classpathScanner, List<String> classNamePatterns) {
+        final List<String> classNames = filterClassNames(classpathScanner.getAllClassNames(), classNamePatterns);
         TypeScriptGenerator.getLogger().info(String.format("Found %d classes matching pattern.", classNames.size()));
-        return fromClassNames(classNames);
+        return classNames;
     }
 
     private static List<SourceType<Type>> fromClassNames(List<String> classNames) {
@@ -83,4 +83,14 @@ public class Jackson2Configuration {
      */
     public @Nullable String view;
 
+    /**
+     * Collects bean properties using Jackson bean introspection (<code>BeanDescription</code>)
+     * instead of constructing complete serializers and deserializers for each class.
+     * This is faster for large models.
+     * Classes which are not plain beans (for example classes with custom serializer, <code>@JsonValue</code>,
+     * builder or non-object shape) are still processed using serializers and deserializers.
+     * Default value is <code>false</code>.
+     */
+    public boolean lightweightBeanIntrospection;
+
 }
@@ -27,6 +27,7 @@ public class Jackson2ConfigurationResolved {
     @SuppressWarnings("rawtypes")
     public @Nullable Map<Class<? extends JsonDeserializer>, String> deserializerTypeMappings;
     public @Nullable Class<?> view;
+    public boolean lightweightBeanIntrospection;
 
     public static Jackson2ConfigurationResolved from(Jackson2Configuration configuration, ClassLoader classLoader) {
         final Jackson2ConfigurationResolved resolved = new Jackson2ConfigurationResolved();
@@ -45,6 +46,7 @@ public class Jackson2ConfigurationResolved {
         resolved.serializerTypeMappings = resolveClassMappings(
             configuration.serializerTypeMappings, "serializerTypeMapping", classLoader, JsonSerializer.class, Function.identity());
         resolved.view = configuration.view != null ? Settings.loadClass(classLoader, configuration.view, Object.class) : null;
+        resolved.lightweightBeanIntrospection = configuration.lightweightBeanIntrospection;
         return resolved;
     }
 
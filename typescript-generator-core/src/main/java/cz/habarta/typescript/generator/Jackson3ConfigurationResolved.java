@@ -27,6 +27,7 @@ public class Jackson3ConfigurationResolved {
     @SuppressWarnings("rawtypes")
     public @Nullable Map<Class<? extends ValueDeserializer>, String> deserializerTypeMappings;
     public @Nullable Class<?> view;
+    public boolean lightweightBeanIntrospection;
 
     public static Jackson3ConfigurationResolved from(Jackson3Configuration configuration, ClassLoader classLoader) {
         final Jackson3ConfigurationResolved resolved = new Jackson3ConfigurationResolved();
@@ -45,6 +46,7 @@ public class Jackson3ConfigurationResolved {
         resolved.serializerTypeMappings = resolveClassMappings(
             configuration.serializerTypeMappings, "serializerTypeMapping", classLoader, ValueSerializer.class, Function.identity());
         resolved.view = configuration.view != null ? Settings.loadClass(classLoader, configuration.view, Object.class) : null;
+        resolved.lightweightBeanIntrospection = configuration.lightweightBeanIntrospection;
         return resolved;
     }
 
@@ -46,7 +46,14 @@ public class JaxrsApplicationScanner {
     }
 
     public static List<SourceType<Type>> scanAutomaticJaxrsApplication(ScanResult scanResult, @Nullable Predicate<String> isClassNameExcluded) {
-        final List<String> namesOfResourceClasses = scanResult.getClassesWithAnnotation(Path.class.getName()).getNames();
+        return scanAutomaticJaxrsApplication(scanResult.getClassesWithAnnotation(Path.class.getName()).getNames(), isClassNameExcluded);
+    }
+
+    public static List<SourceType<Type>> scanAutomaticJaxrsApplication(Input.ClasspathScanner classpathScanner, @Nullable Predicate<String> isClassNameExcluded) {
+        return scanAutomaticJaxrsApplication(classpathScanner.getClassesWithAnnotation(Path.class.getName()), isClassNameExcluded);
+    }
+
+    private static List<SourceType<Type>> scanAutomaticJaxrsApplication(List<String> namesOfResourceClasses, @Nullable Predicate<String> isClassNameExcluded) {
         final List<Class<?>> resourceClasses = Input.loadClasses(namesOfResourceClasses);
         TypeScriptGenerator.getLogger().info(String.format("Found %d root resources.", resourceClasses.size()));
         return new JaxrsApplicationScanner().scanJaxrsApplication(null, resourceClasses, isClassNameExcluded);
@@ -1,13 +1,21 @@
 
 package cz.habarta.typescript.generator;
 
+import java.io.BufferedWriter;
 import java.io.File;
-import java.io.FileNotFoundException;
 import java.io.FileOutputStream;
+import java.io.IOException;
 import java.io.OutputStream;
 import java.io.OutputStreamWriter;
+import java.io.StringWriter;
 import java.io.Writer;
 import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.regex.Pattern;
 import org.jspecify.annotations.Nullable;
 
 
@@ -16,11 +24,17 @@ public class Output {
     private final Writer writer;
     private final @Nullable String name;
     private final boolean closeWriter;
+    private final boolean writeOnlyIfChanged;
 
     private Output(Writer writer, @Nullable String name, boolean closeWriter) {
+        this(writer, name, closeWriter, false);
+    }
+
+    private Output(Writer writer, @Nullable String name, boolean closeWriter, boolean writeOnlyIfChanged) {
         this.writer = writer;
         this.name = name;
         this.closeWriter = closeWriter;
+        this.writeOnlyIfChanged = writeOnlyIfChanged;
     }
 
     public Writer getWriter() {
@@ -35,21 +49,127 @@ public class Output {
         return closeWriter;
     }
 
+    public boolean isWriteOnlyIfChanged() {
+        return writeOnlyIfChanged;
+    }
+
+    public static final int DefaultBufferSize = 64 * 1024;
+
     public static Output to(File file) {
-        try {
-            file.getParentFile().mkdirs();
-            return new Output(new OutputStreamWriter(new FileOutputStream(file), Charset.forName("UTF-8")), file.toString(), true);
-        } catch (FileNotFoundException e) {
-            throw new RuntimeException(e);
-        }
+        return to(file, DefaultBufferSize);
+    }
+
+    /**
+     * File is opened (and truncated) when the first content is written, not when output is created,
+     * so previous content can still be read (for example by {@link cz.habarta.typescript.generator.emitter.MultiFileEmitter}).
+     */
+    public static Output to(File file, int bufferSize) {
+        return new Output(new BufferedWriter(new LazyFileWriter(file), bufferSize), file.toString(), true);
+    }
+
+    /**
+     * Output is rendered to memory and the file is (atomically) replaced only when its content changed,
+     * so file modification time is preserved and file watchers are not triggered needlessly.
+     * Timestamp in file comment is ignored when comparing content.
+     */
+    public static Output toFileIfChanged(File file) {
+        return new Output(new WriteIfChangedWriter(file), file.toString(), true, true);
     }
 
+    /**
+     * Output is buffered, it is flushed after writing but the stream is not closed.
+     */
     public static Output to(OutputStream outputStream) {
-        return new Output(new OutputStreamWriter(outputStream, Charset.forName("UTF-8")), null, false);
+        return new Output(new BufferedWriter(new OutputStreamWriter(outputStream, Charset.forName("UTF-8")), DefaultBufferSize), null, false);
     }
 
     public static Output to(Writer writer) {
         return new Output(writer, null, false);
     }
 
+    private static class LazyFileWriter extends Writer {
+
+        private final File file;
+        private @Nullable Writer writer;
+
+        public LazyFileWriter(File file) {
+            this.file = file;
+        }
+
+        private Writer getWriter() throws IOException {
+            if (writer == null) {
+                file.getAbsoluteFile().getParentFile().mkdirs();
+                writer = new OutputStreamWriter(new FileOutputStream(file), StandardCharsets.UTF_8);
+            }
+            return writer;
+        }
+
+        @Override
+        public void write(char[] cbuf, int off, int len) throws IOException {
+            getWriter().write(cbuf, off, len);
+        }
+
+        @Override
+        public void flush() throws IOException {
+            getWriter().flush();
+        }
+
+        @Override
+        public void close() throws IOException {
+            // creates file even if nothing was written
+            getWriter().close();
+        }
+
+    }
+
+    private static class WriteIfChangedWriter extends StringWriter {
+
+        // see Emitter.emitFileComment()
+        private static final Pattern FileCommentTimestamp = Pattern.compile(
+            "^(// Generated using typescript-generator version .*) on \\d{4}-\\d{2}-\\d{2} \\d{2}:\\d{2}:\\d{2}\\.$", Pattern.MULTILINE);
+
+        private final File file;
+        private boolean closed = false;
+
+        public WriteIfChangedWriter(File file) {
+            super(DefaultBufferSize);
+            this.file = file;
+        }
+
+        @Override
+        public void close() throws IOException {
+            if (closed) {
+                return;
+            }
+            closed = true;
+            final String content = toString();
+            final Path path = file.toPath();
+            if (Files.isRegularFile(path)) {
+                final String existingContent = new String(Files.readAllBytes(path), StandardCharsets.UTF_8);
+                if (withoutTimestamp(content).equals(withoutTimestamp(existingContent))) {
+                    TypeScriptGenerator.getLogger().info("Content of file is unchanged: " + file);
+                    return;
+                }
+            }
+            file.getAbsoluteFile().getParentFile().mkdirs();
+            final Path directory = path.toAbsolutePath().getParent();
+            final Path tempFile = Files.createTempFile(directory, "." + path.getFileName() + "-", ".tmp");
+            try {
+                Files.write(tempFile, content.getBytes(StandardCharsets.UTF_8));
+                try {
+                    Files.move(tempFile, path, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+                } catch (AtomicMoveNotSupportedException e) {
+                    Files.move(tempFile, path, StandardCopyOption.REPLACE_EXISTING);
+                }
+            } finally {
+                Files.deleteIfExists(tempFile);
+            }
+        }
+
+        private static String withoutTimestamp(String content) {
+            return FileCommentTimestamp.matcher(content).replaceFirst("$1");
+        }
+
+    }
+
 }
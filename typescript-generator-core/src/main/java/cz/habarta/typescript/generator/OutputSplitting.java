@@ -0,0 +1,7 @@
+package cz.habarta.typescript.generator;
+
+public enum OutputSplitting {
+
+    byPackage, restAndData
+
+}
@@ -56,6 +56,7 @@ public class Settings {
     public @Nullable String namespace = null;
     public boolean mapPackagesToNamespaces = false;
     public @Nullable String umdNamespace = null;
+    public @Nullable OutputSplitting outputSplitting = null;
     public @Nullable List<ModuleDependency> moduleDependencies = new ArrayList<>();
     private @Nullable LoadedModuleDependencies loadedModuleDependencies = null;
     public @Nullable JsonLibrary jsonLibrary = null;
@@ -78,6 +79,7 @@ public class Settings {
     public Map<String, String> customTypeNaming = new LinkedHashMap<>();
     public @Nullable String customTypeNamingFunction = null;
     public @Nullable CustomTypeNamingFunction customTypeNamingFunctionImpl = null;
+    public Map<String, String> customTypeNamingRegexps = new LinkedHashMap<>();
     public @Nullable List<String> referencedFiles = new ArrayList<>();
     public @Nullable List<String> importDeclarations = new ArrayList<>();
     public Map<String, String> customTypeMappings = new LinkedHashMap<>();
@@ -118,6 +120,7 @@ public class Settings {
     public boolean noEslintDisable = false;
     public boolean tsNoCheck = false;
     public @Nullable List<File> javadocXmlFiles = null;
+    public @Nullable File javadocCacheDirectory = null;
     public List<EmitterExtension> extensions = new ArrayList<>();
     public List<Class<? extends Annotation>> includePropertyAnnotations = new ArrayList<>();
     public List<Class<? extends Annotation>> excludePropertyAnnotations = new ArrayList<>();
@@ -139,6 +142,7 @@ public class Settings {
     public List<Class<? extends Module>> jackson2Modules = new ArrayList<>();
     public boolean jackson3ModuleDiscovery = false;
     public List<Class<? extends JacksonModule>> jackson3Modules = new ArrayList<>();
+    public boolean parallelParsing = false;
     public ClassLoader classLoader = Thread.currentThread().getContextClassLoader();
 
     private boolean defaultStringEnumsOverriddenByExtension = false;
@@ -305,6 +309,23 @@ public class Settings {
         return result;
     }
 
+    /**
+     * Converts items in <code>regexp:replacement</code> format, regexp is separated by last colon because it can contain colons.
+     */
+    public static Map<String, String> convertToRegexpMap(@Nullable List<String> items, String itemName) {
+        final Map<String, String> result = new LinkedHashMap<>();
+        if (items != null) {
+            for (String item : items) {
+                final int index = item.lastIndexOf(':');
+                if (index == -1) {
+                    throw new RuntimeException(String.format("Invalid '%s' format: %s", itemName, item));
+                }
+                result.put(item.substring(0, index).trim(), item.substring(index + 1).trim());
+            }
+        }
+        return result;
+    }
+
     public void validate() {
         if (classLoader == null) {
             classLoader = Thread.currentThread().getContextClassLoader();
@@ -330,6 +351,17 @@ public class Settings {
         if (umdNamespace != null && !ModelCompiler.isValidIdentifierName(umdNamespace)) {
             throw new RuntimeException("Value of 'umdNamespace' parameter is not valid identifier: " + umdNamespace + ". " + seeLink());
         }
+        if (outputSplitting != null && outputKind != TypeScriptOutputKind.module) {
+            throw new RuntimeException("'outputSplitting' parameter is only applicable to modules. " + seeLink());
+        }
+        if (outputSplitting == OutputSplitting.byPackage && outputFileType == TypeScriptFileType.implementationFile) {
+            throw new RuntimeException("'outputSplitting' parameter with 'byPackage' value cannot be used for implementation files "
+                + "(package files can import each other and such import cycles can fail at runtime), use 'restAndData' value instead. " + seeLink());
+        }
+        if (outputSplitting != null && (namespace != null || mapPackagesToNamespaces)) {
+            throw new RuntimeException("'outputSplitting' parameter cannot be used together with 'namespace' or 'mapPackagesToNamespaces' parameters "
+                + "(each file is a module with its own scope). " + seeLink());
+        }
         if (jsonLibrary == null) {
             throw new RuntimeException("Required 'jsonLibrary' parameter is not configured.");
         }
@@ -489,14 +521,14 @@ public class Settings {
         return nullabilityDefinition != null ? nullabilityDefinition : NullabilityDefinition.nullInlineUnion;
     }
 
-    public TypeParser getTypeParser() {
+    public synchronized TypeParser getTypeParser() {
         if (typeParser == null) {
             typeParser = new TypeParser(nullableAnnotations);
         }
         return typeParser;
     }
 
-    public List<CustomTypeMapping> getValidatedCustomTypeMappings() {
+    public synchronized List<CustomTypeMapping> getValidatedCustomTypeMappings() {
         if (validatedCustomTypeMappings == null) {
             validatedCustomTypeMappings = Utils.concatToNonNull(
                 validateCustomTypeMappings(customTypeMappings, false),
@@ -535,7 +567,7 @@ public class Settings {
         return mappings;
     }
 
-    public List<CustomTypeAlias> getValidatedCustomTypeAliases() {
+    public synchronized List<CustomTypeAlias> getValidatedCustomTypeAliases() {
         if (validatedCustomTypeAliases == null) {
             validatedCustomTypeAliases = Utils.concatToNonNull(
                 validateCustomTypeAliases(customTypeAliases),
@@ -613,14 +645,14 @@ public class Settings {
         return "1.0.0";
     }
 
-    public LoadedModuleDependencies getModuleDependencies() {
+    public synchronized LoadedModuleDependencies getModuleDependencies() {
         if (loadedModuleDependencies == null) {
             loadedModuleDependencies = new LoadedModuleDependencies(this, moduleDependencies);
         }
         return loadedModuleDependencies;
     }
 
-    public LoadedDataLibraries getLoadedDataLibraries() {
+    public synchronized LoadedDataLibraries getLoadedDataLibraries() {
         if (loadedDataLibrariesClasses == null) {
             loadedDataLibrariesClasses = loadDataLibrariesClasses();
         }
@@ -678,7 +710,7 @@ public class Settings {
         return loadClasses(classLoader, classNames, null);
     }
 
-    public Predicate<String> getExcludeFilter() {
+    public synchronized Predicate<String> getExcludeFilter() {
         if (excludeFilter == null) {
             excludeFilter = createExcludeFilter(null, null);
         }
@@ -701,7 +733,7 @@ public class Settings {
         };
     }
 
-    public Predicate<String> getMapClassesAsClassesFilter() {
+    public synchronized Predicate<String> getMapClassesAsClassesFilter() {
         if (mapClassesAsClassesFilter == null) {
             final List<Pattern> patterns = Utils.globsToRegexpsNullable(mapClassesAsClassesPatterns);
             mapClassesAsClassesFilter = new Predicate<String>() {
@@ -9,6 +9,7 @@ import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Objects;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
 import org.jspecify.annotations.Nullable;
@@ -31,16 +32,57 @@ public abstract class TsType implements Emittable {
     public static final TsType Never = new BasicType("never");
     public static final TsType Unknown = new BasicType("unknown");
 
+    private int hashCode; // cached hash code of types with stable hash code, 0 means not computed yet
+
     @Override
     public boolean equals(Object rhs) {
-        return rhs != null && this.getClass() == rhs.getClass() && this.toString().equals(rhs.toString());
+        if (this == rhs) {
+            return true;
+        }
+        return rhs != null && this.getClass() == rhs.getClass() && this.equalsSameClass((TsType) rhs);
     }
 
     @Override
     public int hashCode() {
+        int hash = hashCode;
+        if (hash == 0) {
+            hash = 31 * getClass().hashCode() + computeHashCode();
+            if (hasStableHashCode()) {
+                hashCode = hash;
+            }
+        }
+        return hash;
+    }
+
+    /**
+     * Compares this type with other type of the same class.
+     * Subclasses should override this method together with {@link #computeHashCode()}.
+     */
+    protected boolean equalsSameClass(TsType that) {
+        return this.toString().equals(that.toString());
+    }
+
+    protected int computeHashCode() {
         return this.toString().hashCode();
     }
 
+    /**
+     * Returns <code>true</code> if hash code of this type cannot change so it can be cached.
+     * This is not the case for types which reference {@link Symbol}s because symbol names are resolved later.
+     */
+    protected boolean hasStableHashCode() {
+        return false;
+    }
+
+    private static boolean haveStableHashCodes(List<? extends TsType> types) {
+        for (TsType type : types) {
+            if (!type.hasStableHashCode()) {
+                return false;
+            }
+        }
+        return true;
+    }
+
     public TsType.OptionalType optional() {
         return new TsType.OptionalType(this);
     }
@@ -65,6 +107,21 @@ public abstract class TsType implements Emittable {
         public String format(Settings settings) {
             return name;
         }
+
+        @Override
+        protected boolean equalsSameClass(TsType that) {
+            return name.equals(((BasicType) that).name);
+        }
+
+        @Override
+        protected int computeHashCode() {
+            return name.hashCode();
+        }
+
+        @Override
+        protected boolean hasStableHashCode() {
+            return true;
+        }
     }
 
     public static class GenericBasicType extends TsType.BasicType {
@@ -84,6 +141,21 @@ public abstract class TsType implements Emittable {
         public String format(Settings settings) {
             return super.format(settings) + "<" + Emitter.formatList(settings, typeArguments) + ">";
         }
+
+        @Override
+        protected boolean equalsSameClass(TsType that) {
+            return super.equalsSameClass(that) && typeArguments.equals(((GenericBasicType) that).typeArguments);
+        }
+
+        @Override
+        protected int computeHashCode() {
+            return 31 * super.computeHashCode() + typeArguments.hashCode();
+        }
+
+        @Override
+        protected boolean hasStableHashCode() {
+            return haveStableHashCodes(typeArguments);
+        }
     }
 
     public static class VerbatimType extends TsType {
@@ -98,6 +170,21 @@ public abstract class TsType implements Emittable {
         public String format(Settings settings) {
             return verbatimType;
         }
+
+        @Override
+        protected boolean equalsSameClass(TsType that) {
+            return verbatimType.equals(((VerbatimType) that).verbatimType);
+        }
+
+        @Override
+        protected int computeHashCode() {
+            return verbatimType.hashCode();
+        }
+
+        @Override
+        protected boolean hasStableHashCode() {
+            return true;
+        }
     }
 
     /**
@@ -116,6 +203,17 @@ public abstract class TsType implements Emittable {
             return symbol.getFullName();
         }
 
+        @Override
+        protected boolean equalsSameClass(TsType that) {
+            return symbol == ((ReferenceType) that).symbol
+                || symbol.getFullName().equals(((ReferenceType) that).symbol.getFullName());
+        }
+
+        @Override
+        protected int computeHashCode() {
+            return symbol.getFullName().hashCode();
+        }
+
     }
 
     public static class GenericReferenceType extends TsType.ReferenceType {
@@ -135,6 +233,16 @@ public abstract class TsType implements Emittable {
         public String format(Settings settings) {
             return super.format(settings) + "<" + Emitter.formatList(settings, typeArguments) + ">";
         }
+
+        @Override
+        protected boolean equalsSameClass(TsType that) {
+            return super.equalsSameClass(that) && typeArguments.equals(((GenericReferenceType) that).typeArguments);
+        }
+
+        @Override
+        protected int computeHashCode() {
+            return 31 * super.computeHashCode() + typeArguments.hashCode();
+        }
     }
 
     public static class GenericVariableType extends TsType.BasicType {
@@ -168,6 +276,21 @@ public abstract class TsType implements Emittable {
                 : elementType.format(settings) + "[]";
         }
 
+        @Override
+        protected boolean equalsSameClass(TsType that) {
+            return elementType.equals(((BasicArrayType) that).elementType);
+        }
+
+        @Override
+        protected int computeHashCode() {
+            return elementType.hashCode();
+        }
+
+        @Override
+        protected boolean hasStableHashCode() {
+            return elementType.hasStableHashCode();
+        }
+
     }
 
     public static class IndexedArrayType extends TsType {
@@ -185,6 +308,22 @@ public abstract class TsType implements Emittable {
             return "{ [index: " + indexType.format(settings) + "]: " + elementType.format(settings) + " }";
         }
 
+        @Override
+        protected boolean equalsSameClass(TsType that) {
+            final IndexedArrayType other = (IndexedArrayType) that;
+            return indexType.equals(other.indexType) && elementType.equals(other.elementType);
+        }
+
+        @Override
+        protected int computeHashCode() {
+            return 31 * indexType.hashCode() + elementType.hashCode();
+        }
+
+        @Override
+        protected boolean hasStableHashCode() {
+            return indexType.hasStableHashCode() && elementType.hasStableHashCode();
+        }
+
     }
 
     public static class MappedType extends TsType {
@@ -209,6 +348,22 @@ public abstract class TsType implements Emittable {
                 " }";
         }
 
+        @Override
+        protected boolean equalsSameClass(TsType that) {
+            final MappedType other = (MappedType) that;
+            return parameterType.equals(other.parameterType) && questionToken == other.questionToken && type.equals(other.type);
+        }
+
+        @Override
+        protected int computeHashCode() {
+            return Objects.hash(parameterType, questionToken, type);
+        }
+
+        @Override
+        protected boolean hasStableHashCode() {
+            return parameterType.hasStableHashCode() && type.hasStableHashCode();
+        }
+
         public enum QuestionToken {
             Question("?"),
             Plus("+?"),
@@ -270,6 +425,21 @@ public abstract class TsType implements Emittable {
                 : Emitter.formatList(settings, types, " | ");
         }
 
+        @Override
+        protected boolean equalsSameClass(TsType that) {
+            return types.equals(((UnionType) that).types);
+        }
+
+        @Override
+        protected int computeHashCode() {
+            return types.hashCode();
+        }
+
+        @Override
+        protected boolean hasStableHashCode() {
+            return haveStableHashCodes(types);
+        }
+
     }
 
     public static class IntersectionType extends TsType {
@@ -291,6 +461,21 @@ public abstract class TsType implements Emittable {
                 : Emitter.formatList(settings, types, " & ");
         }
 
+        @Override
+        protected boolean equalsSameClass(TsType that) {
+            return types.equals(((IntersectionType) that).types);
+        }
+
+        @Override
+        protected int computeHashCode() {
+            return types.hashCode();
+        }
+
+        @Override
+        protected boolean hasStableHashCode() {
+            return haveStableHashCodes(types);
+        }
+
     }
 
     public static class StringLiteralType extends TsType {
@@ -306,6 +491,21 @@ public abstract class TsType implements Emittable {
             return settings.quotes + literal + settings.quotes;
         }
 
+        @Override
+        protected boolean equalsSameClass(TsType that) {
+            return literal.equals(((StringLiteralType) that).literal);
+        }
+
+        @Override
+        protected int computeHashCode() {
+            return literal.hashCode();
+        }
+
+        @Override
+        protected boolean hasStableHashCode() {
+            return true;
+        }
+
     }
 
     public static class NumberLiteralType extends TsType {
@@ -321,6 +521,22 @@ public abstract class TsType implements Emittable {
             return "" + literal;
         }
 
+        @Override
+        protected boolean equalsSameClass(TsType that) {
+            // compared as formatted so that for example Integer 1 and Long 1 are equal
+            return literal.toString().equals(((NumberLiteralType) that).literal.toString());
+        }
+
+        @Override
+        protected int computeHashCode() {
+            return literal.toString().hashCode();
+        }
+
+        @Override
+        protected boolean hasStableHashCode() {
+            return true;
+        }
+
     }
 
     // optionality should have been represented as attribute of properties and parameters
@@ -337,6 +553,21 @@ public abstract class TsType implements Emittable {
             return type.format(settings);
         }
 
+        @Override
+        protected boolean equalsSameClass(TsType that) {
+            return type.equals(((OptionalType) that).type);
+        }
+
+        @Override
+        protected int computeHashCode() {
+            return type.hashCode();
+        }
+
+        @Override
+        protected boolean hasStableHashCode() {
+            return type.hasStableHashCode();
+        }
+
     }
 
     public static class NullableType extends TsType {
@@ -354,6 +585,21 @@ public abstract class TsType implements Emittable {
             return AliasName + "<" + type.format(settings) + ">";
         }
 
+        @Override
+        protected boolean equalsSameClass(TsType that) {
+            return type.equals(((NullableType) that).type);
+        }
+
+        @Override
+        protected int computeHashCode() {
+            return type.hashCode();
+        }
+
+        @Override
+        protected boolean hasStableHashCode() {
+            return type.hasStableHashCode();
+        }
+
     }
 
     public static class ObjectType extends TsType {
@@ -381,6 +627,36 @@ public abstract class TsType implements Emittable {
             }
         }
 
+        @Override
+        protected boolean equalsSameClass(TsType that) {
+            final List<TsProperty> otherProperties = ((ObjectType) that).properties;
+            if (properties.size() != otherProperties.size()) {
+                return false;
+            }
+            for (int i = 0; i < properties.size(); i++) {
+                final TsProperty property = properties.get(i);
+                final TsProperty otherProperty = otherProperties.get(i);
+                if (!property.name.equals(otherProperty.name) || !property.tsType.equals(otherProperty.tsType)) {
+                    return false;
+                }
+            }
+            return true;
+        }
+
+        @Override
+        protected int computeHashCode() {
+            int hash = 1;
+            for (TsProperty property : properties) {
+                hash = 31 * hash + 31 * property.name.hashCode() + property.tsType.hashCode();
+            }
+            return hash;
+        }
+
+        @Override
+        protected boolean hasStableHashCode() {
+            return properties.stream().allMatch(property -> property.tsType.hasStableHashCode());
+        }
+
     }
 
     public static class FunctionType extends TsType {
@@ -398,6 +674,37 @@ public abstract class TsType implements Emittable {
             return Emitter.formatParameterList(parameters) + " => " + type.format(settings);
         }
 
+        @Override
+        protected boolean equalsSameClass(TsType that) {
+            final FunctionType other = (FunctionType) that;
+            if (parameters.size() != other.parameters.size() || !type.equals(other.type)) {
+                return false;
+            }
+            for (int i = 0; i < parameters.size(); i++) {
+                final TsParameter parameter = parameters.get(i);
+                final TsParameter otherParameter = other.parameters.get(i);
+                if (!parameter.name.equals(otherParameter.name) || !Objects.equals(parameter.tsType, otherParameter.tsType)) {
+                    return false;
+                }
+            }
+            return true;
+        }
+
+        @Override
+        protected int computeHashCode() {
+            int hash = type.hashCode();
+            for (TsParameter parameter : parameters) {
+                hash = 31 * hash + 31 * parameter.name.hashCode() + Objects.hashCode(parameter.tsType);
+            }
+            return hash;
+        }
+
+        @Override
+        protected boolean hasStableHashCode() {
+            return type.hasStableHashCode()
+                && parameters.stream().allMatch(parameter -> parameter.tsType == null || parameter.tsType.hasStableHashCode());
+        }
+
     }
 
     public static TsType transformTsType(Context context, TsType tsType, Transformer transformer) {
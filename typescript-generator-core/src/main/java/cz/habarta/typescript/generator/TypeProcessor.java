@@ -32,6 +32,15 @@ public interface TypeProcessor {
         return result != null && result.tsType == TsType.Any;
     }
 
+    /**
+     * Results of type processors can be cached during parsing by java type and type context.
+     * Processor should return <code>true</code> only if its result doesn't depend on anything else (for example on its own mutable state).
+     * Caching is opt-in, results of custom processors are not cached unless they override this method.
+     */
+    public default boolean isCacheable() {
+        return false;
+    }
+
     public static class Context {
 
         private final SymbolTable symbolTable;
@@ -132,6 +141,16 @@ public interface TypeProcessor {
             return null;
         }
 
+        @Override
+        public boolean isCacheable() {
+            for (TypeProcessor processor : processors) {
+                if (!processor.isCacheable()) {
+                    return false;
+                }
+            }
+            return true;
+        }
+
     }
 
 }
@@ -3,9 +3,12 @@ package cz.habarta.typescript.generator;
 
 import cz.habarta.typescript.generator.compiler.ModelCompiler;
 import cz.habarta.typescript.generator.emitter.Emitter;
+import cz.habarta.typescript.generator.emitter.MultiFileEmitter;
 import cz.habarta.typescript.generator.emitter.InfoJsonEmitter;
 import cz.habarta.typescript.generator.emitter.NpmPackageJson;
 import cz.habarta.typescript.generator.emitter.NpmPackageJsonEmitter;
+import cz.habarta.typescript.generator.emitter.TsBeanModel;
+import cz.habarta.typescript.generator.emitter.TsEnumModel;
 import cz.habarta.typescript.generator.emitter.TsModel;
 import cz.habarta.typescript.generator.parser.GsonParser;
 import cz.habarta.typescript.generator.parser.Jackson2Parser;
@@ -36,20 +39,37 @@ public class TypeScriptGenerator {
     public static final @Nullable String Version = getVersion();
 
     private static Logger logger = new Logger();
+    private static final InheritableThreadLocal<@Nullable Logger> threadLogger = new InheritableThreadLocal<>();
 
     private final Settings settings;
     private @Nullable TypeProcessor commonTypeProcessor = null;
+    private @Nullable CachingTypeProcessor parsingTypeProcessor = null;
     private @Nullable ModelParser modelParser = null;
     private @Nullable ModelCompiler modelCompiler = null;
 
     public static Logger getLogger() {
-        return logger;
+        final Logger currentThreadLogger = threadLogger.get();
+        return currentThreadLogger != null ? currentThreadLogger : logger;
     }
 
     public static void setLogger(Logger logger) {
         TypeScriptGenerator.logger = logger;
     }
 
+    /**
+     * Sets logger for current thread and threads started from it (for example parsing threads)
+     * which takes precedence over logger set using {@link #setLogger(Logger)}.
+     * This allows multiple generations running in parallel in one JVM (for example in Gradle workers) to use different loggers.
+     * @param logger logger or <code>null</code> to remove logger from current thread
+     */
+    public static void setThreadLogger(@Nullable Logger logger) {
+        if (logger != null) {
+            threadLogger.set(logger);
+        } else {
+            threadLogger.remove();
+        }
+    }
+
     public TypeScriptGenerator() {
         this(new Settings());
     }
@@ -64,20 +84,68 @@ public class TypeScriptGenerator {
     }
 
     public String generateTypeScript(Input input) {
-        final StringWriter stringWriter = new StringWriter();
-        generateTypeScript(input, Output.to(stringWriter));
+        final TsModel tsModel = getModelCompiler().javaToTypeScript(parseModel(input));
+        final StringWriter stringWriter = new StringWriter(estimateOutputSize(tsModel));
+        generateOutputs(tsModel, Output.to(stringWriter));
         return stringWriter.toString();
     }
 
     public void generateTypeScript(Input input, Output output) {
+        generateTypeScriptAndGetModel(input, output);
+    }
+
+    /**
+     * Same as {@link #generateTypeScript(Input, Output)}, returns parsed model
+     * which can be used for example to find out which classes contributed to the output.
+     */
+    public Model generateTypeScriptAndGetModel(Input input, Output output) {
+        final Model model = parseModel(input);
+        generateTypeScript(model, output);
+        return model;
+    }
+
+    public Model parseModel(Input input) {
         final Model model = getModelParser().parseModel(input.getSourceTypes());
-        final TsModel tsModel = getModelCompiler().javaToTypeScript(model);
+        if (parsingTypeProcessor != null) {
+            TypeScriptGenerator.getLogger().verbose(String.format("Type processor cache: %d hits, %d misses",
+                parsingTypeProcessor.getHitCount(), parsingTypeProcessor.getMissCount()));
+        }
+        return model;
+    }
+
+    /**
+     * Generates output from already parsed model.
+     * Model can be shared by generators whose settings affect only model compilation and output
+     * (for example output kind, module or namespace), it is not modified.
+     */
+    public void generateTypeScript(Model model, Output output) {
+        generateOutputs(getModelCompiler().javaToTypeScript(model), output);
+    }
+
+    private void generateOutputs(TsModel tsModel, Output output) {
         generateTypeScript(tsModel, output);
         generateInfoJson(tsModel, output);
         generateNpmPackageJson(output);
     }
 
+    // rough estimate (lines * average line length) to avoid repeated copying of string buffer
+    private static int estimateOutputSize(TsModel tsModel) {
+        long lines = 10;
+        for (TsBeanModel bean : tsModel.getBeans()) {
+            lines += bean.getProperties().size() + bean.getMethods().size() * 3 + 3;
+        }
+        for (TsEnumModel enumModel : tsModel.getEnums()) {
+            lines += enumModel.getMembers().size() + 3;
+        }
+        lines += tsModel.getTypeAliases().size() * 2;
+        return (int) Math.min(lines * 40, 64 * 1024 * 1024);
+    }
+
     private void generateTypeScript(TsModel tsModel, Output output) {
+        if (settings.outputSplitting != null) {
+            new MultiFileEmitter(settings).emit(tsModel, output);
+            return;
+        }
         new Emitter(settings, output.getWriter(), output.getName())
             .emit(tsModel, output.shouldCloseWriter());
     }
@@ -88,19 +156,23 @@ public class TypeScriptGenerator {
                 throw new RuntimeException("Generating info JSON can only be used when output is specified using file name");
             }
             final File outputFile = new File(output.getName());
-            final Output out = Output.to(new File(outputFile.getParent(), "typescript-generator-info.json"));
+            final Output out = createSiblingOutput(output, new File(outputFile.getParent(), "typescript-generator-info.json"));
             new InfoJsonEmitter(out.getWriter(), out.getName())
                 .emit(tsModel, out.shouldCloseWriter());
         }
     }
 
+    private static Output createSiblingOutput(Output output, File file) {
+        return output.isWriteOnlyIfChanged() ? Output.toFileIfChanged(file) : Output.to(file);
+    }
+
     private void generateNpmPackageJson(Output output) {
         if (settings.generateNpmPackageJson) {
             if (output.getName() == null) {
                 throw new RuntimeException("Generating NPM package.json can only be used when output is specified using file name");
             }
             final File outputFile = new File(output.getName());
-            final Output npmOutput = Output.to(new File(outputFile.getParent(), "package.json"));
+            final Output npmOutput = createSiblingOutput(output, new File(outputFile.getParent(), "package.json"));
             final String types;
             final String main;
             final Map<String, String> dependencies = new LinkedHashMap<>();
@@ -186,11 +258,30 @@ public class TypeScriptGenerator {
     }
 
     private ModelParser createModelParser() {
+        final CachingTypeProcessor typeProcessor = new CachingTypeProcessor(getCommonTypeProcessor(), settings);
+        parsingTypeProcessor = typeProcessor;
         final List<RestApplicationParser.Factory> factories = settings.getRestApplicationParserFactories();
         final List<RestApplicationParser> restApplicationParsers = factories.stream()
-            .map(factory -> factory.create(settings, getCommonTypeProcessor()))
+            .map(factory -> factory.create(settings, typeProcessor))
             .collect(Collectors.toList());
-        return getModelParserFactory().create(settings, getCommonTypeProcessor(), restApplicationParsers);
+        return getModelParserFactory().create(settings, typeProcessor, restApplicationParsers);
+    }
+
+    /**
+     * Model parser collects state during parsing (for example REST application model)
+     * so generator reused for next generation (see {@link GenerationService}) needs new one.
+     * Loaded settings, type processors and model compiler are kept.
+     */
+    void resetModelParser() {
+        modelParser = null;
+        parsingTypeProcessor = null;
+    }
+
+    /**
+     * @return type processor used by model parser, it caches results of type discovery
+     */
+    public @Nullable CachingTypeProcessor getParsingTypeProcessor() {
+        return parsingTypeProcessor;
     }
 
     private ModelParser.Factory getModelParserFactory() {
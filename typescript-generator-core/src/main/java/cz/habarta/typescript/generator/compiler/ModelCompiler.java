@@ -65,6 +65,7 @@ import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.Comparator;
+import java.util.IdentityHashMap;
 import java.util.LinkedHashMap;
 import java.util.LinkedHashSet;
 import java.util.List;
@@ -490,9 +491,10 @@ public class ModelCompiler {
     }
 
     private TsModel removeInheritedProperties(SymbolTable symbolTable, TsModel tsModel) {
+        final InheritedProperties inheritance = new InheritedProperties(symbolTable, tsModel);
         final List<TsBeanModel> beans = new ArrayList<>();
         for (TsBeanModel bean : tsModel.getBeans()) {
-            final Map<String, TsType> inheritedPropertyTypes = getInheritedProperties(symbolTable, tsModel, bean.getAllParents());
+            final Map<String, TsType> inheritedPropertyTypes = inheritance.getInheritedProperties(bean.getAllParents());
             final List<TsPropertyModel> properties = new ArrayList<>();
             for (TsPropertyModel property : bean.getProperties()) {
                 if (property.isOwnProperty() || !Objects.equals(property.getTsType(), inheritedPropertyTypes.get(property.getName()))) {
@@ -505,6 +507,7 @@ public class ModelCompiler {
     }
 
     private TsModel addImplementedProperties(SymbolTable symbolTable, TsModel tsModel) {
+        final InheritedProperties inheritance = new InheritedProperties(symbolTable, tsModel);
         final List<TsBeanModel> beans = new ArrayList<>();
         for (TsBeanModel bean : tsModel.getBeans()) {
             if (bean.isClass()) {
@@ -514,9 +517,9 @@ public class ModelCompiler {
                 for (TsPropertyModel property : bean.getProperties()) {
                     classPropertyNames.add(property.getName());
                 }
-                classPropertyNames.addAll(getInheritedProperties(symbolTable, tsModel, bean.getExtendsList()).keySet());
+                classPropertyNames.addAll(inheritance.getInheritedProperties(bean.getExtendsList()).keySet());
 
-                final List<TsPropertyModel> implementedProperties = getImplementedProperties(symbolTable, tsModel, bean.getImplementsList());
+                final List<TsPropertyModel> implementedProperties = inheritance.getImplementedProperties(bean.getImplementsList());
                 Collections.reverse(implementedProperties);
                 for (TsPropertyModel implementedProperty : implementedProperties) {
                     if (!classPropertyNames.contains(implementedProperty.getName())) {
@@ -534,6 +537,7 @@ public class ModelCompiler {
     }
 
     private TsModel addConstructors(SymbolTable symbolTable, TsModel tsModel) {
+        final InheritedProperties inheritance = new InheritedProperties(symbolTable, tsModel);
         final List<TsBeanModel> beans = new ArrayList<>();
         for (TsBeanModel bean : tsModel.getBeans()) {
             final Symbol beanIdentifier = bean.getName();
@@ -550,8 +554,8 @@ public class ModelCompiler {
                     )
                 ));
             }
+            final Map<String, TsType> inheritedProperties = inheritance.getInheritedProperties(Utils.listFromNullable(bean.getParent()));
             for (TsPropertyModel property : bean.getProperties()) {
-                final Map<String, TsType> inheritedProperties = ModelCompiler.getInheritedProperties(symbolTable, tsModel, Utils.listFromNullable(bean.getParent()));
                 if (!inheritedProperties.containsKey(property.getName())) {
                     body.add(new TsExpressionStatement(new TsAssignmentExpression(
                         new TsMemberExpression(new TsThisExpression(), property.name),
@@ -575,29 +579,71 @@ public class ModelCompiler {
     }
 
     public static Map<String, TsType> getInheritedProperties(SymbolTable symbolTable, TsModel tsModel, List<TsType> parents) {
-        final Map<String, TsType> properties = new LinkedHashMap<>();
-        for (TsType parentType : parents) {
-            final TsBeanModel parent = tsModel.getBean(getOriginClass(symbolTable, parentType));
-            if (parent != null) {
-                properties.putAll(getInheritedProperties(symbolTable, tsModel, parent.getAllParents()));
-                for (TsPropertyModel property : parent.getProperties()) {
-                    properties.put(property.getName(), property.getTsType());
+        return new InheritedProperties(symbolTable, tsModel).getInheritedProperties(parents);
+    }
+
+    /**
+     * Resolves properties inherited from ancestors, each ancestor is flattened only once.
+     * Valid only for one TsModel since compilation passes change bean properties.
+     */
+    private static class InheritedProperties {
+
+        private final SymbolTable symbolTable;
+        private final TsModel tsModel;
+        private final Map<TsBeanModel, Map<String, TsType>> propertiesWithAncestors = new IdentityHashMap<>();
+        private final Map<TsBeanModel, List<TsPropertyModel>> implementedPropertiesWithAncestors = new IdentityHashMap<>();
+
+        public InheritedProperties(SymbolTable symbolTable, TsModel tsModel) {
+            this.symbolTable = symbolTable;
+            this.tsModel = tsModel;
+        }
+
+        public Map<String, TsType> getInheritedProperties(List<TsType> parents) {
+            final Map<String, TsType> properties = new LinkedHashMap<>();
+            for (TsType parentType : parents) {
+                final TsBeanModel parent = tsModel.getBean(getOriginClass(symbolTable, parentType));
+                if (parent != null) {
+                    properties.putAll(getPropertiesWithAncestors(parent));
                 }
             }
+            return properties;
         }
-        return properties;
-    }
 
-    private static List<TsPropertyModel> getImplementedProperties(SymbolTable symbolTable, TsModel tsModel, List<TsType> interfaces) {
-        final List<TsPropertyModel> properties = new ArrayList<>();
-        for (TsType aInterface : interfaces) {
-            final TsBeanModel bean = tsModel.getBean(getOriginClass(symbolTable, aInterface));
-            if (bean != null) {
-                properties.addAll(getImplementedProperties(symbolTable, tsModel, bean.getExtendsList()));
-                properties.addAll(bean.getProperties());
+        private Map<String, TsType> getPropertiesWithAncestors(TsBeanModel bean) {
+            final Map<String, TsType> cached = propertiesWithAncestors.get(bean);
+            if (cached != null) {
+                return cached;
+            }
+            final Map<String, TsType> properties = getInheritedProperties(bean.getAllParents());
+            for (TsPropertyModel property : bean.getProperties()) {
+                properties.put(property.getName(), property.getTsType());
             }
+            propertiesWithAncestors.put(bean, properties);
+            return properties;
         }
-        return properties;
+
+        public List<TsPropertyModel> getImplementedProperties(List<TsType> interfaces) {
+            final List<TsPropertyModel> properties = new ArrayList<>();
+            for (TsType aInterface : interfaces) {
+                final TsBeanModel bean = tsModel.getBean(getOriginClass(symbolTable, aInterface));
+                if (bean != null) {
+                    properties.addAll(getImplementedPropertiesWithAncestors(bean));
+                }
+            }
+            return properties;
+        }
+
+        private List<TsPropertyModel> getImplementedPropertiesWithAncestors(TsBeanModel bean) {
+            final List<TsPropertyModel> cached = implementedPropertiesWithAncestors.get(bean);
+            if (cached != null) {
+                return cached;
+            }
+            final List<TsPropertyModel> properties = getImplementedProperties(bean.getExtendsList());
+            properties.addAll(bean.getProperties());
+            implementedPropertiesWithAncestors.put(bean, properties);
+            return properties;
+        }
+
     }
 
     private Symbol createRestResponseType(SymbolTable symbolTable, TsModel tsModel) {
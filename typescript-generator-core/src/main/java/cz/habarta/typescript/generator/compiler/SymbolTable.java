@@ -1,24 +1,30 @@
 
 package cz.habarta.typescript.generator.compiler;
 
-import com.oracle.truffle.js.scriptengine.GraalJSScriptEngine;
 import cz.habarta.typescript.generator.Settings;
 import cz.habarta.typescript.generator.TypeScriptGenerator;
 import cz.habarta.typescript.generator.util.Pair;
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.IdentityHashMap;
 import java.util.LinkedHashMap;
 import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.regex.Matcher;
 import java.util.regex.Pattern;
-import javax.script.Invocable;
-import javax.script.ScriptEngine;
-import javax.script.ScriptException;
 import org.graalvm.polyglot.Context;
 import org.graalvm.polyglot.Engine;
 import org.graalvm.polyglot.HostAccess;
+import org.graalvm.polyglot.PolyglotException;
+import org.graalvm.polyglot.Source;
+import org.graalvm.polyglot.Value;
 import org.jspecify.annotations.Nullable;
 
 
@@ -29,8 +35,16 @@ public class SymbolTable {
 
     private final Settings settings;
     private final LinkedHashMap<Pair<Class<?>, String>, Symbol> symbols = new LinkedHashMap<>();
+    // reverse index of symbols (symbol -> class and suffix)
+    private final Map<Symbol, Pair<Class<?>, String>> symbolOrigins = new IdentityHashMap<>();
     private final LinkedHashMap<String, Symbol> syntheticSymbols = new LinkedHashMap<>();
-    private @Nullable CustomTypeNamingFunction customTypeNamingFunction;
+    // results of custom naming (function or regular expressions) by class
+    private final Map<Class<?>, Optional<String>> customNames = new HashMap<>();
+    private @Nullable List<Pair<Pattern, String>> customTypeNamingRegexps;
+    // JavaScript context is open while symbol names are resolved and shared by batch and per-class evaluation
+    private @Nullable Context customTypeNamingContext;
+    private @Nullable Value customTypeNamingFunction;
+    private boolean resolvingSymbolNames = false;
 
     public SymbolTable(Settings settings) {
         this.settings = settings;
@@ -43,23 +57,35 @@ public class SymbolTable {
     public Symbol getSymbol(Class<?> cls, @Nullable String suffix) {
         final String suffixString = suffix != null ? suffix : "";
         final Pair<Class<?>, String> key = Pair.<Class<?>, String>of(cls, suffixString);
-        if (!symbols.containsKey(key)) {
-            symbols.put(key, new Symbol("$" + cls.getName().replace('.', '$') + suffixString + "$"));
+        final Symbol existingSymbol = symbols.get(key);
+        if (existingSymbol != null) {
+            return existingSymbol;
         }
-        return symbols.get(key);
+        final Symbol symbol = new Symbol("$" + cls.getName().replace('.', '$') + suffixString + "$");
+        symbols.put(key, symbol);
+        symbolOrigins.put(symbol, key);
+        return symbol;
     }
 
     public @Nullable Symbol hasSymbol(Class<?> cls, String suffix) {
         return symbols.get(Pair.<Class<?>, String>of(cls, suffix));
     }
 
+    /**
+     * Returns class for which the symbol was created or <code>null</code> for synthetic symbols.
+     * Lookup is constant time.
+     */
     public @Nullable Class<?> getSymbolClass(Symbol symbol) {
-        for (Map.Entry<Pair<Class<?>, String>, Symbol> entry : symbols.entrySet()) {
-            if (entry.getValue() == symbol) {
-                return entry.getKey().getValue1();
-            }
-        }
-        return null;
+        final Pair<Class<?>, String> origin = symbolOrigins.get(symbol);
+        return origin != null ? origin.getValue1() : null;
+    }
+
+    /**
+     * Returns suffix with which the symbol was created or <code>null</code> for synthetic symbols.
+     */
+    public @Nullable String getSymbolSuffix(Symbol symbol) {
+        final Pair<Class<?>, String> origin = symbolOrigins.get(symbol);
+        return origin != null ? origin.getValue2() : null;
     }
 
     public Symbol getSyntheticSymbol(String name) {
@@ -75,16 +101,26 @@ public class SymbolTable {
 
     public Symbol addSuffixToSymbol(Symbol symbol, String suffix) {
         // try symbols
-        for (Map.Entry<Pair<Class<?>, String>, Symbol> entry : symbols.entrySet()) {
-            if (entry.getValue() == symbol) {
-                return getSymbol(entry.getKey().getValue1(), entry.getKey().getValue2() + suffix);
-            }
+        final Pair<Class<?>, String> origin = symbolOrigins.get(symbol);
+        if (origin != null) {
+            return getSymbol(origin.getValue1(), origin.getValue2() + suffix);
         }
         // syntheticSymbols
         return getSyntheticSymbol(symbol.getFullName() + suffix);
     }
 
     public void resolveSymbolNames() {
+        resolvingSymbolNames = true;
+        try {
+            doResolveSymbolNames();
+        } finally {
+            resolvingSymbolNames = false;
+            closeCustomTypeNamingContext();
+        }
+    }
+
+    private void doResolveSymbolNames() {
+        evaluateCustomTypeNamingFunctionInBatch();
         final Map<String, List<Class<?>>> names = new LinkedHashMap<>();
         for (Map.Entry<Pair<Class<?>, String>, Symbol> entry : symbols.entrySet()) {
             final Class<?> cls = entry.getKey().getValue1();
@@ -141,22 +177,9 @@ public class SymbolTable {
         if (customName != null) {
             return customName;
         }
-        if (settings.customTypeNamingFunctionImpl != null || settings.customTypeNamingFunction != null) {
-            try {
-                final CustomTypeNamingFunction function;
-                if (settings.customTypeNamingFunctionImpl != null) {
-                    function = settings.customTypeNamingFunctionImpl;
-                } else {
-                    function = getCustomTypeNamingFunction();
-                }
-
-                final Object getNameResult = function.getName(cls.getName(), cls.getSimpleName());
-                if (getNameResult instanceof String) {
-                    return (String) getNameResult;
-                }
-            } catch (ScriptException e) {
-                throw new RuntimeException("Evaluating 'customTypeNamingFunction' failed.", e);
-            }
+        final String functionName = getCustomName(cls);
+        if (functionName != null) {
+            return functionName;
         }
         String simpleName = cls.getSimpleName();
         if (settings.removeTypeNamePrefix != null && simpleName.startsWith(settings.removeTypeNamePrefix)) {
@@ -209,19 +232,167 @@ public class SymbolTable {
         return Keywords.contains(word);
     }
 
-    private CustomTypeNamingFunction getCustomTypeNamingFunction() throws ScriptException {
+    private @Nullable String getCustomName(Class<?> cls) {
+        if (settings.customTypeNamingRegexps.isEmpty() && settings.customTypeNamingFunctionImpl == null && settings.customTypeNamingFunction == null) {
+            return null;
+        }
+        final Optional<String> cached = customNames.get(cls);
+        if (cached != null) {
+            return cached.orElse(null);
+        }
+        final String name = evaluateCustomName(cls);
+        customNames.put(cls, Optional.ofNullable(name));
+        return name;
+    }
+
+    private @Nullable String evaluateCustomName(Class<?> cls) {
+        final String regexpName = evaluateRegexpName(cls);
+        if (regexpName != null) {
+            return regexpName;
+        }
+        if (settings.customTypeNamingFunctionImpl != null) {
+            final Object getNameResult = settings.customTypeNamingFunctionImpl.getName(cls.getName(), cls.getSimpleName());
+            if (getNameResult instanceof String) {
+                return (String) getNameResult;
+            }
+        } else if (settings.customTypeNamingFunction != null) {
+            // class which was not part of the batch
+            final @Nullable Object[] results = new Object[1];
+            evaluateCustomTypeNamingFunction(new String[] {cls.getName()}, new String[] {cls.getSimpleName()}, results);
+            if (results[0] instanceof String) {
+                return (String) results[0];
+            }
+        }
+        return null;
+    }
+
+    private @Nullable String evaluateRegexpName(Class<?> cls) {
+        for (Pair<Pattern, String> regexp : getCustomTypeNamingRegexps()) {
+            final Matcher matcher = regexp.getValue1().matcher(cls.getName());
+            if (matcher.matches()) {
+                return matcher.replaceFirst(regexp.getValue2());
+            }
+        }
+        return null;
+    }
+
+    private List<Pair<Pattern, String>> getCustomTypeNamingRegexps() {
+        if (customTypeNamingRegexps == null) {
+            final List<Pair<Pattern, String>> regexps = new ArrayList<>();
+            for (Map.Entry<String, String> entry : settings.customTypeNamingRegexps.entrySet()) {
+                regexps.add(Pair.of(Pattern.compile(entry.getKey()), entry.getValue()));
+            }
+            customTypeNamingRegexps = regexps;
+        }
+        return customTypeNamingRegexps;
+    }
+
+    /**
+     * Calls JavaScript naming function once for all classes which need it instead of once per class.
+     */
+    private void evaluateCustomTypeNamingFunctionInBatch() {
+        if (settings.customTypeNamingFunction == null || settings.customTypeNamingFunctionImpl != null) {
+            return;
+        }
+        final List<Class<?>> classes = new ArrayList<>();
+        final Set<Class<?>> seen = new HashSet<>();
+        for (Map.Entry<Pair<Class<?>, String>, Symbol> entry : symbols.entrySet()) {
+            final Class<?> cls = entry.getKey().getValue1();
+            if (!entry.getValue().isResolved() && !customNames.containsKey(cls) && !settings.customTypeNaming.containsKey(cls.getName()) && seen.add(cls)) {
+                if (settings.getModuleDependencies().getFullName(cls) == null) {
+                    classes.add(cls);
+                }
+            }
+        }
+        if (classes.isEmpty()) {
+            return;
+        }
+        final String[] classNames = new String[classes.size()];
+        final String[] simpleNames = new String[classes.size()];
+        final @Nullable Object[] results = new Object[classes.size()];
+        for (int i = 0; i < classes.size(); i++) {
+            classNames[i] = classes.get(i).getName();
+            simpleNames[i] = classes.get(i).getSimpleName();
+        }
+        evaluateCustomTypeNamingFunction(classNames, simpleNames, results);
+        for (int i = 0; i < classes.size(); i++) {
+            final Class<?> cls = classes.get(i);
+            // regular expressions take precedence over function
+            final String regexpName = evaluateRegexpName(cls);
+            final Object result = results[i];
+            customNames.put(cls, Optional.ofNullable(regexpName != null ? regexpName : result instanceof String ? (String) result : null));
+        }
+    }
+
+    private void evaluateCustomTypeNamingFunction(String[] classNames, String[] simpleNames, @Nullable Object[] results) {
+        try {
+            getCustomTypeNamingFunction().execute(classNames, simpleNames, results);
+        } catch (PolyglotException e) {
+            throw new RuntimeException("Evaluating 'customTypeNamingFunction' failed.", e);
+        } finally {
+            if (!resolvingSymbolNames) {
+                // called outside of resolveSymbolNames, context would not be closed otherwise
+                closeCustomTypeNamingContext();
+            }
+        }
+    }
+
+    private Value getCustomTypeNamingFunction() {
         if (customTypeNamingFunction == null) {
-            final ScriptEngine engine = GraalJSScriptEngine.create(
-                Engine.newBuilder().option("engine.WarnInterpreterOnly", "false").build(),
-                Context.newBuilder("js").allowHostAccess(HostAccess.ALL)
-            );
-            engine.eval("var getName = " + settings.customTypeNamingFunction);
-            final Invocable invocable = (Invocable) engine;
-            customTypeNamingFunction = invocable.getInterface(CustomTypeNamingFunction.class);
+            final Context context = Context.newBuilder("js")
+                .engine(SharedJavaScriptEngine.getEngine())
+                .allowHostAccess(HostAccess.ALL)
+                .build();
+            customTypeNamingContext = context;
+            context.eval(SharedJavaScriptEngine.getNamingSource(Objects.requireNonNull(settings.customTypeNamingFunction)));
+            customTypeNamingFunction = context.getBindings("js").getMember("getNames");
         }
         return customTypeNamingFunction;
     }
 
+    private void closeCustomTypeNamingContext() {
+        if (customTypeNamingContext != null) {
+            customTypeNamingContext.close();
+            customTypeNamingContext = null;
+            customTypeNamingFunction = null;
+        }
+    }
+
+    /**
+     * GraalJS engine is expensive to initialize so it is shared by all generator runs in this JVM (Gradle daemon, Maven reactor)
+     * together with parsed naming function sources. Engine is closed when JVM shuts down.
+     */
+    private static class SharedJavaScriptEngine {
+        private static @Nullable Engine engine;
+        private static final Map<String, Source> namingSources = new ConcurrentHashMap<>();
+
+        public static synchronized Engine getEngine() {
+            if (engine == null) {
+                final Engine newEngine = Engine.newBuilder().option("engine.WarnInterpreterOnly", "false").build();
+                Runtime.getRuntime().addShutdownHook(new Thread(() -> {
+                    try {
+                        newEngine.close(true);
+                    } catch (RuntimeException e) {
+                        // JVM is shutting down
+                    }
+                }, "typescript-generator-js-engine-shutdown"));
+                engine = newEngine;
+            }
+            return engine;
+        }
+
+        public static Source getNamingSource(String customTypeNamingFunction) {
+            return namingSources.computeIfAbsent(customTypeNamingFunction, function -> Source.create("js",
+                "var getName = " + function + ";\n"
+                + "function getNames(classNames, simpleNames, results) {\n"
+                + "    for (var i = 0; i < classNames.length; i++) {\n"
+                + "        var name = getName(classNames[i], simpleNames[i]);\n"
+                + "        results[i] = typeof name === 'string' ? name : null;\n"
+                + "    }\n"
+                + "}"));
+        }
+    }
+
     /**
      * Function for getting custom TypeScript names for Java classes.
      * If the function returns null, the default is used.
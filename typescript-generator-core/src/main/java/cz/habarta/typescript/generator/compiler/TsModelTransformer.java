@@ -1,6 +1,7 @@
 
 package cz.habarta.typescript.generator.compiler;
 
+import cz.habarta.typescript.generator.TsType;
 import cz.habarta.typescript.generator.emitter.TsBeanModel;
 import cz.habarta.typescript.generator.emitter.TsModel;
 import cz.habarta.typescript.generator.emitter.TsPropertyModel;
@@ -44,6 +45,17 @@ public interface TsModelTransformer {
             return property;
         }
 
+        /**
+         * Returns Java class from which referenced type was created or <code>null</code> if type is not a class reference.
+         */
+        public @Nullable Class<?> getOriginClass(TsType type) {
+            if (type instanceof TsType.ReferenceType) {
+                final TsType.ReferenceType referenceType = (TsType.ReferenceType) type;
+                return symbolTable.getSymbolClass(referenceType.symbol);
+            }
+            return null;
+        }
+
     }
 
 }
@@ -14,6 +14,7 @@ import java.io.IOException;
 import java.io.Writer;
 import java.text.SimpleDateFormat;
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.Date;
 import java.util.List;
 import java.util.Map;
@@ -26,6 +27,8 @@ public class Emitter implements EmitterExtension.Writer {
     private final Settings settings;
     private Writer writer;
     private int indent;
+    private List<String> additionalImports = Collections.emptyList();
+    private boolean mainFile = true;
 
     public Emitter(Settings settings, Writer output, @Nullable String outputName) {
         this.settings = settings;
@@ -37,13 +40,29 @@ public class Emitter implements EmitterExtension.Writer {
     }
 
     public void emit(TsModel model, boolean closeOutput) {
+        emit(model, Collections.emptyList(), true, closeOutput);
+    }
+
+    /**
+     * Emits one of multiple output files.
+     * @param additionalImports import (and export) declarations of declarations from other output files
+     * @param mainFile helpers, extensions and UMD namespace are emitted only to main file
+     */
+    public void emit(TsModel model, List<String> additionalImports, boolean mainFile, boolean closeOutput) {
+        this.additionalImports = additionalImports;
+        this.mainFile = mainFile;
         emitFileComment();
         emitReferences();
         emitImports();
         emitModule(model);
-        emitUmdNamespace();
+        if (mainFile) {
+            emitUmdNamespace();
+        }
+        // output is buffered and flushed only once at the end
         if (closeOutput) {
             close();
+        } else {
+            flush();
         }
     }
 
@@ -87,6 +106,12 @@ public class Emitter implements EmitterExtension.Writer {
                 writeIndentedLine(importDeclaration + ";");
             }
         }
+        if (!additionalImports.isEmpty()) {
+            writeNewLine();
+            for (String importDeclaration : additionalImports) {
+                writeIndentedLine(importDeclaration + ";");
+            }
+        }
     }
 
     private void emitModule(TsModel model) {
@@ -131,8 +156,10 @@ public class Emitter implements EmitterExtension.Writer {
         emitBeans(model, exportKeyword, declareKeyword);
         emitTypeAliases(model, exportKeyword, declareKeyword);
         emitLiteralEnums(model, exportKeyword, declareKeyword);
-        emitHelpers(model);
-        emitExtensions(model, exportKeyword);
+        if (mainFile) {
+            emitHelpers(model);
+            emitExtensions(model, exportKeyword);
+        }
     }
 
     private void emitBeans(TsModel model, boolean exportKeyword, boolean declareKeyword) {
@@ -489,6 +516,13 @@ public class Emitter implements EmitterExtension.Writer {
     private void writeNewLine() {
         try {
             writer.write(settings.newline);
+        } catch (IOException e) {
+            throw new RuntimeException(e);
+        }
+    }
+
+    private void flush() {
+        try {
             writer.flush();
         } catch (IOException e) {
             throw new RuntimeException(e);
@@ -0,0 +1,421 @@
+package cz.habarta.typescript.generator.emitter;
+
+import cz.habarta.typescript.generator.Output;
+import cz.habarta.typescript.generator.OutputSplitting;
+import cz.habarta.typescript.generator.Settings;
+import cz.habarta.typescript.generator.TsParameter;
+import cz.habarta.typescript.generator.TsType;
+import cz.habarta.typescript.generator.TypeScriptGenerator;
+import cz.habarta.typescript.generator.compiler.Symbol;
+import java.io.BufferedReader;
+import java.io.File;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.TreeSet;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.function.Consumer;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import org.jspecify.annotations.Nullable;
+
+
+/**
+ * Splits model into multiple files (see {@link Settings#outputSplitting}) and emits them in parallel.
+ * Part files which were re-exported from previous main file but are not generated anymore are deleted
+ * (file outputs are opened only when content is written so previous main file can be read before emitting).
+ * Data declarations (beans, enums and type aliases) are moved to part files,
+ * REST declarations, helpers and extensions stay in main file which also re-exports all part files.
+ * Each file imports declarations it references from other files.
+ */
+public class MultiFileEmitter {
+
+    private static final Pattern PartExportPattern = Pattern.compile("^export \\* from [\"']\\./([^\"'/]+)[\"'];?$");
+
+    private final Settings settings;
+
+    public MultiFileEmitter(Settings settings) {
+        this.settings = settings;
+    }
+
+    public void emit(TsModel model, Output output) {
+        if (output.getName() == null) {
+            throw new RuntimeException("Output splitting can only be used when output is specified using file name");
+        }
+        final File outputFile = new File(output.getName());
+        final String extension = settings.getExtension();
+        final String mainFileName = outputFile.getName().endsWith(extension)
+            ? outputFile.getName().substring(0, outputFile.getName().length() - extension.length())
+            : outputFile.getName();
+
+        // assign declarations to files (null is main file)
+        final Map<Symbol, @Nullable String> declarationFiles = new IdentityHashMap<>();
+        final Map<String, Symbol> declarationsByName = new LinkedHashMap<>();
+        final Map<String, TsModel> partModels = new TreeMap<>();
+        final List<TsBeanModel> mainBeans = new ArrayList<>();
+        final List<TsEnumModel> mainEnums = new ArrayList<>();
+        final List<TsAliasModel> mainAliases = new ArrayList<>();
+        for (TsBeanModel bean : model.getBeans()) {
+            final String part = getPart(bean, mainFileName);
+            declarationFiles.put(bean.getName(), part);
+            declarationsByName.put(bean.getName().getSimpleName(), bean.getName());
+            if (part != null) {
+                partModels.compute(part, (key, partModel) -> orEmpty(partModel).withBeans(append(orEmpty(partModel).getBeans(), bean)));
+            } else {
+                mainBeans.add(bean);
+            }
+        }
+        for (TsEnumModel enumModel : model.getEnums()) {
+            final String part = getPart(enumModel, mainFileName);
+            declarationFiles.put(enumModel.getName(), part);
+            declarationsByName.put(enumModel.getName().getSimpleName(), enumModel.getName());
+            if (part != null) {
+                partModels.compute(part, (key, partModel) -> orEmpty(partModel).withEnums(append(orEmpty(partModel).getEnums(), enumModel)));
+            } else {
+                mainEnums.add(enumModel);
+            }
+        }
+        for (TsAliasModel alias : model.getTypeAliases()) {
+            final String part = getPart(alias, mainFileName);
+            declarationFiles.put(alias.getName(), part);
+            declarationsByName.put(alias.getName().getSimpleName(), alias.getName());
+            if (part != null) {
+                partModels.compute(part, (key, partModel) -> orEmpty(partModel).withTypeAliases(append(orEmpty(partModel).getTypeAliases(), alias)));
+            } else {
+                mainAliases.add(alias);
+            }
+        }
+        if (partModels.containsKey(mainFileName)) {
+            throw new RuntimeException(String.format("Output file name '%s' conflicts with name of split output file.", outputFile.getName()));
+        }
+        final TsModel mainModel = model.withBeans(mainBeans).withEnums(mainEnums).withTypeAliases(mainAliases);
+
+        deleteStaleParts(outputFile, extension, partModels.keySet());
+
+        final List<Runnable> tasks = new ArrayList<>();
+        for (Map.Entry<String, TsModel> entry : partModels.entrySet()) {
+            final String part = entry.getKey();
+            final TsModel partModel = entry.getValue();
+            final List<String> imports = getImports(partModel, part, declarationFiles, declarationsByName, mainFileName);
+            final File partFile = new File(outputFile.getParentFile(), part + extension);
+            final Output partOutput = output.isWriteOnlyIfChanged() ? Output.toFileIfChanged(partFile) : Output.to(partFile);
+            tasks.add(() -> new Emitter(settings, partOutput.getWriter(), partOutput.getName())
+                .emit(partModel, imports, false, partOutput.shouldCloseWriter()));
+        }
+        final List<String> mainImports = new ArrayList<>(getImports(mainModel, null, declarationFiles, declarationsByName, mainFileName));
+        for (String part : partModels.keySet()) {
+            mainImports.add("export * from " + Emitter.quote("./" + part, settings));
+        }
+        tasks.add(() -> new Emitter(settings, output.getWriter(), output.getName())
+            .emit(mainModel, mainImports, true, output.shouldCloseWriter()));
+        runTasks(tasks);
+    }
+
+    /**
+     * Runs emitting tasks in dedicated threads (not in common pool which can be used by the caller).
+     */
+    private static void runTasks(List<Runnable> tasks) {
+        if (tasks.size() < 2) {
+            tasks.forEach(Runnable::run);
+            return;
+        }
+        final ExecutorService executor = Executors.newFixedThreadPool(Math.min(tasks.size(), Runtime.getRuntime().availableProcessors()));
+        try {
+            final List<Future<?>> futures = new ArrayList<>();
+            for (Runnable task : tasks) {
+                futures.add(executor.submit(task));
+            }
+            for (Future<?> future : futures) {
+                future.get();
+            }
+        } catch (ExecutionException e) {
+            final Throwable cause = e.getCause();
+            if (cause instanceof RuntimeException) {
+                throw (RuntimeException) cause;
+            }
+            if (cause instanceof Error) {
+                throw (Error) cause;
+            }
+            throw new RuntimeException(cause);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new RuntimeException(e);
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    /**
+     * Returns part files re-exported from existing main output file (written by previous generation).
+     * @param outputFile main output file
+     * @param extension extension of output files (see {@link Settings#getExtension()})
+     */
+    public static List<File> getPartFiles(File outputFile, String extension) {
+        final List<File> files = new ArrayList<>();
+        for (String part : readPartNames(outputFile)) {
+            files.add(new File(outputFile.getParentFile(), part + extension));
+        }
+        return files;
+    }
+
+    private static List<String> readPartNames(File outputFile) {
+        if (!outputFile.isFile()) {
+            return Collections.emptyList();
+        }
+        final List<String> parts = new ArrayList<>();
+        try (BufferedReader reader = Files.newBufferedReader(outputFile.toPath(), StandardCharsets.UTF_8)) {
+            String line;
+            while ((line = reader.readLine()) != null) {
+                final Matcher matcher = PartExportPattern.matcher(line.trim());
+                if (matcher.matches()) {
+                    parts.add(matcher.group(1));
+                }
+            }
+        } catch (IOException | UncheckedIOException e) {
+            TypeScriptGenerator.getLogger().warning("Cannot read previous output file: " + e);
+        }
+        return parts;
+    }
+
+    /**
+     * Deletes part files generated previously which are not generated anymore (for example after removal of package).
+     */
+    private static void deleteStaleParts(File outputFile, String extension, Set<String> parts) {
+        for (String previousPart : readPartNames(outputFile)) {
+            if (!parts.contains(previousPart)) {
+                final File staleFile = new File(outputFile.getParentFile(), previousPart + extension);
+                if (staleFile.isFile()) {
+                    TypeScriptGenerator.getLogger().info("Deleting stale output file: " + staleFile);
+                    if (!staleFile.delete()) {
+                        TypeScriptGenerator.getLogger().warning("Cannot delete stale output file: " + staleFile);
+                    }
+                }
+            }
+        }
+    }
+
+    private @Nullable String getPart(TsDeclarationModel declaration, String mainFileName) {
+        // REST declarations and synthetic declarations (like RestResponse or custom type aliases) stay in main file
+        final Class<?> origin = declaration.getOrigin();
+        if (origin == null || declaration instanceof TsBeanModel && ((TsBeanModel) declaration).getCategory() != TsBeanCategory.Data) {
+            return null;
+        }
+        final OutputSplitting outputSplitting = Objects.requireNonNull(settings.outputSplitting);
+        switch (outputSplitting) {
+            case byPackage:
+                final int index = origin.getName().lastIndexOf('.');
+                return index != -1 ? origin.getName().substring(0, index) : null;
+            case restAndData:
+                return mainFileName + "-data";
+            default:
+                throw new RuntimeException("Unknown output splitting: " + outputSplitting);
+        }
+    }
+
+    private static TsModel orEmpty(@Nullable TsModel model) {
+        return model != null ? model : new TsModel();
+    }
+
+    private static <T> List<T> append(List<T> list, T item) {
+        final List<T> result = new ArrayList<>(list);
+        result.add(item);
+        return result;
+    }
+
+    private List<String> getImports(TsModel model, @Nullable String file, Map<Symbol, @Nullable String> declarationFiles,
+        Map<String, Symbol> declarationsByName, String mainFileName) {
+        final Set<Symbol> referencedSymbols = Collections.newSetFromMap(new IdentityHashMap<>());
+        final ReferenceCollector collector = new ReferenceCollector(referencedSymbols::add, declarationsByName);
+        for (TsBeanModel bean : model.getBeans()) {
+            collector.addBean(bean);
+        }
+        for (TsAliasModel alias : model.getTypeAliases()) {
+            collector.addType(alias.getDefinition());
+        }
+        final Map<String, Set<String>> importedNames = new TreeMap<>();
+        for (Symbol symbol : referencedSymbols) {
+            if (!declarationFiles.containsKey(symbol)) {
+                continue;
+            }
+            final String declarationFile = declarationFiles.get(symbol);
+            if (!Objects.equals(declarationFile, file)) {
+                final String importedFile = declarationFile != null ? declarationFile : mainFileName;
+                importedNames.computeIfAbsent(importedFile, key -> new TreeSet<>()).add(symbol.getSimpleName());
+            }
+        }
+        final List<String> imports = new ArrayList<>();
+        for (Map.Entry<String, Set<String>> entry : importedNames.entrySet()) {
+            imports.add("import { " + String.join(", ", entry.getValue()) + " } from " + Emitter.quote("./" + entry.getKey(), settings));
+        }
+        return imports;
+    }
+
+    private static class ReferenceCollector {
+
+        private final Consumer<Symbol> consumer;
+        private final Map<String, Symbol> declarationsByName;
+
+        public ReferenceCollector(Consumer<Symbol> consumer, Map<String, Symbol> declarationsByName) {
+            this.consumer = consumer;
+            this.declarationsByName = declarationsByName;
+        }
+
+        public void addBean(TsBeanModel bean) {
+            addDecorators(bean.getDecorators());
+            if (bean.getParent() != null) {
+                addType(bean.getParent());
+            }
+            bean.getExtendsList().forEach(this::addType);
+            bean.getImplementsList().forEach(this::addType);
+            for (TsPropertyModel property : bean.getProperties()) {
+                addDecorators(property.getDecorators());
+                addType(property.getTsType());
+                if (property.getDefaultValue() != null) {
+                    addExpression(property.getDefaultValue());
+                }
+            }
+            if (bean.getConstructor() != null) {
+                addCallable(bean.getConstructor());
+            }
+            for (TsMethodModel method : bean.getMethods()) {
+                addDecorators(method.getDecorators());
+                addCallable(method);
+            }
+        }
+
+        private void addCallable(TsCallableModel callable) {
+            for (TsParameterModel parameter : callable.getParameters()) {
+                addDecorators(parameter.getDecorators());
+                addParameter(parameter);
+            }
+            if (callable.getReturnType() != null) {
+                addType(callable.getReturnType());
+            }
+            if (callable.getBody() != null) {
+                addStatements(callable.getBody());
+            }
+        }
+
+        private void addParameter(TsParameter parameter) {
+            if (parameter.getTsType() != null) {
+                addType(parameter.getTsType());
+            }
+        }
+
+        private void addDecorators(List<TsDecorator> decorators) {
+            for (TsDecorator decorator : decorators) {
+                addExpression(decorator.getIdentifierReference());
+                decorator.getArguments().forEach(this::addExpression);
+            }
+        }
+
+        public void addType(TsType type) {
+            TsType.transformTsType(new TsType.Context(), type, (context, tsType) -> {
+                if (tsType instanceof TsType.ReferenceType) {
+                    consumer.accept(((TsType.ReferenceType) tsType).symbol);
+                }
+                return tsType;
+            });
+        }
+
+        private void addStatements(List<TsStatement> statements) {
+            for (TsStatement statement : statements) {
+                if (statement instanceof TsReturnStatement) {
+                    final TsExpression expression = ((TsReturnStatement) statement).getExpression();
+                    if (expression != null) {
+                        addExpression(expression);
+                    }
+                } else if (statement instanceof TsIfStatement) {
+                    final TsIfStatement ifStatement = (TsIfStatement) statement;
+                    addExpression(ifStatement.getExpression());
+                    addStatements(ifStatement.getThenStatements());
+                    if (ifStatement.getElseStatements() != null) {
+                        addStatements(ifStatement.getElseStatements());
+                    }
+                } else if (statement instanceof TsExpressionStatement) {
+                    addExpression(((TsExpressionStatement) statement).getExpression());
+                } else if (statement instanceof TsVariableDeclarationStatement) {
+                    final TsVariableDeclarationStatement declaration = (TsVariableDeclarationStatement) statement;
+                    if (declaration.getType() != null) {
+                        addType(declaration.getType());
+                    }
+                    if (declaration.getInitializer() != null) {
+                        addExpression(declaration.getInitializer());
+                    }
+                } else if (statement instanceof TsSwitchStatement) {
+                    final TsSwitchStatement switchStatement = (TsSwitchStatement) statement;
+                    addExpression(switchStatement.getExpression());
+                    for (TsSwitchCaseClause caseClause : switchStatement.getCaseClauses()) {
+                        addExpression(caseClause.getExpression());
+                        addStatements(caseClause.getStatements());
+                    }
+                    if (switchStatement.getDefaultClause() != null) {
+                        addStatements(switchStatement.getDefaultClause());
+                    }
+                }
+            }
+        }
+
+        private void addExpression(TsExpression expression) {
+            if (expression instanceof TsTypeReferenceExpression) {
+                addType(((TsTypeReferenceExpression) expression).getType());
+            } else if (expression instanceof TsIdentifierReference) {
+                // identifiers can reference declarations by name (for example static methods)
+                final Symbol symbol = declarationsByName.get(((TsIdentifierReference) expression).getIdentifier());
+                if (symbol != null) {
+                    consumer.accept(symbol);
+                }
+            } else if (expression instanceof TsArrowFunction) {
+                final TsArrowFunction arrowFunction = (TsArrowFunction) expression;
+                arrowFunction.getParameters().forEach(this::addParameter);
+                addExpression(arrowFunction.getExpression());
+            } else if (expression instanceof TsAssignmentExpression) {
+                final TsAssignmentExpression assignment = (TsAssignmentExpression) expression;
+                addExpression(assignment.getLeftHandSideExpression());
+                addExpression(assignment.getAssignmentExpression());
+            } else if (expression instanceof TsBinaryExpression) {
+                final TsBinaryExpression binary = (TsBinaryExpression) expression;
+                addExpression(binary.getLeft());
+                addExpression(binary.getRight());
+            } else if (expression instanceof TsCallExpression) {
+                final TsCallExpression call = (TsCallExpression) expression;
+                addExpression(call.getExpression());
+                call.getTypeArguments().forEach(this::addType);
+                call.getArguments().forEach(this::addExpression);
+            } else if (expression instanceof TsNewExpression) {
+                final TsNewExpression newExpression = (TsNewExpression) expression;
+                addExpression(newExpression.getExpression());
+                newExpression.getTypeArguments().forEach(this::addType);
+                newExpression.getArguments().forEach(this::addExpression);
+            } else if (expression instanceof TsMemberExpression) {
+                addExpression(((TsMemberExpression) expression).getExpression());
+            } else if (expression instanceof TsObjectLiteral) {
+                for (TsPropertyDefinition propertyDefinition : ((TsObjectLiteral) expression).getPropertyDefinitions()) {
+                    addExpression(propertyDefinition.getExpression());
+                }
+            } else if (expression instanceof TsPrefixUnaryExpression) {
+                addExpression(((TsPrefixUnaryExpression) expression).getOperand());
+            } else if (expression instanceof TsTemplateLiteral) {
+                if (expression instanceof TsTaggedTemplateLiteral) {
+                    addExpression(((TsTaggedTemplateLiteral) expression).getTagFunction());
+                }
+                ((TsTemplateLiteral) expression).getSpans().forEach(this::addExpression);
+            }
+        }
+
+    }
+
+}
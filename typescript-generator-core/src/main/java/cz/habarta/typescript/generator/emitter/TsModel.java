@@ -4,64 +4,80 @@ package cz.habarta.typescript.generator.emitter;
 import cz.habarta.typescript.generator.compiler.EnumKind;
 import cz.habarta.typescript.generator.compiler.Symbol;
 import cz.habarta.typescript.generator.util.Utils;
+import java.util.AbstractList;
 import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
+import java.util.RandomAccess;
+import java.util.function.Function;
 import org.jspecify.annotations.Nullable;
 
 
 public class TsModel {
 
-    private final List<TsBeanModel> beans;
+    private final TrackedList<TsBeanModel> beans;
     private final List<TsEnumModel> enums;
     private final List<TsEnumModel> originalStringEnums;
-    private final List<TsAliasModel> typeAliases;
+    private final TrackedList<TsAliasModel> typeAliases;
     private final List<TsHelper> helpers;
+    // lazily built indexes, passed to copies (index is rebuilt only if copy has different or modified list)
+    private @Nullable Index<Class<?>, TsBeanModel> beansByOrigin;
+    private @Nullable Index<Symbol, TsBeanModel> beansByName;
+    private @Nullable Index<Class<?>, TsAliasModel> typeAliasesByOrigin;
 
     public TsModel() {
         this(new ArrayList<TsBeanModel>(), new ArrayList<TsEnumModel>(), new ArrayList<TsEnumModel>(), new ArrayList<TsAliasModel>(), new ArrayList<TsHelper>());
     }
 
     public TsModel(List<TsBeanModel> beans, List<TsEnumModel> enums, List<TsEnumModel> originalStringEnums, List<TsAliasModel> typeAliases, List<TsHelper> helpers) {
-        this.beans = Objects.requireNonNull(beans);
+        this.beans = TrackedList.of(Objects.requireNonNull(beans));
         this.enums = Objects.requireNonNull(enums);
         this.originalStringEnums = originalStringEnums;
-        this.typeAliases = Objects.requireNonNull(typeAliases);
+        this.typeAliases = TrackedList.of(Objects.requireNonNull(typeAliases));
         this.helpers = helpers;
     }
 
+    private TsModel(List<TsBeanModel> beans, List<TsEnumModel> enums, List<TsEnumModel> originalStringEnums, List<TsAliasModel> typeAliases, List<TsHelper> helpers,
+        TsModel indexesSource) {
+        this(beans, enums, originalStringEnums, typeAliases, helpers);
+        this.beansByOrigin = indexesSource.beansByOrigin;
+        this.beansByName = indexesSource.beansByName;
+        this.typeAliasesByOrigin = indexesSource.typeAliasesByOrigin;
+    }
+
     public List<TsBeanModel> getBeans() {
         return beans;
     }
 
     public @Nullable TsBeanModel getBean(@Nullable Class<?> origin) {
         if (origin != null) {
-            for (TsBeanModel bean : beans) {
-                if (Objects.equals(bean.getOrigin(), origin)) {
-                    return bean;
-                }
-            }
+            final Index<Class<?>, TsBeanModel> index = Index.update(beansByOrigin, beans, TsBeanModel::getOrigin);
+            beansByOrigin = index;
+            return index.map.get(origin);
         }
         return null;
     }
 
     public @Nullable TsBeanModel getBean(@Nullable Symbol name) {
         if (name != null) {
-            for (TsBeanModel bean : beans) {
-                if (Objects.equals(bean.getName(), name)) {
-                    return bean;
-                }
-            }
+            final Index<Symbol, TsBeanModel> index = Index.update(beansByName, beans, TsBeanModel::getName);
+            beansByName = index;
+            return index.map.get(name);
         }
         return null;
     }
 
     public TsModel withBeans(List<TsBeanModel> beans) {
-        return new TsModel(beans, enums, originalStringEnums, typeAliases, helpers);
+        return new TsModel(beans, enums, originalStringEnums, typeAliases, helpers, this);
     }
 
     public TsModel withoutBeans(List<TsBeanModel> beans) {
-        return new TsModel(Utils.removeAll(this.beans, beans), enums, originalStringEnums, typeAliases, helpers);
+        return new TsModel(Utils.removeAll(this.beans, beans), enums, originalStringEnums, typeAliases, helpers, this);
     }
 
     public List<TsEnumModel> getEnums() {
@@ -79,15 +95,15 @@ public class TsModel {
     }
 
     public TsModel withEnums(List<TsEnumModel> enums) {
-        return new TsModel(beans, enums, originalStringEnums, typeAliases, helpers);
+        return new TsModel(beans, enums, originalStringEnums, typeAliases, helpers, this);
     }
 
     public TsModel withAddedEnums(List<TsEnumModel> enums) {
-        return new TsModel(beans, Utils.concatToNonNull(this.enums, enums), originalStringEnums, typeAliases, helpers);
+        return new TsModel(beans, Utils.concatToNonNull(this.enums, enums), originalStringEnums, typeAliases, helpers, this);
     }
 
     public TsModel withRemovedEnums(List<TsEnumModel> enums) {
-        return new TsModel(beans, Utils.removeAll(this.enums, enums), originalStringEnums, typeAliases, helpers);
+        return new TsModel(beans, Utils.removeAll(this.enums, enums), originalStringEnums, typeAliases, helpers, this);
     }
 
     public List<TsEnumModel> getOriginalStringEnums() {
@@ -95,7 +111,7 @@ public class TsModel {
     }
 
     public TsModel withOriginalStringEnums(List<TsEnumModel> originalStringEnums) {
-        return new TsModel(beans, enums, originalStringEnums, typeAliases, helpers);
+        return new TsModel(beans, enums, originalStringEnums, typeAliases, helpers, this);
     }
 
     public List<TsAliasModel> getTypeAliases() {
@@ -104,29 +120,139 @@ public class TsModel {
 
     public @Nullable TsAliasModel getTypeAlias(@Nullable Class<?> origin) {
         if (origin != null) {
-            for (TsAliasModel alias : typeAliases) {
-                if (Objects.equals(alias.getOrigin(), origin)) {
-                    return alias;
-                }
-            }
+            final Index<Class<?>, TsAliasModel> index = Index.update(typeAliasesByOrigin, typeAliases, TsAliasModel::getOrigin);
+            typeAliasesByOrigin = index;
+            return index.map.get(origin);
         }
         return null;
     }
 
     public TsModel withTypeAliases(List<TsAliasModel> typeAliases) {
-        return new TsModel(beans, enums, originalStringEnums, typeAliases, helpers);
+        return new TsModel(beans, enums, originalStringEnums, typeAliases, helpers, this);
     }
 
     public TsModel withAddedTypeAliases(List<TsAliasModel> typeAliases) {
-        return new TsModel(beans, enums, originalStringEnums, Utils.concatToNonNull(this.typeAliases, typeAliases), helpers);
+        return new TsModel(beans, enums, originalStringEnums, Utils.concatToNonNull(this.typeAliases, typeAliases), helpers, this);
     }
 
     public TsModel withRemovedTypeAliases(List<TsAliasModel> typeAliases) {
-        return new TsModel(beans, enums, originalStringEnums, Utils.removeAll(this.typeAliases, typeAliases), helpers);
+        return new TsModel(beans, enums, originalStringEnums, Utils.removeAll(this.typeAliases, typeAliases), helpers, this);
     }
 
     public List<TsHelper> getHelpers() {
         return helpers;
     }
 
+    /**
+     * Immutable map from key to first item with that key.
+     * Lists in model are sometimes modified in place so index is rebuilt when list changes.
+     */
+    private static class Index<K, V> {
+        private final TrackedList<V> items;
+        private final int modificationCount;
+        private final int size;
+        public final Map<K, V> map;
+
+        private Index(TrackedList<V> items, Function<V, @Nullable K> keyFunction) {
+            final Map<K, V> map = new HashMap<>();
+            for (V item : items) {
+                final K key = keyFunction.apply(item);
+                if (key != null) {
+                    map.putIfAbsent(key, item);
+                }
+            }
+            this.items = items;
+            this.modificationCount = items.getModificationCount();
+            this.size = items.size();
+            this.map = Collections.unmodifiableMap(map);
+        }
+
+        public static <K, V> Index<K, V> update(@Nullable Index<K, V> index, TrackedList<V> items, Function<V, @Nullable K> keyFunction) {
+            return index != null && index.isValidFor(items) ? index : new Index<>(items, keyFunction);
+        }
+
+        private boolean isValidFor(TrackedList<V> items) {
+            return this.items == items && this.modificationCount == items.getModificationCount() && this.size == items.size();
+        }
+    }
+
+    /**
+     * View of list passed to model which counts modifications made through it (including its sub-lists), used for detecting stale indexes.
+     * Passed list is not copied, modifications made directly to it are detected only if they change its size.
+     */
+    private static class TrackedList<E> extends AbstractList<E> implements RandomAccess {
+        private final List<E> items;
+        private int modificationCount = 0;
+
+        private TrackedList(List<E> items) {
+            this.items = items;
+        }
+
+        public static <E> TrackedList<E> of(List<E> items) {
+            return items instanceof TrackedList<E> trackedList ? trackedList : new TrackedList<>(items);
+        }
+
+        public int getModificationCount() {
+            return modificationCount;
+        }
+
+        private void modified() {
+            modCount++;
+            modificationCount++;
+        }
+
+        @Override
+        public E get(int index) {
+            return items.get(index);
+        }
+
+        @Override
+        public int size() {
+            return items.size();
+        }
+
+        @Override
+        public E set(int index, E element) {
+            modificationCount++;
+            return items.set(index, element);
+        }
+
+        @Override
+        public void add(int index, E element) {
+            modified();
+            items.add(index, element);
+        }
+
+        @Override
+        public boolean addAll(Collection<? extends E> c) {
+            modified();
+            return items.addAll(c);
+        }
+
+        @Override
+        public E remove(int index) {
+            modified();
+            return items.remove(index);
+        }
+
+        @Override
+        public void clear() {
+            modified();
+            items.clear();
+        }
+
+        // used by sub-lists
+        @Override
+        protected void removeRange(int fromIndex, int toIndex) {
+            modified();
+            items.subList(fromIndex, toIndex).clear();
+        }
+
+        @Override
+        public void sort(@Nullable Comparator<? super E> c) {
+            modified();
+            items.sort(c);
+        }
+    }
+
 }
@@ -2,6 +2,7 @@
 package cz.habarta.typescript.generator.parser;
 
 import cz.habarta.typescript.generator.compiler.EnumMemberModel;
+import cz.habarta.typescript.generator.util.AnnotationCache;
 import cz.habarta.typescript.generator.util.DeprecationUtils;
 import cz.habarta.typescript.generator.util.Utils;
 import java.lang.reflect.AnnotatedElement;
@@ -20,7 +21,7 @@ public class DeprecationEnricher {
         final List<BeanModel> beans = mapList(model.getBeans(), this::enrichBean);
         final List<EnumModel> enums = mapList(model.getEnums(), this::enrichEnum);
         final List<RestApplicationModel> restApplications = mapList(model.getRestApplications(), this::enrichRestApplication);
-        return new Model(beans, enums, restApplications);
+        return new Model(beans, enums, restApplications, model.getDependentClasses());
     }
 
     private BeanModel enrichBean(BeanModel bean) {
@@ -79,11 +80,12 @@ public class DeprecationEnricher {
     }
 
     private static @Nullable List<String> addDeprecation(@Nullable List<String> comments, @Nullable AnnotatedElement annotatedElement) {
-        if (annotatedElement == null || !annotatedElement.isAnnotationPresent(Deprecated.class) || containsDeprecatedTag(comments)) {
+        final Deprecated deprecated = AnnotationCache.getAnnotation(annotatedElement, Deprecated.class);
+        if (deprecated == null || containsDeprecatedTag(comments)) {
             return comments;
         }
 
-        String deprecatedComment = DeprecationUtils.convertToComment(annotatedElement.getAnnotation(Deprecated.class));
+        String deprecatedComment = DeprecationUtils.convertToComment(deprecated);
         return Utils.concatToNullable(comments, Collections.singletonList(deprecatedComment));
     }
 
@@ -17,18 +17,23 @@ import com.fasterxml.jackson.core.type.TypeReference;
 import com.fasterxml.jackson.databind.AnnotationIntrospector;
 import com.fasterxml.jackson.databind.BeanDescription;
 import com.fasterxml.jackson.databind.BeanProperty;
+import com.fasterxml.jackson.databind.DeserializationConfig;
 import com.fasterxml.jackson.databind.DeserializationContext;
 import com.fasterxml.jackson.databind.DeserializationFeature;
 import com.fasterxml.jackson.databind.JavaType;
 import com.fasterxml.jackson.databind.JsonDeserializer;
 import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.JsonSerializable;
 import com.fasterxml.jackson.databind.JsonSerializer;
+import com.fasterxml.jackson.databind.MapperFeature;
 import com.fasterxml.jackson.databind.Module;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.fasterxml.jackson.databind.SerializationConfig;
 import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.databind.annotation.JsonAppend;
 import com.fasterxml.jackson.databind.annotation.JsonDeserialize;
 import com.fasterxml.jackson.databind.annotation.JsonSerialize;
+import com.fasterxml.jackson.databind.cfg.MapperConfig;
 import com.fasterxml.jackson.databind.cfg.MutableConfigOverride;
 import com.fasterxml.jackson.databind.deser.BeanDeserializer;
 import com.fasterxml.jackson.databind.deser.BeanDeserializerFactory;
@@ -36,7 +41,13 @@ import com.fasterxml.jackson.databind.deser.CreatorProperty;
 import com.fasterxml.jackson.databind.deser.DefaultDeserializationContext;
 import com.fasterxml.jackson.databind.deser.impl.BeanPropertyMap;
 import com.fasterxml.jackson.databind.introspect.AnnotatedClass;
+import com.fasterxml.jackson.databind.introspect.AnnotatedField;
+import com.fasterxml.jackson.databind.introspect.AnnotatedMember;
+import com.fasterxml.jackson.databind.introspect.AnnotatedMethod;
+import com.fasterxml.jackson.databind.introspect.AnnotatedParameter;
 import com.fasterxml.jackson.databind.introspect.AnnotationIntrospectorPair;
+import com.fasterxml.jackson.databind.introspect.BeanPropertyDefinition;
+import com.fasterxml.jackson.databind.introspect.ObjectIdInfo;
 import com.fasterxml.jackson.databind.jsontype.NamedType;
 import com.fasterxml.jackson.databind.jsontype.SubtypeResolver;
 import com.fasterxml.jackson.databind.jsontype.TypeIdResolver;
@@ -46,6 +57,8 @@ import com.fasterxml.jackson.databind.ser.BeanSerializer;
 import com.fasterxml.jackson.databind.ser.BeanSerializerFactory;
 import com.fasterxml.jackson.databind.ser.DefaultSerializerProvider;
 import com.fasterxml.jackson.databind.type.TypeFactory;
+import com.fasterxml.jackson.databind.util.ClassUtil;
+import com.fasterxml.jackson.databind.util.IgnorePropertiesUtil;
 import com.fasterxml.jackson.module.jakarta.xmlbind.JakartaXmlBindAnnotationIntrospector;
 import cz.habarta.typescript.generator.ExcludingTypeProcessor;
 import cz.habarta.typescript.generator.Jackson2ConfigurationResolved;
@@ -70,11 +83,15 @@ import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.Comparator;
+import java.util.LinkedHashMap;
 import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
 import java.util.function.Predicate;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
@@ -115,7 +132,11 @@ public class Jackson2Parser extends ModelParser {
 
     }
 
-    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final ObjectMapper objectMapper;
+    // polymorphism index, parser is used for one generation
+    private final Map<Class<?>, Pair<@Nullable Class<?>, @Nullable JsonTypeInfo>> jsonTypeInfos = new ConcurrentHashMap<>();
+    private final Map<Class<?>, TaggedUnionIndex> taggedUnionIndexes = new ConcurrentHashMap<>();
+    private final Map<Class<?>, Boolean> ignorableTypes = new ConcurrentHashMap<>();
 
     public Jackson2Parser(Settings settings, TypeProcessor typeProcessor) {
         this(settings, typeProcessor, Collections.emptyList(), false);
@@ -123,6 +144,33 @@ public class Jackson2Parser extends ModelParser {
 
     public Jackson2Parser(Settings settings, TypeProcessor commonTypeProcessor, List<RestApplicationParser> restApplicationParsers, boolean useJaxbAnnotations) {
         super(settings, commonTypeProcessor, restApplicationParsers);
+        this.objectMapper = ObjectMapperCache.get(settings.classLoader, getObjectMapperKey(settings, useJaxbAnnotations),
+            () -> createObjectMapper(settings, useJaxbAnnotations));
+    }
+
+    private static List<?> getObjectMapperKey(Settings settings, boolean useJaxbAnnotations) {
+        final Jackson2ConfigurationResolved config = settings.jackson2Configuration;
+        return Arrays.asList(
+            Jackson2Parser.class.getName(),
+            settings.jackson2ModuleDiscovery,
+            settings.jackson2Modules.stream().map(Class::getName).collect(Collectors.toList()),
+            useJaxbAnnotations,
+            config != null,
+            config != null ? config.fieldVisibility : null,
+            config != null ? config.getterVisibility : null,
+            config != null ? config.isGetterVisibility : null,
+            config != null ? config.setterVisibility : null,
+            config != null ? config.creatorVisibility : null,
+            config != null && config.shapeConfigOverrides != null
+                ? config.shapeConfigOverrides.entrySet().stream()
+                    .collect(Collectors.toMap(entry -> entry.getKey().getName(), Map.Entry::getValue))
+                : null,
+            config != null && config.enumsUsingToString
+        );
+    }
+
+    private static ObjectMapper createObjectMapper(Settings settings, boolean useJaxbAnnotations) {
+        final ObjectMapper objectMapper = new ObjectMapper();
         if (settings.jackson2ModuleDiscovery) {
             objectMapper.registerModules(ObjectMapper.findModules(settings.classLoader));
         }
@@ -141,29 +189,30 @@ public class Jackson2Parser extends ModelParser {
         }
         final Jackson2ConfigurationResolved config = settings.jackson2Configuration;
         if (config != null) {
-            setVisibility(PropertyAccessor.FIELD, config.fieldVisibility);
-            setVisibility(PropertyAccessor.GETTER, config.getterVisibility);
-            setVisibility(PropertyAccessor.IS_GETTER, config.isGetterVisibility);
-            setVisibility(PropertyAccessor.SETTER, config.setterVisibility);
-            setVisibility(PropertyAccessor.CREATOR, config.creatorVisibility);
+            setVisibility(objectMapper, PropertyAccessor.FIELD, config.fieldVisibility);
+            setVisibility(objectMapper, PropertyAccessor.GETTER, config.getterVisibility);
+            setVisibility(objectMapper, PropertyAccessor.IS_GETTER, config.isGetterVisibility);
+            setVisibility(objectMapper, PropertyAccessor.SETTER, config.setterVisibility);
+            setVisibility(objectMapper, PropertyAccessor.CREATOR, config.creatorVisibility);
             if (config.shapeConfigOverrides != null) {
                 config.shapeConfigOverrides.entrySet()
-                    .forEach(entry -> setShapeOverride(entry.getKey(), entry.getValue()));
+                    .forEach(entry -> setShapeOverride(objectMapper, entry.getKey(), entry.getValue()));
             }
             if (config.enumsUsingToString) {
                 objectMapper.enable(SerializationFeature.WRITE_ENUMS_USING_TO_STRING);
                 objectMapper.enable(DeserializationFeature.READ_ENUMS_USING_TO_STRING);
             }
         }
+        return objectMapper;
     }
 
-    private void setVisibility(PropertyAccessor accessor, JsonAutoDetect.@Nullable Visibility visibility) {
+    private static void setVisibility(ObjectMapper objectMapper, PropertyAccessor accessor, JsonAutoDetect.@Nullable Visibility visibility) {
         if (visibility != null) {
             objectMapper.setVisibility(accessor, visibility);
         }
     }
 
-    private void setShapeOverride(Class<?> cls, JsonFormat.Shape shape) {
+    private static void setShapeOverride(ObjectMapper objectMapper, Class<?> cls, JsonFormat.Shape shape) {
         final MutableConfigOverride configOverride = objectMapper.configOverride(cls);
         configOverride.setFormat(
             JsonFormat.Value.merge(
@@ -175,6 +224,12 @@ public class Jackson2Parser extends ModelParser {
         return new TypeProcessor.Chain(
             new ExcludingTypeProcessor(Arrays.asList(JsonNode.class.getName())),
             new TypeProcessor() {
+                @Override
+                public boolean isCacheable() {
+                    // result depends only on type and type context (see JacksonTypeContext)
+                    return true;
+                }
+
                 @Override
                 public TypeProcessor.@Nullable Result processType(Type javaType, TypeProcessor.Context context) {
                     if (context.getTypeContext() instanceof Jackson2TypeContext) {
@@ -229,15 +284,14 @@ public class Jackson2Parser extends ModelParser {
         );
     }
 
-    private static class Jackson2TypeContext {
-        public final Jackson2Parser parser;
-        public final BeanProperty beanProperty;
-        public final boolean disableObjectIdentityFeature;
-
+    private static class Jackson2TypeContext extends JacksonTypeContext<Jackson2Parser, BeanProperty> {
         public Jackson2TypeContext(Jackson2Parser parser, BeanProperty beanProperty, boolean disableObjectIdentityFeature) {
-            this.parser = parser;
-            this.beanProperty = beanProperty;
-            this.disableObjectIdentityFeature = disableObjectIdentityFeature;
+            super(parser, beanProperty, getMember(beanProperty), beanProperty.getName(), beanProperty.getType(), disableObjectIdentityFeature);
+        }
+
+        private static @Nullable Member getMember(BeanProperty beanProperty) {
+            final AnnotatedMember annotatedMember = beanProperty.getMember();
+            return annotatedMember != null ? annotatedMember.getMember() : null;
         }
     }
 
@@ -304,13 +358,13 @@ public class Jackson2Parser extends ModelParser {
             final JsonTypeInfo jsonTypeInfo = classWithJsonTypeInfo.getValue2();
             discriminantProperty = getDiscriminantPropertyName(jsonTypeInfo);
             syntheticDiscriminantProperty = isDiscriminantPropertySynthetic(jsonTypeInfo);
-            discriminantLiteral = isInterfaceOrAbstract(sourceClass.type) ? null : getTypeName(sourceClass.type);
-        } else if (isTaggedUnion(parentClassWithJsonTypeInfo = getAnnotationRecursive(sourceClass.type, JsonTypeInfo.class)) && parentClassWithJsonTypeInfo.getValue2() != null) {
+            discriminantLiteral = isInterfaceOrAbstract(sourceClass.type) ? null : getTypeName(sourceClass.type, sourceClass.type, jsonTypeInfo);
+        } else if (isTaggedUnion(parentClassWithJsonTypeInfo = getJsonTypeInfoRecursive(sourceClass.type)) && parentClassWithJsonTypeInfo.getValue2() != null) {
             // this is child class
             final JsonTypeInfo parentJsonTypeInfo = parentClassWithJsonTypeInfo.getValue2();
             discriminantProperty = getDiscriminantPropertyName(parentJsonTypeInfo);
             syntheticDiscriminantProperty = isDiscriminantPropertySynthetic(parentJsonTypeInfo);
-            discriminantLiteral = getTypeName(sourceClass.type);
+            discriminantLiteral = getTypeName(sourceClass.type, Objects.requireNonNull(parentClassWithJsonTypeInfo.getValue1()), parentJsonTypeInfo);
         } else {
             // not part of explicit hierarchy
             discriminantProperty = null;
@@ -356,6 +410,10 @@ public class Jackson2Parser extends ModelParser {
         if (beanProperty instanceof CreatorProperty) {
             final CreatorProperty creatorProperty = (CreatorProperty) beanProperty;
             return creatorProperty.getCreatorIndex();
+        } else if (beanProperty.getMember() instanceof AnnotatedParameter) {
+            // from lightweight introspection
+            final AnnotatedParameter parameter = (AnnotatedParameter) beanProperty.getMember();
+            return parameter.getIndex();
         } else {
             return null;
         }
@@ -437,6 +495,64 @@ public class Jackson2Parser extends ModelParser {
             : jsonTypeInfo.property();
     }
 
+    /**
+     * Subtypes and type names of one tagged union hierarchy resolved once for its root
+     * (class annotated with <code>@JsonTypeInfo</code>) instead of resolving whole hierarchy for each class.
+     */
+    private static class TaggedUnionIndex {
+        public final List<NamedType> subtypes; // including root
+        public final Set<Class<?>> classes;
+        public final Map<Class<?>, String> typeNames; // explicit type ids or default type ids of concrete classes
+
+        public TaggedUnionIndex(List<NamedType> subtypes, Function<Class<?>, @Nullable String> ownTypeName) {
+            this.subtypes = subtypes;
+            this.classes = subtypes.stream().map(NamedType::getType).collect(Collectors.toSet());
+            this.typeNames = new LinkedHashMap<>();
+            for (NamedType subtype : subtypes) {
+                // `@JsonTypeName` on subtype has precedence over name in `@JsonSubTypes`
+                final String typeName = ownTypeName.apply(subtype.getType());
+                if (typeName != null && !typeName.isEmpty()) {
+                    typeNames.putIfAbsent(subtype.getType(), typeName);
+                }
+            }
+            for (NamedType subtype : subtypes) {
+                if (subtype.hasName()) {
+                    typeNames.putIfAbsent(subtype.getType(), subtype.getName());
+                }
+            }
+            for (NamedType subtype : subtypes) {
+                if (!isInterfaceOrAbstract(subtype.getType())) {
+                    // the same default as in Jackson `TypeNameIdResolver`
+                    final String className = subtype.getType().getName();
+                    typeNames.putIfAbsent(subtype.getType(), className.substring(className.lastIndexOf('.') + 1));
+                }
+            }
+        }
+
+    }
+
+    private TaggedUnionIndex getTaggedUnionIndex(Class<?> root) {
+        final TaggedUnionIndex index = taggedUnionIndexes.get(root);
+        if (index != null) {
+            return index;
+        }
+        final SerializationConfig config = objectMapper.getSerializationConfig();
+        final TaggedUnionIndex newIndex = new TaggedUnionIndex(getSubtypesFromResolver(root),
+            cls -> config.getAnnotationIntrospector().findTypeName(config.introspectClassAnnotations(cls).getClassInfo()));
+        final TaggedUnionIndex previousIndex = taggedUnionIndexes.putIfAbsent(root, newIndex);
+        return previousIndex != null ? previousIndex : newIndex;
+    }
+
+    private @Nullable String getTypeName(Class<?> cls, Class<?> root, JsonTypeInfo rootJsonTypeInfo) {
+        if (rootJsonTypeInfo.use() == JsonTypeInfo.Id.NAME) {
+            final TaggedUnionIndex index = getTaggedUnionIndex(root);
+            if (index.classes.contains(cls)) {
+                return index.typeNames.get(cls);
+            }
+        }
+        return getTypeName(cls);
+    }
+
     private @Nullable String getTypeName(Class<?> cls) {
         try {
             final SerializationConfig config = objectMapper.getSerializationConfig();
@@ -472,7 +588,7 @@ public class Jackson2Parser extends ModelParser {
     }
 
     private Optional<List<Class<?>>> getSubClassesFromResolver(Class<?> cls) {
-        final List<NamedType> subtypes = getSubtypesFromResolver(cls);
+        final List<NamedType> subtypes = getTaggedUnionIndex(cls).subtypes;
         final List<Class<?>> subClasses = subtypes.stream()
             .map(subtype -> subtype.getType())
             .filter(subClass -> !Objects.equals(subClass, cls))
@@ -497,10 +613,41 @@ public class Jackson2Parser extends ModelParser {
         return new ArrayList<>(subtypes);
     }
 
-    private boolean isInterfaceOrAbstract(Class<?> cls) {
+    private static boolean isInterfaceOrAbstract(Class<?> cls) {
         return cls.isInterface() || Modifier.isAbstract(cls.getModifiers());
     }
 
+    /**
+     * Memoized {@link #getAnnotationRecursive(Class, Class)} for <code>@JsonTypeInfo</code>, classes of one hierarchy share results of supertypes.
+     */
+    private Pair<@Nullable Class<?>, @Nullable JsonTypeInfo> getJsonTypeInfoRecursive(@Nullable Class<?> cls) {
+        if (cls == null) {
+            return Pair.of(null, null);
+        }
+        final Pair<@Nullable Class<?>, @Nullable JsonTypeInfo> cached = jsonTypeInfos.get(cls);
+        if (cached != null) {
+            return cached;
+        }
+        Pair<@Nullable Class<?>, @Nullable JsonTypeInfo> result = Pair.of(null, null);
+        final JsonTypeInfo annotation = cls.getAnnotation(JsonTypeInfo.class);
+        if (annotation != null) {
+            result = Pair.of(cls, annotation);
+        } else {
+            for (Class<?> aInterface : cls.getInterfaces()) {
+                final Pair<@Nullable Class<?>, @Nullable JsonTypeInfo> classWithAnnotation = getJsonTypeInfoRecursive(aInterface);
+                if (classWithAnnotation.getValue2() != null) {
+                    result = classWithAnnotation;
+                    break;
+                }
+            }
+            if (result.getValue2() == null) {
+                result = getJsonTypeInfoRecursive(cls.getSuperclass());
+            }
+        }
+        jsonTypeInfos.put(cls, result);
+        return result;
+    }
+
     private static <T extends Annotation> Pair<@Nullable Class<?>, @Nullable T> getAnnotationRecursive(
         Class<?> cls,
         Class<T> annotationClass
@@ -541,14 +688,171 @@ public class Jackson2Parser extends ModelParser {
             return null;
         }
         final JavaType javaType = objectMapper.constructType(beanClass);
+        if (settings.jackson2Configuration != null && settings.jackson2Configuration.lightweightBeanIntrospection) {
+            final BeanHelpers beanHelpers = introspectBeanHelpers(beanClass, view, javaType);
+            if (beanHelpers != null) {
+                return beanHelpers;
+            }
+        }
         final BeanSerializerHelper beanSerializerHelper = createBeanSerializerHelper(javaType);
         final BeanDeserializerHelper beanDeserializerHelper = createBeanDeserializerHelper(javaType);
         if (beanSerializerHelper != null || beanDeserializerHelper != null) {
-            return new BeanHelpers(beanClass, view, beanSerializerHelper, beanDeserializerHelper);
+            return new BeanHelpers(beanClass, view,
+                beanSerializerHelper != null ? Arrays.asList(beanSerializerHelper.getProps()) : Collections.emptyList(),
+                beanDeserializerHelper != null ? Arrays.asList(beanDeserializerHelper.getBeanProperties().getPropertiesInInsertionOrder()) : Collections.emptyList());
         }
         return null;
     }
 
+    /**
+     * Collects the same properties as serializer and deserializer would have
+     * but only from {@link BeanDescription}s, without constructing serializer and deserializer.
+     * @return <code>null</code> if class is not plain bean and needs to be processed using serializer and deserializer
+     */
+    private @Nullable BeanHelpers introspectBeanHelpers(Class<?> beanClass, @Nullable Class<?> view, JavaType javaType) {
+        if (!isPlainBeanType(javaType)) {
+            return null;
+        }
+        final SerializationConfig serializationConfig = objectMapper.getSerializationConfig();
+        final BeanDescription serializationDescription = serializationConfig.introspect(javaType);
+        if (!isPlainBean(serializationConfig, serializationDescription)) {
+            return null;
+        }
+        final DeserializationConfig deserializationConfig = objectMapper.getDeserializationConfig();
+        final BeanDescription deserializationDescription = deserializationConfig.introspect(javaType);
+        if (javaType.isAbstract()) {
+            if (!deserializationDescription.getConstructorsWithMode().isEmpty() || !deserializationDescription.getFactoryMethodsWithMode().isEmpty()) {
+                // abstract class with creator can be deserializable
+                return null;
+            }
+            return new BeanHelpers(beanClass, view, getSerializableProperties(serializationConfig, serializationDescription), Collections.emptyList());
+        }
+        return new BeanHelpers(beanClass, view,
+            getSerializableProperties(serializationConfig, serializationDescription),
+            getDeserializableProperties(deserializationConfig, deserializationDescription));
+    }
+
+    private static boolean isPlainBeanType(JavaType javaType) {
+        final Class<?> cls = javaType.getRawClass();
+        return !javaType.isContainerType()
+            && !javaType.isReferenceType()
+            && !javaType.isThrowable()
+            && !cls.isEnum()
+            && !Map.Entry.class.isAssignableFrom(cls)
+            && !JsonSerializable.class.isAssignableFrom(cls)
+            && ClassUtil.canBeABeanType(cls) == null
+            && !ClassUtil.isProxyType(cls)
+            && !ClassUtil.isJDKClass(cls)
+            && !cls.getName().startsWith("com.fasterxml.jackson.");
+    }
+
+    private static boolean isPlainBean(SerializationConfig config, BeanDescription beanDescription) {
+        final AnnotationIntrospector annotationIntrospector = config.getAnnotationIntrospector();
+        final AnnotatedClass classInfo = beanDescription.getClassInfo();
+        final JsonFormat.Shape shape = JsonFormat.Value.merge(
+            annotationIntrospector.findFormat(classInfo),
+            config.getDefaultPropertyFormat(beanDescription.getBeanClass())
+        ).getShape();
+        return (shape == JsonFormat.Shape.ANY || shape == JsonFormat.Shape.NATURAL || shape == JsonFormat.Shape.OBJECT)
+            && !classInfo.hasAnnotation(JsonSerialize.class)
+            && !classInfo.hasAnnotation(JsonDeserialize.class)
+            && !classInfo.hasAnnotation(JsonAppend.class)
+            && annotationIntrospector.findSerializer(classInfo) == null
+            && annotationIntrospector.findDeserializer(classInfo) == null
+            && beanDescription.findJsonValueAccessor() == null;
+    }
+
+    // the same properties as in `BeanSerializerFactory.findBeanProperties` and `filterBeanProperties`
+    private List<BeanProperty> getSerializableProperties(SerializationConfig config, BeanDescription beanDescription) {
+        final Set<String> ignored = config.getDefaultPropertyIgnorals(beanDescription.getBeanClass(), beanDescription.getClassInfo()).findIgnoredForSerialization();
+        final Set<String> included = config.getDefaultPropertyInclusions(beanDescription.getBeanClass(), beanDescription.getClassInfo()).getIncluded();
+        final List<BeanProperty> properties = new ArrayList<>();
+        for (BeanPropertyDefinition propertyDefinition : beanDescription.findProperties()) {
+            final AnnotatedMember accessor = propertyDefinition.getAccessor();
+            if (accessor == null
+                || propertyDefinition.isTypeId()
+                || isBackReference(propertyDefinition)
+                || IgnorePropertiesUtil.shouldIgnore(propertyDefinition.getName(), ignored, included)
+                || isIgnorableType(config, propertyDefinition.getRawPrimaryType())) {
+                continue;
+            }
+            properties.add(createBeanProperty(propertyDefinition, accessor, accessor.getType()));
+        }
+        // like `BeanSerializerFactory.constructObjectIdHandler` id property is moved to the first place
+        final ObjectIdInfo objectIdInfo = beanDescription.getObjectIdInfo();
+        if (objectIdInfo != null && objectIdInfo.getGeneratorType() == ObjectIdGenerators.PropertyGenerator.class) {
+            final String idPropertyName = objectIdInfo.getPropertyName().getSimpleName();
+            properties.stream()
+                .filter(property -> property.getName().equals(idPropertyName))
+                .findFirst()
+                .ifPresent(idProperty -> {
+                    properties.remove(idProperty);
+                    properties.add(0, idProperty);
+                });
+        }
+        return properties;
+    }
+
+    // the same properties as in `BeanDeserializerFactory.filterBeanProps` and `addBeanProps`
+    private List<BeanProperty> getDeserializableProperties(DeserializationConfig config, BeanDescription beanDescription) {
+        final Set<String> ignored = config.getDefaultPropertyIgnorals(beanDescription.getBeanClass(), beanDescription.getClassInfo()).findIgnoredForDeserialization();
+        final Set<String> included = config.getDefaultPropertyInclusions(beanDescription.getBeanClass(), beanDescription.getClassInfo()).getIncluded();
+        final boolean useGettersAsSetters = config.isEnabled(MapperFeature.USE_GETTERS_AS_SETTERS);
+        final List<BeanProperty> properties = new ArrayList<>();
+        for (BeanPropertyDefinition propertyDefinition : beanDescription.findProperties()) {
+            if (IgnorePropertiesUtil.shouldIgnore(propertyDefinition.getName(), ignored, included)) {
+                continue;
+            }
+            if (propertyDefinition.hasConstructorParameter()) {
+                final AnnotatedParameter parameter = propertyDefinition.getConstructorParameter();
+                properties.add(createBeanProperty(propertyDefinition, parameter, parameter.getType()));
+            } else if (isIgnorableType(config, propertyDefinition.getRawPrimaryType())) {
+                continue;
+            } else if (propertyDefinition.hasSetter()) {
+                final AnnotatedMethod setter = propertyDefinition.getSetter();
+                properties.add(createBeanProperty(propertyDefinition, setter, setter.getParameterType(0)));
+            } else if (propertyDefinition.hasField()) {
+                final AnnotatedField field = propertyDefinition.getField();
+                properties.add(createBeanProperty(propertyDefinition, field, field.getType()));
+            } else {
+                final AnnotatedMethod getter = propertyDefinition.getGetter();
+                if (getter != null && (useGettersAsSetters && isSetterlessType(getter.getRawType()) || propertyDefinition.getMetadata().getMergeInfo() != null)) {
+                    properties.add(createBeanProperty(propertyDefinition, getter, getter.getType()));
+                }
+            }
+        }
+        return properties;
+    }
+
+    private static BeanProperty createBeanProperty(BeanPropertyDefinition propertyDefinition, AnnotatedMember member, JavaType type) {
+        return new BeanProperty.Std(propertyDefinition.getFullName(), type, propertyDefinition.getWrapperName(), member, propertyDefinition.getMetadata());
+    }
+
+    private static boolean isBackReference(BeanPropertyDefinition propertyDefinition) {
+        final AnnotationIntrospector.ReferenceProperty referenceType = propertyDefinition.findReferenceType();
+        return referenceType != null && referenceType.isBackReference();
+    }
+
+    private static boolean isSetterlessType(Class<?> cls) {
+        return Collection.class.isAssignableFrom(cls) || Map.class.isAssignableFrom(cls);
+    }
+
+    private boolean isIgnorableType(MapperConfig<?> config, @Nullable Class<?> cls) {
+        if (cls == null) {
+            return false;
+        }
+        final Boolean cached = ignorableTypes.get(cls);
+        if (cached != null) {
+            return cached;
+        }
+        final Boolean isIgnoredType = config.getConfigOverride(cls).getIsIgnoredType();
+        final boolean ignorable = isIgnoredType != null
+            ? isIgnoredType
+            : Boolean.TRUE.equals(config.getAnnotationIntrospector().isIgnorableType(config.introspectClassAnnotations(cls).getClassInfo()));
+        ignorableTypes.put(cls, ignorable);
+        return ignorable;
+    }
+
     private @Nullable BeanSerializerHelper createBeanSerializerHelper(JavaType javaType) {
         try {
             final DefaultSerializerProvider.Impl serializerProvider = new DefaultSerializerProvider.Impl()
@@ -589,14 +893,14 @@ public class Jackson2Parser extends ModelParser {
     private static class BeanHelpers {
         public final Class<?> beanClass;
         public final @Nullable Class<?> view;
-        public final @Nullable BeanSerializerHelper serializer;
-        public final @Nullable BeanDeserializerHelper deserializer;
+        public final List<BeanProperty> serializableProperties;
+        public final List<BeanProperty> deserializableProperties;
 
-        public BeanHelpers(Class<?> beanClass, @Nullable Class<?> view, @Nullable BeanSerializerHelper serializer, @Nullable BeanDeserializerHelper deserializer) {
+        public BeanHelpers(Class<?> beanClass, @Nullable Class<?> view, List<BeanProperty> serializableProperties, List<BeanProperty> deserializableProperties) {
             this.beanClass = beanClass;
             this.view = view;
-            this.serializer = serializer;
-            this.deserializer = deserializer;
+            this.serializableProperties = serializableProperties;
+            this.deserializableProperties = deserializableProperties;
         }
 
         public List<BeanProperty> getProperties() {
@@ -615,8 +919,6 @@ public class Jackson2Parser extends ModelParser {
         }
 
         private List<Pair<@Nullable BeanProperty, @Nullable BeanProperty>> getPropertiesPairs() {
-            final List<BeanProperty> serializableProperties = getSerializableProperties();
-            final List<BeanProperty> deserializableProperties = getDeserializableProperties();
             final List<Pair<@Nullable BeanProperty, @Nullable BeanProperty>> properties = Stream
                 .concat(
                     serializableProperties.stream()
@@ -691,18 +993,6 @@ public class Jackson2Parser extends ModelParser {
             final int index = fields.indexOf(property.getMember().getMember());
             return index != -1 ? index : null;
         }
-
-        private List<BeanProperty> getSerializableProperties() {
-            return serializer != null
-                ? Arrays.asList(serializer.getProps())
-                : Collections.emptyList();
-        }
-
-        private List<BeanProperty> getDeserializableProperties() {
-            return deserializer != null
-                ? Arrays.asList(deserializer.getBeanProperties().getPropertiesInInsertionOrder())
-                : Collections.emptyList();
-        }
     }
 
     private static class BeanSerializerHelper extends BeanSerializer {
@@ -36,12 +36,16 @@ import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.Comparator;
+import java.util.LinkedHashMap;
 import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
+import java.util.Set;
 import java.util.Spliterators;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
 import java.util.function.Predicate;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
@@ -51,8 +55,11 @@ import tools.jackson.core.type.TypeReference;
 import tools.jackson.databind.AnnotationIntrospector;
 import tools.jackson.databind.BeanDescription;
 import tools.jackson.databind.BeanProperty;
+import tools.jackson.databind.DatabindContext;
+import tools.jackson.databind.DeserializationConfig;
 import tools.jackson.databind.DeserializationContext;
 import tools.jackson.databind.JacksonModule;
+import tools.jackson.databind.JacksonSerializable;
 import tools.jackson.databind.JavaType;
 import tools.jackson.databind.JsonNode;
 import tools.jackson.databind.MapperFeature;
@@ -61,15 +68,23 @@ import tools.jackson.databind.SerializationConfig;
 import tools.jackson.databind.SerializationContext;
 import tools.jackson.databind.ValueDeserializer;
 import tools.jackson.databind.ValueSerializer;
+import tools.jackson.databind.annotation.JsonAppend;
 import tools.jackson.databind.annotation.JsonDeserialize;
 import tools.jackson.databind.annotation.JsonSerialize;
 import tools.jackson.databind.cfg.EnumFeature;
+import tools.jackson.databind.cfg.MapperConfig;
 import tools.jackson.databind.deser.BeanDeserializerFactory;
 import tools.jackson.databind.deser.CreatorProperty;
 import tools.jackson.databind.deser.bean.BeanDeserializerBase;
 import tools.jackson.databind.introspect.AnnotatedClass;
+import tools.jackson.databind.introspect.AnnotatedField;
+import tools.jackson.databind.introspect.AnnotatedMember;
+import tools.jackson.databind.introspect.AnnotatedMethod;
+import tools.jackson.databind.introspect.AnnotatedParameter;
 import tools.jackson.databind.introspect.AnnotationIntrospectorPair;
+import tools.jackson.databind.introspect.BeanPropertyDefinition;
 import tools.jackson.databind.introspect.ClassIntrospector;
+import tools.jackson.databind.introspect.ObjectIdInfo;
 import tools.jackson.databind.json.JsonMapper;
 import tools.jackson.databind.jsontype.NamedType;
 import tools.jackson.databind.jsontype.SubtypeResolver;
@@ -78,6 +93,8 @@ import tools.jackson.databind.jsontype.TypeSerializer;
 import tools.jackson.databind.ser.BeanSerializerFactory;
 import tools.jackson.databind.ser.bean.BeanSerializerBase;
 import tools.jackson.databind.type.TypeFactory;
+import tools.jackson.databind.util.ClassUtil;
+import tools.jackson.databind.util.IgnorePropertiesUtil;
 import tools.jackson.module.jakarta.xmlbind.JakartaXmlBindAnnotationIntrospector;
 
 
@@ -116,6 +133,13 @@ public class Jackson3Parser extends ModelParser {
     }
 
     private final ObjectMapper objectMapper;
+    // polymorphism index, parser is used for one generation
+    private final Map<Class<?>, Pair<@Nullable Class<?>, @Nullable JsonTypeInfo>> jsonTypeInfos = new ConcurrentHashMap<>();
+    private final Map<Class<?>, TaggedUnionIndex> taggedUnionIndexes = new ConcurrentHashMap<>();
+    private final Map<Class<?>, Boolean> ignorableTypes = new ConcurrentHashMap<>();
+    // contexts used for lightweight bean introspection, they are not thread-safe (removed in afterParsing)
+    private final ThreadLocal<SerializationContext> introspectionSerializationContext;
+    private final ThreadLocal<DeserializationContext> introspectionDeserializationContext;
 
     public Jackson3Parser(Settings settings, TypeProcessor typeProcessor) {
         this(settings, typeProcessor, Collections.emptyList(), false);
@@ -123,7 +147,41 @@ public class Jackson3Parser extends ModelParser {
 
     public Jackson3Parser(Settings settings, TypeProcessor commonTypeProcessor, List<RestApplicationParser> restApplicationParsers, boolean useJaxbAnnotations) {
         super(settings, commonTypeProcessor, restApplicationParsers);
-        JsonMapper.Builder builder = JsonMapper.builder();
+        objectMapper = ObjectMapperCache.get(settings.classLoader, getObjectMapperKey(settings, useJaxbAnnotations),
+            () -> createObjectMapper(settings, useJaxbAnnotations));
+        introspectionSerializationContext = ThreadLocal.withInitial(objectMapper::_serializationContext);
+        introspectionDeserializationContext = ThreadLocal.withInitial(objectMapper::_deserializationContext);
+    }
+
+    @Override
+    protected void afterParsing() {
+        introspectionSerializationContext.remove();
+        introspectionDeserializationContext.remove();
+    }
+
+    private static List<?> getObjectMapperKey(Settings settings, boolean useJaxbAnnotations) {
+        final Jackson3ConfigurationResolved config = settings.jackson3Configuration;
+        return Arrays.asList(
+            Jackson3Parser.class.getName(),
+            settings.jackson3ModuleDiscovery,
+            settings.jackson3Modules.stream().map(Class::getName).collect(Collectors.toList()),
+            useJaxbAnnotations,
+            config != null,
+            config != null ? config.fieldVisibility : null,
+            config != null ? config.getterVisibility : null,
+            config != null ? config.isGetterVisibility : null,
+            config != null ? config.setterVisibility : null,
+            config != null ? config.creatorVisibility : null,
+            config != null && config.shapeConfigOverrides != null
+                ? config.shapeConfigOverrides.entrySet().stream()
+                    .collect(Collectors.toMap(entry -> entry.getKey().getName(), Map.Entry::getValue))
+                : null,
+            config != null && config.enumsUsingToString
+        );
+    }
+
+    private static ObjectMapper createObjectMapper(Settings settings, boolean useJaxbAnnotations) {
+        final JsonMapper.Builder builder = JsonMapper.builder();
         if (settings.jackson3ModuleDiscovery) {
             builder.findAndAddModules(settings.classLoader);
         }
@@ -157,16 +215,16 @@ public class Jackson3Parser extends ModelParser {
             }
         }
         builder.disable(MapperFeature.SORT_PROPERTIES_ALPHABETICALLY);
-        objectMapper = builder.build();
+        return builder.build();
     }
 
-    private void setVisibility(PropertyAccessor accessor, JsonAutoDetect.@Nullable Visibility visibility, JsonMapper.Builder builder) {
+    private static void setVisibility(PropertyAccessor accessor, JsonAutoDetect.@Nullable Visibility visibility, JsonMapper.Builder builder) {
         if (visibility != null) {
             builder.changeDefaultVisibility(vis -> vis.withVisibility(accessor, visibility));
         }
     }
 
-    private void setShapeOverride(Class<?> cls, JsonFormat.Shape shape, JsonMapper.Builder builder) {
+    private static void setShapeOverride(Class<?> cls, JsonFormat.Shape shape, JsonMapper.Builder builder) {
         builder.withConfigOverride(cls,
             ovr -> ovr.setFormat(
                 JsonFormat.Value.merge(
@@ -180,6 +238,12 @@ public class Jackson3Parser extends ModelParser {
         return new TypeProcessor.Chain(
             new ExcludingTypeProcessor(Arrays.asList(JsonNode.class.getName())),
             new TypeProcessor() {
+                @Override
+                public boolean isCacheable() {
+                    // result depends only on type and type context (see JacksonTypeContext)
+                    return true;
+                }
+
                 @Override
                 public TypeProcessor.@Nullable Result processType(Type javaType, TypeProcessor.Context context) {
                     if (context.getTypeContext() instanceof Jackson3TypeContext) {
@@ -227,15 +291,14 @@ public class Jackson3Parser extends ModelParser {
         );
     }
 
-    private static class Jackson3TypeContext {
-        public final Jackson3Parser parser;
-        public final BeanProperty beanProperty;
-        public final boolean disableObjectIdentityFeature;
-
+    private static class Jackson3TypeContext extends JacksonTypeContext<Jackson3Parser, BeanProperty> {
         public Jackson3TypeContext(Jackson3Parser parser, BeanProperty beanProperty, boolean disableObjectIdentityFeature) {
-            this.parser = parser;
-            this.beanProperty = beanProperty;
-            this.disableObjectIdentityFeature = disableObjectIdentityFeature;
+            super(parser, beanProperty, getMember(beanProperty), beanProperty.getName(), beanProperty.getType(), disableObjectIdentityFeature);
+        }
+
+        private static @Nullable Member getMember(BeanProperty beanProperty) {
+            final AnnotatedMember annotatedMember = beanProperty.getMember();
+            return annotatedMember != null ? annotatedMember.getMember() : null;
         }
     }
 
@@ -302,13 +365,13 @@ public class Jackson3Parser extends ModelParser {
             final JsonTypeInfo jsonTypeInfo = classWithJsonTypeInfo.getValue2();
             discriminantProperty = getDiscriminantPropertyName(jsonTypeInfo);
             syntheticDiscriminantProperty = isDiscriminantPropertySynthetic(jsonTypeInfo);
-            discriminantLiteral = isInterfaceOrAbstract(sourceClass.type) ? null : getTypeName(sourceClass.type);
-        } else if (isTaggedUnion(parentClassWithJsonTypeInfo = getAnnotationRecursive(sourceClass.type, JsonTypeInfo.class)) && parentClassWithJsonTypeInfo.getValue2() != null) {
+            discriminantLiteral = isInterfaceOrAbstract(sourceClass.type) ? null : getTypeName(sourceClass.type, sourceClass.type, jsonTypeInfo);
+        } else if (isTaggedUnion(parentClassWithJsonTypeInfo = getJsonTypeInfoRecursive(sourceClass.type)) && parentClassWithJsonTypeInfo.getValue2() != null) {
             // this is child class
             final JsonTypeInfo parentJsonTypeInfo = parentClassWithJsonTypeInfo.getValue2();
             discriminantProperty = getDiscriminantPropertyName(parentJsonTypeInfo);
             syntheticDiscriminantProperty = isDiscriminantPropertySynthetic(parentJsonTypeInfo);
-            discriminantLiteral = getTypeName(sourceClass.type);
+            discriminantLiteral = getTypeName(sourceClass.type, Objects.requireNonNull(parentClassWithJsonTypeInfo.getValue1()), parentJsonTypeInfo);
         } else {
             // not part of explicit hierarchy
             discriminantProperty = null;
@@ -354,6 +417,10 @@ public class Jackson3Parser extends ModelParser {
         if (beanProperty instanceof CreatorProperty) {
             final CreatorProperty creatorProperty = (CreatorProperty) beanProperty;
             return creatorProperty.getCreatorIndex();
+        } else if (beanProperty.getMember() instanceof AnnotatedParameter) {
+            // from lightweight introspection
+            final AnnotatedParameter parameter = (AnnotatedParameter) beanProperty.getMember();
+            return parameter.getIndex();
         } else {
             return null;
         }
@@ -435,6 +502,65 @@ public class Jackson3Parser extends ModelParser {
             : jsonTypeInfo.property();
     }
 
+    /**
+     * Subtypes and type names of one tagged union hierarchy resolved once for its root
+     * (class annotated with <code>@JsonTypeInfo</code>) instead of resolving whole hierarchy for each class.
+     */
+    private static class TaggedUnionIndex {
+        public final List<NamedType> subtypes; // including root
+        public final Set<Class<?>> classes;
+        public final Map<Class<?>, String> typeNames; // explicit type ids or default type ids of concrete classes
+
+        public TaggedUnionIndex(List<NamedType> subtypes, Function<Class<?>, @Nullable String> ownTypeName) {
+            this.subtypes = subtypes;
+            this.classes = subtypes.stream().map(NamedType::getType).collect(Collectors.toSet());
+            this.typeNames = new LinkedHashMap<>();
+            for (NamedType subtype : subtypes) {
+                // `@JsonTypeName` on subtype has precedence over name in `@JsonSubTypes`
+                final String typeName = ownTypeName.apply(subtype.getType());
+                if (typeName != null && !typeName.isEmpty()) {
+                    typeNames.putIfAbsent(subtype.getType(), typeName);
+                }
+            }
+            for (NamedType subtype : subtypes) {
+                if (subtype.hasName()) {
+                    typeNames.putIfAbsent(subtype.getType(), subtype.getName());
+                }
+            }
+            for (NamedType subtype : subtypes) {
+                if (!isInterfaceOrAbstract(subtype.getType())) {
+                    // the same default as in Jackson `TypeNameIdResolver`
+                    final String className = subtype.getType().getName();
+                    typeNames.putIfAbsent(subtype.getType(), className.substring(className.lastIndexOf('.') + 1));
+                }
+            }
+        }
+
+    }
+
+    private TaggedUnionIndex getTaggedUnionIndex(Class<?> root) {
+        final TaggedUnionIndex index = taggedUnionIndexes.get(root);
+        if (index != null) {
+            return index;
+        }
+        final SerializationConfig config = objectMapper.serializationConfig();
+        final ClassIntrospector classIntrospector = config.classIntrospectorInstance();
+        final TaggedUnionIndex newIndex = new TaggedUnionIndex(getSubtypesFromResolver(root),
+            cls -> config.getAnnotationIntrospector().findTypeName(config, classIntrospector.introspectClassAnnotations(config.constructType(cls))));
+        final TaggedUnionIndex previousIndex = taggedUnionIndexes.putIfAbsent(root, newIndex);
+        return previousIndex != null ? previousIndex : newIndex;
+    }
+
+    private @Nullable String getTypeName(Class<?> cls, Class<?> root, JsonTypeInfo rootJsonTypeInfo) {
+        if (rootJsonTypeInfo.use() == JsonTypeInfo.Id.NAME) {
+            final TaggedUnionIndex index = getTaggedUnionIndex(root);
+            if (index.classes.contains(cls)) {
+                return index.typeNames.get(cls);
+            }
+        }
+        return getTypeName(cls);
+    }
+
     private @Nullable String getTypeName(Class<?> cls) {
         try {
             final SerializationConfig config = objectMapper.serializationConfig();
@@ -471,7 +597,7 @@ public class Jackson3Parser extends ModelParser {
     }
 
     private Optional<List<Class<?>>> getSubClassesFromResolver(Class<?> cls) {
-        final List<NamedType> subtypes = getSubtypesFromResolver(cls);
+        final List<NamedType> subtypes = getTaggedUnionIndex(cls).subtypes;
         final List<Class<?>> subClasses = subtypes.stream()
             .map(subtype -> subtype.getType())
             .filter(subClass -> !Objects.equals(subClass, cls))
@@ -497,10 +623,41 @@ public class Jackson3Parser extends ModelParser {
         return new ArrayList<>(subtypes);
     }
 
-    private boolean isInterfaceOrAbstract(Class<?> cls) {
+    private static boolean isInterfaceOrAbstract(Class<?> cls) {
         return cls.isInterface() || Modifier.isAbstract(cls.getModifiers());
     }
 
+    /**
+     * Memoized {@link #getAnnotationRecursive(Class, Class)} for <code>@JsonTypeInfo</code>, classes of one hierarchy share results of supertypes.
+     */
+    private Pair<@Nullable Class<?>, @Nullable JsonTypeInfo> getJsonTypeInfoRecursive(@Nullable Class<?> cls) {
+        if (cls == null) {
+            return Pair.of(null, null);
+        }
+        final Pair<@Nullable Class<?>, @Nullable JsonTypeInfo> cached = jsonTypeInfos.get(cls);
+        if (cached != null) {
+            return cached;
+        }
+        Pair<@Nullable Class<?>, @Nullable JsonTypeInfo> result = Pair.of(null, null);
+        final JsonTypeInfo annotation = cls.getAnnotation(JsonTypeInfo.class);
+        if (annotation != null) {
+            result = Pair.of(cls, annotation);
+        } else {
+            for (Class<?> aInterface : cls.getInterfaces()) {
+                final Pair<@Nullable Class<?>, @Nullable JsonTypeInfo> classWithAnnotation = getJsonTypeInfoRecursive(aInterface);
+                if (classWithAnnotation.getValue2() != null) {
+                    result = classWithAnnotation;
+                    break;
+                }
+            }
+            if (result.getValue2() == null) {
+                result = getJsonTypeInfoRecursive(cls.getSuperclass());
+            }
+        }
+        jsonTypeInfos.put(cls, result);
+        return result;
+    }
+
     private static <T extends Annotation> Pair<@Nullable Class<?>, @Nullable T> getAnnotationRecursive(
         Class<?> cls,
         Class<T> annotationClass
@@ -541,14 +698,175 @@ public class Jackson3Parser extends ModelParser {
             return null;
         }
         final JavaType javaType = objectMapper.constructType(beanClass);
+        if (settings.jackson3Configuration != null && settings.jackson3Configuration.lightweightBeanIntrospection) {
+            final BeanHelpers beanHelpers = introspectBeanHelpers(beanClass, view, javaType);
+            if (beanHelpers != null) {
+                return beanHelpers;
+            }
+        }
         final BeanSerializerHelper beanSerializerHelper = createBeanSerializerHelper(javaType);
         final BeanDeserializerHelper beanDeserializerHelper = createBeanDeserializerHelper(javaType);
         if (beanSerializerHelper != null || beanDeserializerHelper != null) {
-            return new BeanHelpers(beanClass, view, beanSerializerHelper, beanDeserializerHelper);
+            return new BeanHelpers(beanClass, view,
+                beanSerializerHelper != null ? beanSerializerHelper.getProps() : Collections.emptyList(),
+                beanDeserializerHelper != null ? beanDeserializerHelper.getProps() : Collections.emptyList());
         }
         return null;
     }
 
+    /**
+     * Collects the same properties as serializer and deserializer would have
+     * but only from {@link BeanDescription}s, without constructing serializer and deserializer.
+     * @return <code>null</code> if class is not plain bean and needs to be processed using serializer and deserializer
+     */
+    private @Nullable BeanHelpers introspectBeanHelpers(Class<?> beanClass, @Nullable Class<?> view, JavaType javaType) {
+        if (!isPlainBeanType(javaType)) {
+            return null;
+        }
+        final SerializationContext serializationContext = introspectionSerializationContext.get();
+        final BeanDescription serializationDescription = serializationContext.introspectBeanDescription(javaType);
+        if (!isPlainBean(serializationContext, serializationDescription)) {
+            return null;
+        }
+        final DeserializationContext deserializationContext = introspectionDeserializationContext.get();
+        final BeanDescription deserializationDescription = deserializationContext.introspectBeanDescription(javaType);
+        if (javaType.isAbstract()) {
+            if (!deserializationDescription.getConstructorsWithMode().isEmpty() || !deserializationDescription.getFactoryMethodsWithMode().isEmpty()) {
+                // abstract class with creator can be deserializable
+                return null;
+            }
+            return new BeanHelpers(beanClass, view, getSerializableProperties(serializationContext, serializationDescription), Collections.emptyList());
+        }
+        return new BeanHelpers(beanClass, view,
+            getSerializableProperties(serializationContext, serializationDescription),
+            getDeserializableProperties(deserializationContext, deserializationDescription));
+    }
+
+    private static boolean isPlainBeanType(JavaType javaType) {
+        final Class<?> cls = javaType.getRawClass();
+        return !javaType.isContainerType()
+            && !javaType.isReferenceType()
+            && !javaType.isThrowable()
+            && !cls.isEnum()
+            && !Map.Entry.class.isAssignableFrom(cls)
+            && !JacksonSerializable.class.isAssignableFrom(cls)
+            && ClassUtil.canBeABeanType(cls) == null
+            && !ClassUtil.isProxyType(cls)
+            && !ClassUtil.isJDKClass(cls)
+            && !cls.getName().startsWith("tools.jackson.");
+    }
+
+    private static boolean isPlainBean(DatabindContext context, BeanDescription beanDescription) {
+        final MapperConfig<?> config = context.getConfig();
+        final AnnotationIntrospector annotationIntrospector = context.getAnnotationIntrospector();
+        final AnnotatedClass classInfo = beanDescription.getClassInfo();
+        final JsonFormat.Shape shape = JsonFormat.Value.merge(
+            annotationIntrospector.findFormat(config, classInfo),
+            config.getDefaultPropertyFormat(beanDescription.getBeanClass())
+        ).getShape();
+        return (shape == JsonFormat.Shape.ANY || shape == JsonFormat.Shape.NATURAL || shape == JsonFormat.Shape.OBJECT)
+            && !classInfo.hasAnnotation(JsonSerialize.class)
+            && !classInfo.hasAnnotation(JsonDeserialize.class)
+            && !classInfo.hasAnnotation(JsonAppend.class)
+            && annotationIntrospector.findSerializer(config, classInfo) == null
+            && annotationIntrospector.findDeserializer(config, classInfo) == null
+            && beanDescription.findJsonValueAccessor() == null;
+    }
+
+    // the same properties as in `BeanSerializerFactory.findBeanProperties` and `filterBeanProperties`
+    private List<BeanProperty> getSerializableProperties(SerializationContext context, BeanDescription beanDescription) {
+        final SerializationConfig config = context.getConfig();
+        final Set<String> ignored = config.getDefaultPropertyIgnorals(beanDescription.getBeanClass(), beanDescription.getClassInfo()).findIgnoredForSerialization();
+        final Set<String> included = config.getDefaultPropertyInclusions(beanDescription.getBeanClass(), beanDescription.getClassInfo()).getIncluded();
+        final List<BeanProperty> properties = new ArrayList<>();
+        for (BeanPropertyDefinition propertyDefinition : beanDescription.findProperties()) {
+            final AnnotatedMember accessor = propertyDefinition.getAccessor();
+            if (accessor == null
+                || propertyDefinition.isTypeId()
+                || isBackReference(propertyDefinition)
+                || IgnorePropertiesUtil.shouldIgnore(propertyDefinition.getName(), ignored, included)
+                || isIgnorableType(context, propertyDefinition.getRawPrimaryType())) {
+                continue;
+            }
+            properties.add(createBeanProperty(propertyDefinition, accessor, accessor.getType()));
+        }
+        // like `BeanSerializerFactory.constructObjectIdHandler` id property is moved to the first place
+        final ObjectIdInfo objectIdInfo = beanDescription.getObjectIdInfo();
+        if (objectIdInfo != null && objectIdInfo.getGeneratorType() == ObjectIdGenerators.PropertyGenerator.class) {
+            final String idPropertyName = objectIdInfo.getPropertyName().getSimpleName();
+            properties.stream()
+                .filter(property -> property.getName().equals(idPropertyName))
+                .findFirst()
+                .ifPresent(idProperty -> {
+                    properties.remove(idProperty);
+                    properties.add(0, idProperty);
+                });
+        }
+        return properties;
+    }
+
+    // the same properties as in `BeanDeserializerFactory.filterBeanProps` and `addBeanProps`
+    private List<BeanProperty> getDeserializableProperties(DeserializationContext context, BeanDescription beanDescription) {
+        final DeserializationConfig config = context.getConfig();
+        final Set<String> ignored = config.getDefaultPropertyIgnorals(beanDescription.getBeanClass(), beanDescription.getClassInfo()).findIgnoredForDeserialization();
+        final Set<String> included = config.getDefaultPropertyInclusions(beanDescription.getBeanClass(), beanDescription.getClassInfo()).getIncluded();
+        final boolean useGettersAsSetters = config.isEnabled(MapperFeature.USE_GETTERS_AS_SETTERS);
+        final List<BeanProperty> properties = new ArrayList<>();
+        for (BeanPropertyDefinition propertyDefinition : beanDescription.findProperties()) {
+            if (IgnorePropertiesUtil.shouldIgnore(propertyDefinition.getName(), ignored, included)) {
+                continue;
+            }
+            if (propertyDefinition.hasConstructorParameter()) {
+                final AnnotatedParameter parameter = propertyDefinition.getConstructorParameter();
+                properties.add(createBeanProperty(propertyDefinition, parameter, parameter.getType()));
+            } else if (isIgnorableType(context, propertyDefinition.getRawPrimaryType())) {
+                continue;
+            } else if (propertyDefinition.hasSetter()) {
+                final AnnotatedMethod setter = propertyDefinition.getSetter();
+                properties.add(createBeanProperty(propertyDefinition, setter, setter.getParameterType(0)));
+            } else if (propertyDefinition.hasField()) {
+                final AnnotatedField field = propertyDefinition.getField();
+                properties.add(createBeanProperty(propertyDefinition, field, field.getType()));
+            } else {
+                final AnnotatedMethod getter = propertyDefinition.getGetter();
+                if (getter != null && (useGettersAsSetters && isSetterlessType(getter.getRawType()) || propertyDefinition.getMetadata().getMergeInfo() != null)) {
+                    properties.add(createBeanProperty(propertyDefinition, getter, getter.getType()));
+                }
+            }
+        }
+        return properties;
+    }
+
+    private static BeanProperty createBeanProperty(BeanPropertyDefinition propertyDefinition, AnnotatedMember member, JavaType type) {
+        return new BeanProperty.Std(propertyDefinition.getFullName(), type, propertyDefinition.getWrapperName(), member, propertyDefinition.getMetadata());
+    }
+
+    private static boolean isBackReference(BeanPropertyDefinition propertyDefinition) {
+        final AnnotationIntrospector.ReferenceProperty referenceType = propertyDefinition.findReferenceType();
+        return referenceType != null && referenceType.isBackReference();
+    }
+
+    private static boolean isSetterlessType(Class<?> cls) {
+        return Collection.class.isAssignableFrom(cls) || Map.class.isAssignableFrom(cls);
+    }
+
+    private boolean isIgnorableType(DatabindContext context, @Nullable Class<?> cls) {
+        if (cls == null) {
+            return false;
+        }
+        final Boolean cached = ignorableTypes.get(cls);
+        if (cached != null) {
+            return cached;
+        }
+        final MapperConfig<?> config = context.getConfig();
+        final Boolean isIgnoredType = config.getConfigOverride(cls).getIsIgnoredType();
+        final boolean ignorable = isIgnoredType != null
+            ? isIgnoredType
+            : Boolean.TRUE.equals(context.getAnnotationIntrospector().isIgnorableType(config, context.introspectClassAnnotations(cls)));
+        ignorableTypes.put(cls, ignorable);
+        return ignorable;
+    }
+
     private @Nullable BeanSerializerHelper createBeanSerializerHelper(JavaType javaType) {
         try {
             final SerializationContext serializationContext = objectMapper._serializationContext();
@@ -588,14 +906,14 @@ public class Jackson3Parser extends ModelParser {
     private static class BeanHelpers {
         public final Class<?> beanClass;
         public final @Nullable Class<?> view;
-        public final @Nullable BeanSerializerHelper serializer;
-        public final @Nullable BeanDeserializerHelper deserializer;
+        public final List<BeanProperty> serializableProperties;
+        public final List<BeanProperty> deserializableProperties;
 
-        public BeanHelpers(Class<?> beanClass, @Nullable Class<?> view, @Nullable BeanSerializerHelper serializer, @Nullable BeanDeserializerHelper deserializer) {
+        public BeanHelpers(Class<?> beanClass, @Nullable Class<?> view, List<BeanProperty> serializableProperties, List<BeanProperty> deserializableProperties) {
             this.beanClass = beanClass;
             this.view = view;
-            this.serializer = serializer;
-            this.deserializer = deserializer;
+            this.serializableProperties = serializableProperties;
+            this.deserializableProperties = deserializableProperties;
         }
 
         public List<BeanProperty> getProperties() {
@@ -614,8 +932,6 @@ public class Jackson3Parser extends ModelParser {
         }
 
         private List<Pair<@Nullable BeanProperty, @Nullable BeanProperty>> getPropertiesPairs() {
-            final List<BeanProperty> serializableProperties = getSerializableProperties();
-            final List<BeanProperty> deserializableProperties = getDeserializableProperties();
             final List<Pair<@Nullable BeanProperty, @Nullable BeanProperty>> properties = Stream
                 .concat(
                     serializableProperties.stream()
@@ -692,18 +1008,6 @@ public class Jackson3Parser extends ModelParser {
             final int index = fields.indexOf(property.getMember().getMember());
             return index != -1 ? index : null;
         }
-
-        private List<BeanProperty> getSerializableProperties() {
-            return serializer != null
-                ? serializer.getProps()
-                : Collections.emptyList();
-        }
-
-        private List<BeanProperty> getDeserializableProperties() {
-            return deserializer != null
-                ? deserializer.getProps()
-                : Collections.emptyList();
-        }
     }
 
     private static class BeanSerializerHelper {
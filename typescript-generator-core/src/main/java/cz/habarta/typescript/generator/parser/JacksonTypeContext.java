@@ -0,0 +1,64 @@
+
+package cz.habarta.typescript.generator.parser;
+
+import java.lang.reflect.Member;
+import java.util.Objects;
+import org.jspecify.annotations.Nullable;
+
+
+/**
+ * Type context of bean property used by Jackson parsers.
+ * Type processing depends on property annotations (given by member) and declared type,
+ * equality allows caching in CachingTypeProcessor to be effective for properties inherited by multiple beans.
+ */
+abstract class JacksonTypeContext<P extends ModelParser, B> {
+
+    public final P parser;
+    public final B beanProperty;
+    public final boolean disableObjectIdentityFeature;
+    private final @Nullable Member member;
+    private final String propertyName;
+    private final @Nullable Object propertyType;
+
+    protected JacksonTypeContext(P parser, B beanProperty, @Nullable Member member, String propertyName, @Nullable Object propertyType, boolean disableObjectIdentityFeature) {
+        this.parser = parser;
+        this.beanProperty = beanProperty;
+        this.disableObjectIdentityFeature = disableObjectIdentityFeature;
+        this.member = member;
+        this.propertyName = propertyName;
+        this.propertyType = propertyType;
+    }
+
+    @Override
+    public int hashCode() {
+        int hash = 7;
+        hash = 31 * hash + System.identityHashCode(this.parser);
+        hash = 31 * hash + Objects.hashCode(this.member);
+        hash = 31 * hash + Objects.hashCode(this.propertyName);
+        hash = 31 * hash + Objects.hashCode(this.propertyType);
+        hash = 31 * hash + Boolean.hashCode(this.disableObjectIdentityFeature);
+        return hash;
+    }
+
+    @Override
+    public boolean equals(Object obj) {
+        if (this == obj) {
+            return true;
+        }
+        if (obj == null) {
+            return false;
+        }
+        if (getClass() != obj.getClass()) {
+            return false;
+        }
+        final JacksonTypeContext<?, ?> other = (JacksonTypeContext<?, ?>) obj;
+        if (this.parser != other.parser || this.member == null) {
+            return false;
+        }
+        return this.member.equals(other.member)
+            && Objects.equals(this.propertyName, other.propertyName)
+            && Objects.equals(this.propertyType, other.propertyType)
+            && this.disableObjectIdentityFeature == other.disableObjectIdentityFeature;
+    }
+
+}
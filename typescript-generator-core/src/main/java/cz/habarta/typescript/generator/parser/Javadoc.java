@@ -2,52 +2,58 @@
 package cz.habarta.typescript.generator.parser;
 
 import cz.habarta.typescript.generator.Settings;
-import cz.habarta.typescript.generator.TypeScriptGenerator;
 import cz.habarta.typescript.generator.compiler.EnumMemberModel;
 import cz.habarta.typescript.generator.util.Utils;
-import cz.habarta.typescript.generator.xmldoclet.Class;
-import cz.habarta.typescript.generator.xmldoclet.Enum;
-import cz.habarta.typescript.generator.xmldoclet.EnumConstant;
-import cz.habarta.typescript.generator.xmldoclet.Field;
-import cz.habarta.typescript.generator.xmldoclet.Interface;
-import cz.habarta.typescript.generator.xmldoclet.Method;
-import cz.habarta.typescript.generator.xmldoclet.Package;
-import cz.habarta.typescript.generator.xmldoclet.Root;
-import cz.habarta.typescript.generator.xmldoclet.TagInfo;
-import jakarta.xml.bind.JAXB;
 import java.io.File;
 import java.util.ArrayList;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Objects;
+import java.util.Set;
 import org.jspecify.annotations.Nullable;
 
 
+/**
+ * Adds documentation comments from Javadoc XML files to model.
+ * Only documentation of classes present in model is loaded (see {@link JavadocIndex}).
+ */
 public class Javadoc {
 
     private final String newline;
-    private final List<Root> dRoots;
+    private final List<File> javadocXmlFiles;
+    private final @Nullable File javadocCacheDirectory;
+    private JavadocIndex index = JavadocIndex.empty();
 
     public Javadoc(Settings settings) {
         Objects.requireNonNull(settings, "settings");
         this.newline = settings.newline;
-        this.dRoots = loadJavadocXmlFiles(settings.javadocXmlFiles);
+        this.javadocXmlFiles = Utils.listFromNullable(settings.javadocXmlFiles);
+        this.javadocCacheDirectory = settings.javadocCacheDirectory;
     }
 
-    private static List<Root> loadJavadocXmlFiles(@Nullable List<File> javadocXmlFiles) {
-        final List<Root> dRoots = new ArrayList<>();
-        if (javadocXmlFiles != null) {
-            for (File file : javadocXmlFiles) {
-                TypeScriptGenerator.getLogger().info("Loading Javadoc XML file: " + file);
-                final Root dRoot = JAXB.unmarshal(file, Root.class);
-                dRoots.add(dRoot);
+    private static Set<String> getDocumentedClassNames(Model model) {
+        final Set<String> names = new HashSet<>();
+        for (BeanModel bean : model.getBeans()) {
+            names.add(JavadocIndex.getQualifiedName(bean.getOrigin()));
+        }
+        for (EnumModel enumModel : model.getEnums()) {
+            names.add(JavadocIndex.getQualifiedName(enumModel.getOrigin()));
+        }
+        for (RestApplicationModel restApplication : model.getRestApplications()) {
+            for (RestMethodModel method : restApplication.getMethods()) {
+                names.add(JavadocIndex.getQualifiedName(method.getOriginClass()));
             }
         }
-        return dRoots;
+        return names;
     }
 
     // enrichers
 
     public Model enrichModel(Model model) {
+        if (javadocXmlFiles.isEmpty()) {
+            return model;
+        }
+        index = JavadocIndex.load(javadocXmlFiles, javadocCacheDirectory, getDocumentedClassNames(model));
         final List<BeanModel> dBeans = new ArrayList<>();
         for (BeanModel bean : model.getBeans()) {
             final BeanModel dBean = enrichBean(bean);
@@ -63,79 +69,59 @@ public class Javadoc {
             final RestApplicationModel dRestApplication = enrichRestApplication(restApplication);
             dRestApplications.add(dRestApplication);
         }
-        return new Model(dBeans, dEnums, dRestApplications);
+        return new Model(dBeans, dEnums, dRestApplications, model.getDependentClasses());
     }
 
     private BeanModel enrichBean(BeanModel bean) {
-        if (bean.getOrigin().isInterface()) {
-            final Interface dInterface = findJavadocInterface(bean.getOrigin(), dRoots);
-            if (dInterface != null) {
-                return enrichBean(bean, dInterface.getComment(), dInterface.getTag(), dInterface.getField(), dInterface.getMethod());
-            }
-        } else {
-            final Class dClass = findJavadocClass(bean.getOrigin(), dRoots);
-            if (dClass != null) {
-                return enrichBean(bean, dClass.getComment(), dClass.getTag(), dClass.getField(), dClass.getMethod());
+        final JavadocIndex.TypeDocs dType = index.find(bean.getOrigin(), bean.getOrigin().isInterface()
+            ? JavadocIndex.TypeKind.interfaceType
+            : JavadocIndex.TypeKind.classType);
+        if (dType != null) {
+            final List<PropertyModel> enrichedProperties = new ArrayList<>();
+            for (PropertyModel property : bean.getProperties()) {
+                final PropertyModel enrichedProperty = enrichProperty(property, dType);
+                enrichedProperties.add(enrichedProperty);
             }
+            return bean
+                .withProperties(enrichedProperties)
+                .withComments(combineComments(getComments(dType), bean.getComments()));
         }
         return bean;
     }
 
-    private BeanModel enrichBean(BeanModel bean, String beanComment, List<TagInfo> tags, List<Field> dFields, List<Method> dMethods) {
-        final List<PropertyModel> enrichedProperties = new ArrayList<>();
-        for (PropertyModel property : bean.getProperties()) {
-            final PropertyModel enrichedProperty = enrichProperty(property, dFields, dMethods);
-            enrichedProperties.add(enrichedProperty);
-        }
-        return bean
-            .withProperties(enrichedProperties)
-            .withComments(combineComments(getComments(beanComment, tags), bean.getComments()));
-    }
-
-    private PropertyModel enrichProperty(PropertyModel property, List<Field> dFields, List<Method> dMethods) {
-        String propertyComment = null;
-        List<TagInfo> tags = null;
+    private PropertyModel enrichProperty(PropertyModel property, JavadocIndex.TypeDocs dType) {
+        JavadocIndex.Docs dMember = null;
         if (property.getOriginalMember() instanceof java.lang.reflect.Method) {
             final java.lang.reflect.Method method = (java.lang.reflect.Method) property.getOriginalMember();
-            final Method dMethod = findJavadocMethod(method.getName(), dMethods);
-            propertyComment = dMethod != null ? dMethod.getComment() : null;
-            tags = dMethod != null ? dMethod.getTag() : null;
+            dMember = dType.methods.get(method.getName());
         } else if (property.getOriginalMember() instanceof java.lang.reflect.Field) {
             final java.lang.reflect.Field field = (java.lang.reflect.Field) property.getOriginalMember();
-            final Field dField = findJavadocField(field.getName(), dFields);
-            propertyComment = dField != null ? dField.getComment() : null;
-            tags = dField != null ? dField.getTag() : null;
+            dMember = dType.fields.get(field.getName());
         }
-        if (propertyComment == null) {
+        if (dMember == null || dMember.comment == null) {
             // give a chance for comments on fields but not on getter setters
-            final Field dField = findJavadocField(property.getName(), dFields);
-            propertyComment = dField != null ? dField.getComment() : null;
-            tags = dField != null ? dField.getTag() : null;
+            dMember = dType.fields.get(property.getName());
         }
         return property
-            .withComments(combineComments(getComments(propertyComment, tags), property.getComments()));
+            .withComments(combineComments(getComments(dMember), property.getComments()));
     }
 
     private EnumModel enrichEnum(EnumModel enumModel) {
-        final Enum dEnum = findJavadocEnum(enumModel.getOrigin(), dRoots);
+        final JavadocIndex.TypeDocs dEnum = index.find(enumModel.getOrigin(), JavadocIndex.TypeKind.enumType);
         final List<EnumMemberModel> enrichedMembers = new ArrayList<>();
         for (EnumMemberModel member : enumModel.getMembers()) {
             final EnumMemberModel enrichedMember = enrichEnumMember(member, dEnum);
             enrichedMembers.add(enrichedMember);
         }
-        final String enumComment = dEnum != null ? dEnum.getComment() : null;
-        final List<TagInfo> tags = dEnum != null ? dEnum.getTag() : null;
         return enumModel
             .withMembers(enrichedMembers)
-            .withComments(combineComments(getComments(enumComment, tags), enumModel.getComments()));
+            .withComments(combineComments(getComments(dEnum), enumModel.getComments()));
     }
 
-    private EnumMemberModel enrichEnumMember(EnumMemberModel enumMember, @Nullable Enum dEnum) {
-        final EnumConstant dConstant = findJavadocEnumConstant(enumMember.getPropertyName(), dEnum);
-        final List<TagInfo> tags = dConstant != null ? dConstant.getTag() : null;
-        final String memberComment = dConstant != null ? dConstant.getComment() : null;
+    private EnumMemberModel enrichEnumMember(EnumMemberModel enumMember, JavadocIndex.@Nullable TypeDocs dEnum) {
+        final JavadocIndex.Docs dConstant = dEnum != null ? dEnum.constants.get(enumMember.getPropertyName()) : null;
         return enumMember
-            .withComments(combineComments(getComments(memberComment, tags), enumMember.getComments()));
+            .withComments(combineComments(getComments(dConstant), enumMember.getComments()));
     }
 
     private RestApplicationModel enrichRestApplication(RestApplicationModel restApplicationModel) {
@@ -148,104 +134,27 @@ public class Javadoc {
     }
 
     private RestMethodModel enrichRestMethod(RestMethodModel method) {
-        final Method dMethod = findJavadocMethod(method.getOriginClass(), method.getName(), dRoots);
-        final String comment = dMethod != null ? dMethod.getComment() : null;
-        final List<TagInfo> tags = dMethod != null ? dMethod.getTag() : null;
+        final JavadocIndex.Docs dMethod = findJavadocMethod(method.getOriginClass(), method.getName());
         return method
-            .withComments(combineComments(getComments(comment, tags), method.getComments()));
+            .withComments(combineComments(getComments(dMethod), method.getComments()));
     }
 
     // finders
 
-    private static @Nullable Method findJavadocMethod(java.lang.Class<?> cls, String name, List<Root> dRoots) {
-        final Class dClass = findJavadocClass(cls, dRoots);
-        final Interface dInterface = findJavadocInterface(cls, dRoots);
-        if (dClass != null) {
-            return findJavadocMethod(name, dClass.getMethod());
-        } else if (dInterface != null) {
-            return findJavadocMethod(name, dInterface.getMethod());
-        } else {
-            return null;
-        }
-    }
-
-    private static @Nullable Class findJavadocClass(java.lang.Class<?> cls, List<Root> dRoots) {
-        final String name = cls.getName().replace('$', '.');
-        for (Root dRoot : dRoots) {
-            for (Package dPackage : dRoot.getPackage()) {
-                for (Class dClass : dPackage.getClazz()) {
-                    if (dClass.getQualified().equals(name)) {
-                        return dClass;
-                    }
-                }
-            }
-        }
-        return null;
-    }
-
-    private static @Nullable Interface findJavadocInterface(java.lang.Class<?> cls, List<Root> dRoots) {
-        final String name = cls.getName().replace('$', '.');
-        for (Root dRoot : dRoots) {
-            for (Package dPackage : dRoot.getPackage()) {
-                for (Interface dInterface : dPackage.getInterface()) {
-                    if (dInterface.getQualified().equals(name)) {
-                        return dInterface;
-                    }
-                }
-            }
+    private JavadocIndex.@Nullable Docs findJavadocMethod(java.lang.Class<?> cls, String name) {
+        JavadocIndex.TypeDocs dType = index.find(cls, JavadocIndex.TypeKind.classType);
+        if (dType == null) {
+            dType = index.find(cls, JavadocIndex.TypeKind.interfaceType);
         }
-        return null;
+        return dType != null ? dType.methods.get(name) : null;
     }
 
-    private static @Nullable Field findJavadocField(String name, List<Field> dFields) {
-        if (dFields != null) {
-            for (Field dField : dFields) {
-                if (dField.getName().equals(name)) {
-                    return dField;
-                }
-            }
-        }
-        return null;
+    private @Nullable List<String> getComments(JavadocIndex.@Nullable Docs docs) {
+        return docs != null ? getComments(docs.comment, docs.tags) : null;
     }
 
-    private static @Nullable Method findJavadocMethod(String name, List<Method> dMethods) {
-        if (dMethods != null) {
-            for (Method dMethod : dMethods) {
-                if (dMethod.getName().equals(name)) {
-                    return dMethod;
-                }
-            }
-        }
-        return null;
-    }
-
-    private static @Nullable Enum findJavadocEnum(java.lang.Class<?> cls, List<Root> dRoots) {
-        final String name = cls.getName().replace('$', '.');
-        for (Root dRoot : dRoots) {
-            for (Package dPackage : dRoot.getPackage()) {
-                for (Enum dEnum : dPackage.getEnum()) {
-                    if (dEnum.getQualified().equals(name)) {
-                        return dEnum;
-                    }
-                }
-            }
-        }
-        return null;
-    }
-
-    private static @Nullable EnumConstant findJavadocEnumConstant(String name, @Nullable Enum dEnum) {
-        if (dEnum != null) {
-            for (EnumConstant dEnumConstant : dEnum.getConstant()) {
-                if (dEnumConstant.getName().equals(name)) {
-                    return dEnumConstant;
-                }
-            }
-        }
-        return null;
-    }
-
-    private @Nullable List<String> getComments(@Nullable String dComments, @Nullable List<TagInfo> tags) {
-        if (dComments == null && (tags == null || tags.isEmpty())) {
+    private @Nullable List<String> getComments(@Nullable String dComments, List<String> tags) {
+        if (dComments == null && tags.isEmpty()) {
             return null;
         }
         final List<String> result = new ArrayList<>();
@@ -259,10 +168,8 @@ public class Javadoc {
                 .replaceAll("\\s*</p>\\s*", nn);
             result.addAll(Utils.splitMultiline(replacedHtmlLines, true));
         }
-        if (tags != null) {
-            for (TagInfo tag : tags) {
-                result.addAll(Utils.splitMultiline(tag.getText(), true));
-            }
+        for (String tag : tags) {
+            result.addAll(Utils.splitMultilineNonNull(tag, true));
         }
         return result;
     }
@@ -0,0 +1,350 @@
+package cz.habarta.typescript.generator.parser;
+
+import cz.habarta.typescript.generator.TypeScriptGenerator;
+import cz.habarta.typescript.generator.util.CacheFiles;
+import java.io.BufferedInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import javax.xml.stream.XMLInputFactory;
+import javax.xml.stream.XMLStreamConstants;
+import javax.xml.stream.XMLStreamException;
+import javax.xml.stream.XMLStreamReader;
+import org.jspecify.annotations.Nullable;
+
+
+/**
+ * Documentation comments from Javadoc XML files (created by xml-doclet) indexed by qualified class name and member name.
+ * XML file is read using StAX and only comments and tags of requested classes are retained
+ * (types, annotations, constructors etc. are skipped).
+ * When cache directory is configured index of all classes is stored in binary file keyed by hash of XML file content
+ * so subsequent runs don't parse XML.
+ */
+class JavadocIndex {
+
+    private static final int FormatVersion = 1;
+
+    enum TypeKind {
+        classType, interfaceType, enumType
+    }
+
+    static class Docs {
+        public final @Nullable String comment;
+        public final List<String> tags;
+
+        public Docs(@Nullable String comment, List<String> tags) {
+            this.comment = comment;
+            this.tags = tags;
+        }
+    }
+
+    static class TypeDocs extends Docs {
+        public final TypeKind kind;
+        public final Map<String, Docs> fields;
+        public final Map<String, Docs> methods;
+        public final Map<String, Docs> constants;
+
+        public TypeDocs(TypeKind kind, @Nullable String comment, List<String> tags, Map<String, Docs> fields, Map<String, Docs> methods, Map<String, Docs> constants) {
+            super(comment, tags);
+            this.kind = kind;
+            this.fields = fields;
+            this.methods = methods;
+            this.constants = constants;
+        }
+    }
+
+    private final Map<String, TypeDocs> types;
+
+    private JavadocIndex(Map<String, TypeDocs> types) {
+        this.types = types;
+    }
+
+    public static JavadocIndex empty() {
+        return new JavadocIndex(Collections.emptyMap());
+    }
+
+    /**
+     * @param retainedNames qualified names (using dots for nested classes) of classes whose documentation is retained
+     */
+    public static JavadocIndex load(List<File> xmlFiles, @Nullable File cacheDirectory, Set<String> retainedNames) {
+        final Map<String, TypeDocs> types = new LinkedHashMap<>();
+        for (File xmlFile : xmlFiles) {
+            final Map<String, TypeDocs> fileTypes = cacheDirectory != null
+                ? loadUsingCache(xmlFile, cacheDirectory, retainedNames)
+                : parseXml(xmlFile, retainedNames);
+            // first file containing the class wins
+            fileTypes.forEach(types::putIfAbsent);
+        }
+        return new JavadocIndex(types);
+    }
+
+    public @Nullable TypeDocs find(java.lang.Class<?> cls, TypeKind kind) {
+        final TypeDocs typeDocs = types.get(getQualifiedName(cls));
+        return typeDocs != null && typeDocs.kind == kind ? typeDocs : null;
+    }
+
+    public static String getQualifiedName(java.lang.Class<?> cls) {
+        return cls.getName().replace('$', '.');
+    }
+
+    // XML
+
+    private static Map<String, TypeDocs> parseXml(File xmlFile, @Nullable Set<String> retainedNames) {
+        TypeScriptGenerator.getLogger().info("Loading Javadoc XML file: " + xmlFile);
+        final XMLInputFactory factory = XMLInputFactory.newFactory();
+        factory.setProperty(XMLInputFactory.IS_COALESCING, true);
+        factory.setProperty(XMLInputFactory.SUPPORT_DTD, false);
+        factory.setProperty(XMLInputFactory.IS_SUPPORTING_EXTERNAL_ENTITIES, false);
+        try (InputStream inputStream = new BufferedInputStream(Files.newInputStream(xmlFile.toPath()))) {
+            final XMLStreamReader reader = factory.createXMLStreamReader(inputStream);
+            try {
+                final Map<String, TypeDocs> types = new LinkedHashMap<>();
+                reader.nextTag(); // root
+                while (reader.nextTag() == XMLStreamConstants.START_ELEMENT) {
+                    if (reader.getLocalName().equals("package")) {
+                        parsePackage(reader, retainedNames, types);
+                    } else {
+                        skipElement(reader);
+                    }
+                }
+                return types;
+            } finally {
+                reader.close();
+            }
+        } catch (IOException | XMLStreamException e) {
+            throw new RuntimeException("Cannot read Javadoc XML file " + xmlFile, e);
+        }
+    }
+
+    private static void parsePackage(XMLStreamReader reader, @Nullable Set<String> retainedNames, Map<String, TypeDocs> types) throws XMLStreamException {
+        while (reader.nextTag() == XMLStreamConstants.START_ELEMENT) {
+            final TypeKind kind = getTypeKind(reader.getLocalName());
+            final String qualified = reader.getAttributeValue(null, "qualified");
+            if (kind != null && qualified != null && (retainedNames == null || retainedNames.contains(qualified))) {
+                final TypeDocs typeDocs = parseType(reader, kind);
+                types.putIfAbsent(qualified, typeDocs);
+            } else {
+                skipElement(reader);
+            }
+        }
+    }
+
+    private static @Nullable TypeKind getTypeKind(String elementName) {
+        switch (elementName) {
+            case "class": return TypeKind.classType;
+            case "interface": return TypeKind.interfaceType;
+            case "enum": return TypeKind.enumType;
+            default: return null;
+        }
+    }
+
+    private static TypeDocs parseType(XMLStreamReader reader, TypeKind kind) throws XMLStreamException {
+        String comment = null;
+        final List<String> tags = new ArrayList<>();
+        final Map<String, Docs> fields = new LinkedHashMap<>();
+        final Map<String, Docs> methods = new LinkedHashMap<>();
+        final Map<String, Docs> constants = new LinkedHashMap<>();
+        while (reader.nextTag() == XMLStreamConstants.START_ELEMENT) {
+            switch (reader.getLocalName()) {
+                case "comment":
+                    comment = reader.getElementText();
+                    break;
+                case "tag":
+                    parseTag(reader, tags);
+                    break;
+                case "field":
+                    parseMember(reader, fields);
+                    break;
+                case "method":
+                    parseMember(reader, methods);
+                    break;
+                case "constant":
+                    parseMember(reader, constants);
+                    break;
+                default:
+                    skipElement(reader);
+            }
+        }
+        return new TypeDocs(kind, comment, tags, fields, methods, constants);
+    }
+
+    private static void parseMember(XMLStreamReader reader, Map<String, Docs> members) throws XMLStreamException {
+        final String name = reader.getAttributeValue(null, "name");
+        String comment = null;
+        final List<String> tags = new ArrayList<>();
+        while (reader.nextTag() == XMLStreamConstants.START_ELEMENT) {
+            switch (reader.getLocalName()) {
+                case "comment":
+                    comment = reader.getElementText();
+                    break;
+                case "tag":
+                    parseTag(reader, tags);
+                    break;
+                default:
+                    skipElement(reader);
+            }
+        }
+        // first member with given name wins (overloaded methods)
+        if (name != null) {
+            members.putIfAbsent(name, new Docs(comment, tags));
+        }
+    }
+
+    private static void parseTag(XMLStreamReader reader, List<String> tags) throws XMLStreamException {
+        final String text = reader.getAttributeValue(null, "text");
+        if (text != null) {
+            tags.add(text);
+        }
+        skipElement(reader);
+    }
+
+    private static void skipElement(XMLStreamReader reader) throws XMLStreamException {
+        int depth = 1;
+        while (depth > 0) {
+            final int event = reader.next();
+            if (event == XMLStreamConstants.START_ELEMENT) {
+                depth++;
+            } else if (event == XMLStreamConstants.END_ELEMENT) {
+                depth--;
+            }
+        }
+    }
+
+    // cache
+
+    private static Map<String, TypeDocs> loadUsingCache(File xmlFile, File cacheDirectory, Set<String> retainedNames) {
+        final File cacheFile = new File(cacheDirectory, "javadoc-" + CacheFiles.hash(xmlFile) + ".bin");
+        final Map<String, TypeDocs> cached = readCacheFile(cacheFile, retainedNames);
+        if (cached != null) {
+            TypeScriptGenerator.getLogger().verbose("Loaded Javadoc of " + xmlFile + " from cache " + cacheFile);
+            return cached;
+        }
+        final Map<String, TypeDocs> allTypes = parseXml(xmlFile, null);
+        writeCacheFile(cacheFile, allTypes);
+        final Map<String, TypeDocs> types = new LinkedHashMap<>();
+        for (Map.Entry<String, TypeDocs> entry : allTypes.entrySet()) {
+            if (retainedNames.contains(entry.getKey())) {
+                types.put(entry.getKey(), entry.getValue());
+            }
+        }
+        return types;
+    }
+
+    private static @Nullable Map<String, TypeDocs> readCacheFile(File cacheFile, Set<String> retainedNames) {
+        if (!cacheFile.isFile()) {
+            return null;
+        }
+        try (DataInputStream input = new DataInputStream(new BufferedInputStream(Files.newInputStream(cacheFile.toPath())))) {
+            if (input.readInt() != FormatVersion) {
+                return null;
+            }
+            final TypeKind[] kinds = TypeKind.values();
+            final Map<String, TypeDocs> types = new LinkedHashMap<>();
+            final int count = input.readInt();
+            for (int i = 0; i < count; i++) {
+                final String qualified = input.readUTF();
+                final int length = input.readInt();
+                if (!retainedNames.contains(qualified)) {
+                    input.skipNBytes(length);
+                    continue;
+                }
+                final TypeKind kind = kinds[input.readByte()];
+                final Docs docs = readDocs(input);
+                final Map<String, Docs> fields = readMembers(input);
+                final Map<String, Docs> methods = readMembers(input);
+                final Map<String, Docs> constants = readMembers(input);
+                types.put(qualified, new TypeDocs(kind, docs.comment, docs.tags, fields, methods, constants));
+            }
+            return types;
+        } catch (IOException | RuntimeException e) {
+            TypeScriptGenerator.getLogger().verbose("Cannot read Javadoc cache file " + cacheFile + ": " + e.getMessage());
+            return null;
+        }
+    }
+
+    private static Map<String, Docs> readMembers(DataInputStream input) throws IOException {
+        final int count = input.readInt();
+        final Map<String, Docs> members = new LinkedHashMap<>();
+        for (int i = 0; i < count; i++) {
+            final String name = input.readUTF();
+            members.put(name, readDocs(input));
+        }
+        return members;
+    }
+
+    private static Docs readDocs(DataInputStream input) throws IOException {
+        final String comment = input.readBoolean() ? readLongString(input) : null;
+        final int count = input.readInt();
+        final List<String> tags = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            tags.add(readLongString(input));
+        }
+        return new Docs(comment, tags);
+    }
+
+    private static void writeCacheFile(File cacheFile, Map<String, TypeDocs> types) {
+        CacheFiles.write(cacheFile, "Javadoc", output -> {
+            output.writeInt(FormatVersion);
+            output.writeInt(types.size());
+            for (Map.Entry<String, TypeDocs> entry : types.entrySet()) {
+                output.writeUTF(entry.getKey());
+                // entry is prefixed with its length so classes which are not needed can be skipped when reading
+                final ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+                final DataOutputStream entryOutput = new DataOutputStream(bytes);
+                final TypeDocs typeDocs = entry.getValue();
+                entryOutput.writeByte(typeDocs.kind.ordinal());
+                writeDocs(entryOutput, typeDocs);
+                writeMembers(entryOutput, typeDocs.fields);
+                writeMembers(entryOutput, typeDocs.methods);
+                writeMembers(entryOutput, typeDocs.constants);
+                entryOutput.flush();
+                output.writeInt(bytes.size());
+                bytes.writeTo(output);
+            }
+        });
+    }
+
+    private static void writeMembers(DataOutputStream output, Map<String, Docs> members) throws IOException {
+        output.writeInt(members.size());
+        for (Map.Entry<String, Docs> entry : members.entrySet()) {
+            output.writeUTF(entry.getKey());
+            writeDocs(output, entry.getValue());
+        }
+    }
+
+    private static void writeDocs(DataOutputStream output, Docs docs) throws IOException {
+        output.writeBoolean(docs.comment != null);
+        if (docs.comment != null) {
+            writeLongString(output, docs.comment);
+        }
+        output.writeInt(docs.tags.size());
+        for (String tag : docs.tags) {
+            writeLongString(output, tag);
+        }
+    }
+
+    // comments can exceed 64 KB limit of writeUTF
+    private static void writeLongString(DataOutputStream output, String value) throws IOException {
+        final byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+        output.writeInt(bytes.length);
+        output.write(bytes);
+    }
+
+    private static String readLongString(DataInputStream input) throws IOException {
+        final byte[] bytes = new byte[input.readInt()];
+        input.readFully(bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+
+}
@@ -7,6 +7,7 @@ import cz.habarta.typescript.generator.TsType;
 import cz.habarta.typescript.generator.TypeProcessor;
 import cz.habarta.typescript.generator.TypeScriptGenerator;
 import cz.habarta.typescript.generator.type.JTypeWithNullability;
+import cz.habarta.typescript.generator.util.AnnotationCache;
 import cz.habarta.typescript.generator.util.GenericsResolver;
 import cz.habarta.typescript.generator.util.Pair;
 import cz.habarta.typescript.generator.util.Utils;
@@ -52,21 +53,29 @@ public class JaxrsApplicationParser extends RestApplicationParser {
 
         @Override
         public TypeProcessor getSpecificTypeProcessor() {
-            return (javaType, context) -> {
-                final Class<?> rawClass = Utils.getRawClassOrNull(javaType);
-                if (rawClass != null) {
-                    for (Map.Entry<Class<?>, TsType> entry : getStandardEntityClassesMapping().entrySet()) {
-                        final Class<?> cls = entry.getKey();
-                        final TsType type = entry.getValue();
-                        if (cls.isAssignableFrom(rawClass)) {
-                            return type != null ? new TypeProcessor.Result(type) : null;
+            return new TypeProcessor() {
+                @Override
+                public boolean isCacheable() {
+                    return true;
+                }
+
+                @Override
+                public TypeProcessor.@Nullable Result processType(Type javaType, TypeProcessor.Context context) {
+                    final Class<?> rawClass = Utils.getRawClassOrNull(javaType);
+                    if (rawClass != null) {
+                        for (Map.Entry<Class<?>, TsType> entry : getStandardEntityClassesMapping().entrySet()) {
+                            final Class<?> cls = entry.getKey();
+                            final TsType type = entry.getValue();
+                            if (cls.isAssignableFrom(rawClass)) {
+                                return type != null ? new TypeProcessor.Result(type) : null;
+                            }
+                        }
+                        if (getDefaultExcludedClassNames().contains(rawClass.getName())) {
+                            return new TypeProcessor.Result(TsType.Any);
                         }
                     }
-                    if (getDefaultExcludedClassNames().contains(rawClass.getName())) {
-                        return new TypeProcessor.Result(TsType.Any);
-                    }
+                    return null;
                 }
-                return null;
             };
         }
 
@@ -344,8 +353,8 @@ public class JaxrsApplicationParser extends RestApplicationParser {
         );
     }
 
-    static <A extends Annotation> A getRsAnnotation(AnnotatedElement annotatedElement, Class<A> annotationClass) {
-        return annotatedElement.getAnnotation(annotationClass);
+    static <A extends Annotation> @Nullable A getRsAnnotation(AnnotatedElement annotatedElement, Class<A> annotationClass) {
+        return AnnotationCache.getAnnotation(annotatedElement, annotationClass);
     }
 
 }
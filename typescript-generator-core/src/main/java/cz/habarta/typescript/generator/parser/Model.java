@@ -1,8 +1,23 @@
 
 package cz.habarta.typescript.generator.parser;
 
+import cz.habarta.typescript.generator.util.AnnotationCache;
 import cz.habarta.typescript.generator.util.Utils;
+import java.lang.annotation.Annotation;
+import java.lang.reflect.AnnotatedElement;
+import java.lang.reflect.Executable;
+import java.lang.reflect.Field;
+import java.lang.reflect.Method;
+import java.lang.reflect.Parameter;
+import java.util.ArrayDeque;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 import org.jspecify.annotations.Nullable;
 
 import static java.util.Objects.requireNonNull;
@@ -13,11 +28,18 @@ public class Model {
     private final List<BeanModel> beans;
     private final List<EnumModel> enums;
     private final List<RestApplicationModel> restApplications;
+    private final Map<Class<?>, Set<Class<?>>> dependentClasses;
+    private @Nullable Map<Class<?>, Set<Class<?>>> dependencyGraph;
 
     public Model(List<BeanModel> beans, List<EnumModel> enums, @Nullable List<RestApplicationModel> restApplications) {
+        this(beans, enums, restApplications, null);
+    }
+
+    public Model(List<BeanModel> beans, List<EnumModel> enums, @Nullable List<RestApplicationModel> restApplications, @Nullable Map<Class<?>, Set<Class<?>>> dependentClasses) {
         this.beans = requireNonNull(beans);
         this.enums = requireNonNull(enums);
         this.restApplications = Utils.listFromNullable(restApplications);
+        this.dependentClasses = dependentClasses != null ? dependentClasses : Collections.emptyMap();
     }
 
     public List<BeanModel> getBeans() {
@@ -45,6 +67,166 @@ public class Model {
         return restApplications;
     }
 
+    /**
+     * @return classes this model was created from (beans, enums, REST resources) together with their supertypes
+     */
+    public Set<Class<?>> getOriginClasses() {
+        final Set<Class<?>> classes = new LinkedHashSet<>();
+        for (BeanModel bean : beans) {
+            addClassWithSupertypes(classes, bean.getOrigin());
+        }
+        for (EnumModel enumModel : enums) {
+            addClassWithSupertypes(classes, enumModel.getOrigin());
+        }
+        for (RestApplicationModel restApplication : restApplications) {
+            for (RestMethodModel method : restApplication.getMethods()) {
+                addClassWithSupertypes(classes, method.getRootResource());
+                addClassWithSupertypes(classes, method.getOriginClass());
+            }
+        }
+        return classes;
+    }
+
+    /**
+     * @return origin classes (see {@link #getOriginClasses()}) together with classes referenced from their annotations
+     * or annotations of their members (for example subtypes in <code>@JsonSubTypes</code> or serializers in <code>@JsonSerialize</code>),
+     * change of any of these classes can change the output
+     */
+    public Set<Class<?>> getContributingClasses() {
+        final Set<Class<?>> classes = new LinkedHashSet<>();
+        for (Class<?> cls : getOriginClasses()) {
+            classes.add(cls);
+            classes.addAll(getClassesReferencedFromAnnotations(cls));
+        }
+        return classes;
+    }
+
+    /**
+     * @return classes referenced from annotations of specified class and its declared members
+     */
+    public static Set<Class<?>> getClassesReferencedFromAnnotations(Class<?> cls) {
+        final Set<Class<?>> classes = new LinkedHashSet<>();
+        try {
+            addClassesReferencedFromAnnotations(classes, cls);
+            for (Field field : cls.getDeclaredFields()) {
+                addClassesReferencedFromAnnotations(classes, field);
+            }
+            for (Executable executable : cls.getDeclaredMethods()) {
+                addClassesReferencedFromAnnotations(classes, executable);
+            }
+            for (Executable executable : cls.getDeclaredConstructors()) {
+                addClassesReferencedFromAnnotations(classes, executable);
+            }
+        } catch (LinkageError e) {
+            // class cannot be fully introspected, only classes found so far are returned
+        }
+        classes.remove(cls);
+        return classes;
+    }
+
+    private static void addClassesReferencedFromAnnotations(Set<Class<?>> classes, AnnotatedElement annotatedElement) {
+        for (Annotation annotation : annotatedElement.getAnnotations()) {
+            addClassesReferencedFromAnnotation(classes, annotation);
+        }
+        if (annotatedElement instanceof Executable) {
+            for (Parameter parameter : ((Executable) annotatedElement).getParameters()) {
+                addClassesReferencedFromAnnotations(classes, parameter);
+            }
+        }
+    }
+
+    private static void addClassesReferencedFromAnnotation(Set<Class<?>> classes, Annotation annotation) {
+        for (Method element : annotation.annotationType().getDeclaredMethods()) {
+            if (element.getParameterCount() == 0) {
+                addClassesReferencedFromAnnotationValue(classes, AnnotationCache.getElementValue(annotation, element.getName()));
+            }
+        }
+    }
+
+    private static void addClassesReferencedFromAnnotationValue(Set<Class<?>> classes, @Nullable Object value) {
+        if (value instanceof Class) {
+            Class<?> cls = (Class<?>) value;
+            while (cls.isArray()) {
+                cls = cls.getComponentType();
+            }
+            if (!cls.isPrimitive() && cls.getClassLoader() != null) {
+                classes.add(cls);
+            }
+        } else if (value instanceof Annotation) {
+            addClassesReferencedFromAnnotation(classes, (Annotation) value);
+        } else if (value instanceof Object[]) {
+            for (Object item : (Object[]) value) {
+                addClassesReferencedFromAnnotationValue(classes, item);
+            }
+        }
+    }
+
+    /**
+     * Reverse dependency graph recorded while parsing.
+     * @return all classes processed while parsing mapped to classes which use them
+     * (in properties, as supertype, as tagged union subtype or in REST method)
+     */
+    public Map<Class<?>, Set<Class<?>>> getDependentClasses() {
+        return dependentClasses;
+    }
+
+    /**
+     * @return classes of this model affected by changes of specified classes
+     * - changed classes themselves and classes which (transitively) use them,
+     * extend or implement them or reference them from annotations
+     */
+    public Set<Class<?>> getAffectedClasses(Collection<String> changedClassNames) {
+        final Map<Class<?>, Set<Class<?>>> dependencyGraph = getDependencyGraph();
+        final Set<Class<?>> affected = new LinkedHashSet<>();
+        final Deque<Class<?>> queue = new ArrayDeque<>();
+        for (Class<?> cls : dependencyGraph.keySet()) {
+            if (changedClassNames.contains(cls.getName())) {
+                queue.add(cls);
+            }
+        }
+        Class<?> cls;
+        while ((cls = queue.poll()) != null) {
+            if (affected.add(cls)) {
+                queue.addAll(dependencyGraph.getOrDefault(cls, Collections.emptySet()));
+            }
+        }
+        return affected;
+    }
+
+    /**
+     * Dependencies recorded while parsing extended with supertypes (also excluded ones whose properties can be inlined)
+     * and classes referenced from annotations which are not queued for parsing.
+     */
+    private synchronized Map<Class<?>, Set<Class<?>>> getDependencyGraph() {
+        Map<Class<?>, Set<Class<?>>> graph = dependencyGraph;
+        if (graph == null) {
+            graph = new LinkedHashMap<>();
+            for (Map.Entry<Class<?>, Set<Class<?>>> entry : dependentClasses.entrySet()) {
+                graph.computeIfAbsent(entry.getKey(), key -> new LinkedHashSet<>()).addAll(entry.getValue());
+            }
+            for (Class<?> cls : dependentClasses.keySet()) {
+                final Set<Class<?>> dependencies = new LinkedHashSet<>();
+                addClassWithSupertypes(dependencies, cls);
+                dependencies.addAll(getClassesReferencedFromAnnotations(cls));
+                dependencies.remove(cls);
+                for (Class<?> dependency : dependencies) {
+                    graph.computeIfAbsent(dependency, key -> new LinkedHashSet<>()).add(cls);
+                }
+            }
+            dependencyGraph = graph;
+        }
+        return graph;
+    }
+
+    private static void addClassWithSupertypes(Set<Class<?>> classes, @Nullable Class<?> cls) {
+        if (cls != null && classes.add(cls)) {
+            addClassWithSupertypes(classes, cls.getSuperclass());
+            for (Class<?> aInterface : cls.getInterfaces()) {
+                addClassWithSupertypes(classes, aInterface);
+            }
+        }
+    }
+
     @Override
     public String toString() {
         final StringBuilder sb = new StringBuilder();
@@ -20,11 +20,18 @@ import java.lang.reflect.Method;
 import java.lang.reflect.Type;
 import java.util.ArrayList;
 import java.util.Arrays;
-import java.util.Collection;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
 import java.util.LinkedList;
 import java.util.List;
 import java.util.Map;
 import java.util.Queue;
+import java.util.Set;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+import java.util.concurrent.ForkJoinWorkerThread;
 import java.util.function.Function;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
@@ -39,6 +46,7 @@ public abstract class ModelParser {
     private final Queue<SourceType<? extends Type>> typeQueue;
     private final TypeProcessor commonTypeProcessor;
     private final List<RestApplicationParser> restApplicationParsers;
+    private final ThreadLocal<List<SourceType<? extends Type>>> currentDiscoveredTypes = new ThreadLocal<>(); // set while class is being parsed
 
     public static abstract class Factory {
 
@@ -75,60 +83,155 @@ public abstract class ModelParser {
     }
 
     private Model parseQueue() {
-        final Collection<Type> parsedTypes = new ArrayList<>(); // do not use hashcodes, we can only count on `equals` since we use custom `ParameterizedType`s
+        final Set<Type> parsedTypes = new HashSet<>(); // custom `Type` implementations have structural hashcodes compatible with JDK ones
         final List<BeanModel> beans = new ArrayList<>();
         final List<EnumModel> enums = new ArrayList<>();
-        SourceType<? extends Type> sourceType;
-        while ((sourceType = typeQueue.poll()) != null) {
-            if (parsedTypes.contains(sourceType.type)) {
-                continue;
-            }
-            parsedTypes.add(sourceType.type);
-
-            // REST resource
-            boolean parsedByRestApplicationParser = false;
-            for (RestApplicationParser restApplicationParser : restApplicationParsers) {
-                final JaxrsApplicationParser.Result jaxrsResult = restApplicationParser.tryParse(sourceType);
-                if (jaxrsResult != null) {
-                    typeQueue.addAll(jaxrsResult.discoveredTypes);
-                    parsedByRestApplicationParser = true;
-                }
-            }
-            if (parsedByRestApplicationParser) {
-                continue;
-            }
-
-            final TypeProcessor.Result result = commonTypeProcessor.processTypeInTemporaryContext(sourceType.type, null, settings);
-            if (result != null) {
-                if (sourceType.type instanceof Class<?> && result.getTsType() instanceof TsType.ReferenceType) {
-                    final Class<?> cls = (Class<?>) sourceType.type;
-                    final TsType.ReferenceType referenceType = (TsType.ReferenceType) result.getTsType();
-                    if (!referenceType.symbol.isResolved()) {
-                        TypeScriptGenerator.getLogger().verbose("Parsing '" + cls.getName() + "'" +
-                            (sourceType.usedInClass != null ? " used in '" + sourceType.usedInClass.getSimpleName() + "." + sourceType.usedInMember + "'" : ""));
-                        final DeclarationModel model = parseClass(sourceType.asSourceClass());
-                        if (model instanceof EnumModel) {
-                            enums.add((EnumModel) model);
-                        } else if (model instanceof BeanModel) {
-                            beans.add((BeanModel) model);
-                        } else {
-                            throw new RuntimeException();
-                        }
+        final Map<Class<?>, Set<Class<?>>> dependentClasses = new LinkedHashMap<>();
+        final ForkJoinPool pool = settings.parallelParsing ? createParsingPool() : null;
+        try {
+            while (!typeQueue.isEmpty()) {
+                // in parallel mode all queued types are parsed as one batch, types discovered by the batch form the next batch
+                final List<ParsingTask> batch = new ArrayList<>();
+                SourceType<? extends Type> sourceType;
+                while ((pool != null || batch.isEmpty()) && (sourceType = typeQueue.poll()) != null) {
+                    addDependentClass(dependentClasses, sourceType);
+                    if (parsedTypes.add(sourceType.type)) {
+                        batch.add(createParsingTask(sourceType));
                     }
                 }
-                for (Class<?> cls : result.getDiscoveredClasses()) {
-                    typeQueue.add(new SourceType<>(cls, sourceType.usedInClass, sourceType.usedInMember));
+                runParsingTasks(batch, pool);
+                // results are collected in queue order so output doesn't depend on parallelism
+                for (ParsingTask task : batch) {
+                    if (task.model instanceof EnumModel) {
+                        enums.add((EnumModel) task.model);
+                    } else if (task.model instanceof BeanModel) {
+                        beans.add((BeanModel) task.model);
+                    } else if (task.model != null) {
+                        throw new RuntimeException();
+                    }
+                    typeQueue.addAll(task.discoveredTypes);
                 }
             }
+        } finally {
+            if (pool != null) {
+                pool.shutdown();
+            }
+            afterParsing();
         }
         final List<RestApplicationModel> restModels = restApplicationParsers.stream()
             .map(RestApplicationParser::getModel)
             .collect(Collectors.toList());
-        return new Model(beans, enums, restModels);
+        return new Model(beans, enums, restModels, dependentClasses);
+    }
+
+    private static void addDependentClass(Map<Class<?>, Set<Class<?>>> dependentClasses, SourceType<? extends Type> sourceType) {
+        final Class<?> cls = Utils.getRawClassOrNull(sourceType.type);
+        if (cls != null) {
+            final Set<Class<?>> dependents = dependentClasses.computeIfAbsent(cls, key -> new LinkedHashSet<>());
+            if (sourceType.usedInClass != null && sourceType.usedInClass != cls) {
+                dependents.add(sourceType.usedInClass);
+            }
+        }
+    }
+
+    private static class ParsingTask {
+        public final SourceType<? extends Type> sourceType;
+        public @Nullable SourceType<Class<?>> sourceClass; // null when class should not be parsed
+        public List<Class<?>> discoveredClasses = Collections.emptyList();
+        public final List<SourceType<? extends Type>> discoveredTypes = new ArrayList<>();
+        public @Nullable DeclarationModel model;
+
+        public ParsingTask(SourceType<? extends Type> sourceType) {
+            this.sourceType = sourceType;
+        }
+    }
+
+    private ParsingTask createParsingTask(SourceType<? extends Type> sourceType) {
+        final ParsingTask task = new ParsingTask(sourceType);
+
+        // REST resource
+        boolean parsedByRestApplicationParser = false;
+        for (RestApplicationParser restApplicationParser : restApplicationParsers) {
+            final JaxrsApplicationParser.Result jaxrsResult = restApplicationParser.tryParse(sourceType);
+            if (jaxrsResult != null) {
+                task.discoveredTypes.addAll(jaxrsResult.discoveredTypes);
+                parsedByRestApplicationParser = true;
+            }
+        }
+        if (parsedByRestApplicationParser) {
+            return task;
+        }
+
+        final TypeProcessor.Result result = commonTypeProcessor.processTypeInTemporaryContext(sourceType.type, null, settings);
+        if (result != null) {
+            if (sourceType.type instanceof Class<?> && result.getTsType() instanceof TsType.ReferenceType) {
+                final Class<?> cls = (Class<?>) sourceType.type;
+                final TsType.ReferenceType referenceType = (TsType.ReferenceType) result.getTsType();
+                if (!referenceType.symbol.isResolved()) {
+                    TypeScriptGenerator.getLogger().verbose("Parsing '" + cls.getName() + "'" +
+                        (sourceType.usedInClass != null ? " used in '" + sourceType.usedInClass.getSimpleName() + "." + sourceType.usedInMember + "'" : ""));
+                    task.sourceClass = sourceType.asSourceClass();
+                }
+            }
+            task.discoveredClasses = result.getDiscoveredClasses();
+        }
+        return task;
+    }
+
+    private void runParsingTasks(List<ParsingTask> tasks, @Nullable ForkJoinPool pool) {
+        if (pool == null || tasks.size() < 2) {
+            tasks.forEach(this::runParsingTask);
+            return;
+        }
+        final List<ForkJoinTask<?>> forkJoinTasks = tasks.stream()
+            .map(task -> pool.submit(() -> runParsingTask(task)))
+            .collect(Collectors.toList());
+        for (ForkJoinTask<?> forkJoinTask : forkJoinTasks) {
+            forkJoinTask.join();
+        }
+    }
+
+    private void runParsingTask(ParsingTask task) {
+        if (task.sourceClass != null) {
+            currentDiscoveredTypes.set(task.discoveredTypes);
+            try {
+                task.model = parseClass(task.sourceClass);
+            } finally {
+                currentDiscoveredTypes.remove();
+            }
+        }
+        for (Class<?> cls : task.discoveredClasses) {
+            task.discoveredTypes.add(new SourceType<>(cls, task.sourceType.usedInClass, task.sourceType.usedInMember));
+        }
+    }
+
+    private ForkJoinPool createParsingPool() {
+        final ClassLoader classLoader = settings.classLoader;
+        return new ForkJoinPool(Runtime.getRuntime().availableProcessors(), pool -> {
+            final ForkJoinWorkerThread thread = ForkJoinPool.defaultForkJoinWorkerThreadFactory.newThread(pool);
+            thread.setContextClassLoader(classLoader);
+            return thread;
+        }, null, false);
+    }
+
+    private void enqueue(SourceType<? extends Type> sourceType) {
+        final List<SourceType<? extends Type>> discoveredTypes = currentDiscoveredTypes.get();
+        if (discoveredTypes != null) {
+            discoveredTypes.add(sourceType);
+        } else {
+            typeQueue.add(sourceType);
+        }
     }
 
     protected abstract DeclarationModel parseClass(SourceType<Class<?>> sourceClass);
 
+    /**
+     * Called on the calling thread after all queued types are parsed, can be used to release per-thread state.
+     * Worker threads of parallel parsing end together with their pool.
+     */
+    protected void afterParsing() {
+    }
+
     protected static @Nullable PropertyMember wrapMember(
         TypeParser typeParser, Member propertyMember, @Nullable Integer creatorIndex, AnnotationGetter annotationGetter,
         String propertyName, Class<?> sourceClass
@@ -211,7 +314,7 @@ public abstract class ModelParser {
     }
 
     protected void addBeanToQueue(SourceType<? extends Type> sourceType) {
-        typeQueue.add(sourceType);
+        enqueue(sourceType);
     }
 
     protected PropertyModel processTypeAndCreateProperty(
@@ -228,7 +331,7 @@ public abstract class ModelParser {
         final Type resolvedType = GenericsResolver.resolveType(usedInClass, type, originalMember.getDeclaringClass());
         final List<Class<?>> classes = commonTypeProcessor.discoverClassesUsedInType(resolvedType, typeContext, settings);
         for (Class<?> cls : classes) {
-            typeQueue.add(new SourceType<>(cls, usedInClass, name));
+            enqueue(new SourceType<>(cls, usedInClass, name));
         }
         return new PropertyModel(name, resolvedType, optional, access, originalMember, pullProperties, typeContext, comments);
     }
@@ -0,0 +1,46 @@
+
+package cz.habarta.typescript.generator.parser;
+
+import java.lang.ref.SoftReference;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.WeakHashMap;
+import java.util.function.Supplier;
+import org.jspecify.annotations.Nullable;
+
+
+/**
+ * Configured Jackson mappers shared by parsers created for the same class loader and the same mapper configuration.
+ * Long-lived processes (Gradle worker daemon, generation service) generate repeatedly with the same class loader
+ * so module discovery, mapper configuration and Jackson's own introspection caches are not rebuilt for each generation.
+ *
+ * Class loaders are held weakly and mappers softly (mappers reference classes from the class loader).
+ * Configuration key must therefore not contain classes, only their names.
+ */
+final class ObjectMapperCache {
+
+    private static final Map<ClassLoader, Map<List<?>, SoftReference<Object>>> mappers = new WeakHashMap<>();
+
+    private ObjectMapperCache() {
+    }
+
+    @SuppressWarnings("unchecked")
+    static <T> T get(@Nullable ClassLoader classLoader, List<?> configurationKey, Supplier<T> mapperFactory) {
+        if (classLoader == null) {
+            return mapperFactory.get();
+        }
+        synchronized (mappers) {
+            final Map<List<?>, SoftReference<Object>> loaderMappers = mappers.computeIfAbsent(classLoader, k -> new HashMap<>());
+            final SoftReference<Object> reference = loaderMappers.get(configurationKey);
+            final Object cached = reference != null ? reference.get() : null;
+            if (cached != null) {
+                return (T) cached;
+            }
+            final T mapper = mapperFactory.get();
+            loaderMappers.put(configurationKey, new SoftReference<>(mapper));
+            return mapper;
+        }
+    }
+
+}
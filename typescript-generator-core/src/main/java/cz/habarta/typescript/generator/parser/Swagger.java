@@ -139,7 +139,7 @@ public class Swagger {
             final BeanModel dBean = enrichBean(bean);
             dBeans.add(dBean);
         }
-        return new Model(dBeans, model.getEnums(), model.getRestApplications());
+        return new Model(dBeans, model.getEnums(), model.getRestApplications(), model.getDependentClasses());
     }
 
     private static BeanModel enrichBean(BeanModel bean) {
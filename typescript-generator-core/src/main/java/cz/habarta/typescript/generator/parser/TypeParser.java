@@ -15,16 +15,17 @@ import java.lang.reflect.Constructor;
 import java.lang.reflect.Executable;
 import java.lang.reflect.Field;
 import java.lang.reflect.GenericDeclaration;
+import java.lang.reflect.Member;
 import java.lang.reflect.Method;
 import java.lang.reflect.ParameterizedType;
 import java.lang.reflect.Type;
 import java.lang.reflect.TypeVariable;
 import java.util.Arrays;
+import java.util.Collections;
 import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
-import java.util.Objects;
-import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
 import kotlin.Metadata;
@@ -48,6 +49,7 @@ public class TypeParser {
 
     private final JavaTypeParser javaTypeParser;
     private final KotlinTypeParser kotlinTypeParser;
+    private final Map<Class<?>, Boolean> kotlinClasses = new ConcurrentHashMap<>();
 
     public TypeParser(List<Class<? extends Annotation>> optionalAnnotations) {
         this.javaTypeParser = new JavaTypeParser(optionalAnnotations);
@@ -65,7 +67,14 @@ public class TypeParser {
     }
 
     private LanguageTypeParser getTypeParser(Class<?> declaringClass) {
-        final boolean isKotlinClass = KotlinTypeParser.isKotlinClass(declaringClass);
+        final Boolean cachedIsKotlinClass = kotlinClasses.get(declaringClass);
+        final boolean isKotlinClass;
+        if (cachedIsKotlinClass != null) {
+            isKotlinClass = cachedIsKotlinClass;
+        } else {
+            isKotlinClass = KotlinTypeParser.isKotlinClass(declaringClass);
+            kotlinClasses.put(declaringClass, isKotlinClass);
+        }
         return isKotlinClass ? kotlinTypeParser : javaTypeParser;
     }
 
@@ -176,44 +185,92 @@ public class TypeParser {
             return cls.isAnnotationPresent(Metadata.class);
         }
 
+        // kotlin-reflect lookups are expensive so resolved types are cached per member
+        // and getters of kotlin properties are indexed once per class
+        private final Map<Member, Type> returnTypes = new ConcurrentHashMap<>();
+        private final Map<Member, List<Type>> parameterTypes = new ConcurrentHashMap<>();
+        private final Map<Class<?>, Map<Method, KType>> propertyGetterTypes = new ConcurrentHashMap<>();
+
         @Override
         public Type getFieldType(Field field) {
+            final Type cachedType = returnTypes.get(field);
+            if (cachedType != null) {
+                return cachedType;
+            }
+            final Type type;
             final KProperty<?> kProperty = ReflectJvmMapping.getKotlinProperty(field);
             if (kProperty != null) {
-                return getType(kProperty.getReturnType(), new LinkedHashMap<>());
+                type = getType(kProperty.getReturnType(), new LinkedHashMap<>());
+            } else {
+                type = javaTypeParser.getFieldType(field);
             }
-            return javaTypeParser.getFieldType(field);
+            final Type existingType = returnTypes.putIfAbsent(field, type);
+            return existingType != null ? existingType : type;
         }
 
         @Override
         public Type getMethodReturnType(Method method) {
+            final Type cachedType = returnTypes.get(method);
+            if (cachedType != null) {
+                return cachedType;
+            }
+            final Type type;
             final KFunction<?> kFunction = ReflectJvmMapping.getKotlinFunction(method);
             if (kFunction != null) {
-                return getType(kFunction.getReturnType(), new LinkedHashMap<>());
+                type = getType(kFunction.getReturnType(), new LinkedHashMap<>());
             } else {
                 // `method` might be a getter so try to find a corresponding kotlin property and use its return type
-                final KClass<?> kClass = JvmClassMappingKt.getKotlinClass(method.getDeclaringClass());
-                final Optional<KType> kType = KClasses.getMemberProperties(kClass).stream()
-                    .filter(kProperty -> Objects.equals(ReflectJvmMapping.getJavaGetter(kProperty), method))
-                    .map(KProperty1::getReturnType)
-                    .findFirst();
-                if (kType.isPresent()) {
-                    return getType(kType.get(), new LinkedHashMap<>());
+                final KType kType = getPropertyGetterTypes(method.getDeclaringClass()).get(method);
+                if (kType != null) {
+                    type = getType(kType, new LinkedHashMap<>());
+                } else {
+                    type = javaTypeParser.getMethodReturnType(method);
                 }
             }
-            return javaTypeParser.getMethodReturnType(method);
+            final Type existingType = returnTypes.putIfAbsent(method, type);
+            return existingType != null ? existingType : type;
+        }
+
+        private Map<Method, KType> getPropertyGetterTypes(Class<?> cls) {
+            final Map<Method, KType> cachedGetterTypes = propertyGetterTypes.get(cls);
+            if (cachedGetterTypes != null) {
+                return cachedGetterTypes;
+            }
+            final Map<Method, KType> getterTypes = new LinkedHashMap<>();
+            final KClass<?> kClass = JvmClassMappingKt.getKotlinClass(cls);
+            for (KProperty1<?, ?> kProperty : KClasses.getMemberProperties(kClass)) {
+                final Method getter = ReflectJvmMapping.getJavaGetter(kProperty);
+                if (getter != null) {
+                    getterTypes.putIfAbsent(getter, kProperty.getReturnType());
+                }
+            }
+            final Map<Method, KType> unmodifiableGetterTypes = Collections.unmodifiableMap(getterTypes);
+            final Map<Method, KType> existingGetterTypes = propertyGetterTypes.putIfAbsent(cls, unmodifiableGetterTypes);
+            return existingGetterTypes != null ? existingGetterTypes : unmodifiableGetterTypes;
         }
 
         @Override
         public List<Type> getMethodParameterTypes(Method method) {
+            final List<Type> cachedTypes = parameterTypes.get(method);
+            if (cachedTypes != null) {
+                return cachedTypes;
+            }
             final KFunction<?> kFunction = ReflectJvmMapping.getKotlinFunction(method);
-            return getKFunctionParameterTypes(method, kFunction);
+            final List<Type> types = Collections.unmodifiableList(getKFunctionParameterTypes(method, kFunction));
+            final List<Type> existingTypes = parameterTypes.putIfAbsent(method, types);
+            return existingTypes != null ? existingTypes : types;
         }
 
         @Override
         public List<Type> getConstructorParameterTypes(Constructor<?> constructor) {
+            final List<Type> cachedTypes = parameterTypes.get(constructor);
+            if (cachedTypes != null) {
+                return cachedTypes;
+            }
             final KFunction<?> kFunction = ReflectJvmMapping.getKotlinFunction(constructor);
-            return getKFunctionParameterTypes(constructor, kFunction);
+            final List<Type> types = Collections.unmodifiableList(getKFunctionParameterTypes(constructor, kFunction));
+            final List<Type> existingTypes = parameterTypes.putIfAbsent(constructor, types);
+            return existingTypes != null ? existingTypes : types;
         }
 
         private List<Type> getKFunctionParameterTypes(Executable executable, @Nullable KFunction<?> kFunction) {
@@ -39,7 +39,8 @@ public class JParameterizedType implements ParameterizedType {
 
     @Override
     public int hashCode() {
-        return Objects.hash(ownerType, rawType, actualTypeArguments);
+        // same formula as JDK implementation so that hash-based collections can mix both implementations
+        return Arrays.hashCode(actualTypeArguments) ^ Objects.hashCode(ownerType) ^ Objects.hashCode(rawType);
     }
 
     @Override
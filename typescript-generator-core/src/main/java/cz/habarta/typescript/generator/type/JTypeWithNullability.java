@@ -41,6 +41,24 @@ public class JTypeWithNullability implements Type {
         return Utils.transformContainedTypes(type, JTypeWithNullability::removeNullability);
     }
 
+    @Override
+    public int hashCode() {
+        return Objects.hashCode(type) ^ Boolean.hashCode(isNullable);
+    }
+
+    @Override
+    public boolean equals(Object obj) {
+        if (this == obj) {
+            return true;
+        }
+        if (obj instanceof JTypeWithNullability) {
+            final JTypeWithNullability that = (JTypeWithNullability) obj;
+            return Objects.equals(type, that.type) && isNullable == that.isNullable;
+        } else {
+            return false;
+        }
+    }
+
     @Override
     public String toString() {
         return type + (isNullable ? "?" : "!");
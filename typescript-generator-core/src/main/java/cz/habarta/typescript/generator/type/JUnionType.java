@@ -23,6 +23,24 @@ public class JUnionType implements Type {
         return types;
     }
 
+    @Override
+    public int hashCode() {
+        return types.hashCode();
+    }
+
+    @Override
+    public boolean equals(Object obj) {
+        if (this == obj) {
+            return true;
+        }
+        if (obj instanceof JUnionType) {
+            final JUnionType that = (JUnionType) obj;
+            return types.equals(that.types);
+        } else {
+            return false;
+        }
+    }
+
     @Override
     public String toString() {
         return "(" +
@@ -0,0 +1,143 @@
+
+package cz.habarta.typescript.generator.util;
+
+import java.lang.annotation.Annotation;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.AnnotatedElement;
+import java.lang.reflect.Member;
+import java.lang.reflect.Method;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import org.jspecify.annotations.Nullable;
+
+
+/**
+ * Caches annotations of classes and their members by annotation class name
+ * and method handles for reading annotation elements.
+ * Cached data are stored in {@link ClassValue}s so they don't prevent unloading of scanned classes.
+ */
+public final class AnnotationCache {
+
+    private AnnotationCache() {
+    }
+
+    private static final ClassValue<Map<AnnotatedElement, Map<String, Annotation>>> elementAnnotations = new ClassValue<>() {
+        @Override
+        protected Map<AnnotatedElement, Map<String, Annotation>> computeValue(Class<?> cls) {
+            return new ConcurrentHashMap<>();
+        }
+    };
+
+    private static final ClassValue<Map<String, MethodHandle>> annotationElementHandles = new ClassValue<>() {
+        @Override
+        protected Map<String, MethodHandle> computeValue(Class<?> annotationType) {
+            return createAnnotationElementHandles(annotationType);
+        }
+    };
+
+    public static @Nullable Annotation getAnnotation(@Nullable AnnotatedElement annotatedElement, String annotationClassName) {
+        if (annotatedElement == null) {
+            return null;
+        }
+        return getAnnotations(annotatedElement).get(annotationClassName);
+    }
+
+    public static <A extends Annotation> @Nullable A getAnnotation(@Nullable AnnotatedElement annotatedElement, Class<A> annotationClass) {
+        final Annotation annotation = getAnnotation(annotatedElement, annotationClass.getName());
+        return annotationClass.isInstance(annotation) ? annotationClass.cast(annotation) : null;
+    }
+
+    public static boolean isAnnotationPresent(@Nullable AnnotatedElement annotatedElement, Class<? extends Annotation> annotationClass) {
+        return getAnnotation(annotatedElement, annotationClass) != null;
+    }
+
+    private static Map<String, Annotation> getAnnotations(AnnotatedElement annotatedElement) {
+        final Class<?> owner = getOwnerClass(annotatedElement);
+        if (owner == null) {
+            return createAnnotationMap(annotatedElement);
+        }
+        final Map<AnnotatedElement, Map<String, Annotation>> cache = elementAnnotations.get(owner);
+        final Map<String, Annotation> cachedAnnotations = cache.get(annotatedElement);
+        if (cachedAnnotations != null) {
+            return cachedAnnotations;
+        }
+        final Map<String, Annotation> annotations = createAnnotationMap(annotatedElement);
+        final Map<String, Annotation> existingAnnotations = cache.putIfAbsent(annotatedElement, annotations);
+        return existingAnnotations != null ? existingAnnotations : annotations;
+    }
+
+    private static @Nullable Class<?> getOwnerClass(AnnotatedElement annotatedElement) {
+        if (annotatedElement instanceof Class) {
+            return (Class<?>) annotatedElement;
+        }
+        if (annotatedElement instanceof Member) {
+            return ((Member) annotatedElement).getDeclaringClass();
+        }
+        // other elements (parameters, annotated types, ...) don't have stable identity
+        return null;
+    }
+
+    private static Map<String, Annotation> createAnnotationMap(AnnotatedElement annotatedElement) {
+        final Annotation[] annotations = annotatedElement.getAnnotations();
+        if (annotations.length == 0) {
+            return Collections.emptyMap();
+        }
+        final Map<String, Annotation> map = new LinkedHashMap<>();
+        for (Annotation annotation : annotations) {
+            map.putIfAbsent(annotation.annotationType().getName(), annotation);
+        }
+        return Collections.unmodifiableMap(map);
+    }
+
+    /**
+     * Returns value of annotation element or <code>null</code> if annotation doesn't have element with specified name.
+     */
+    public static @Nullable Object getElementValue(Annotation annotation, String annotationElementName) {
+        final MethodHandle handle = annotationElementHandles.get(annotation.annotationType()).get(annotationElementName);
+        if (handle != null) {
+            try {
+                return (Object) handle.invokeExact(annotation);
+            } catch (RuntimeException | Error e) {
+                throw e;
+            } catch (Throwable e) {
+                throw new RuntimeException(e);
+            }
+        }
+        return getElementValueReflectively(annotation, annotationElementName);
+    }
+
+    private static Map<String, MethodHandle> createAnnotationElementHandles(Class<?> annotationType) {
+        final Map<String, MethodHandle> handles = new LinkedHashMap<>();
+        final MethodType methodType = MethodType.methodType(Object.class, Annotation.class);
+        for (Method method : annotationType.getDeclaredMethods()) {
+            if (method.getParameterCount() != 0) {
+                continue;
+            }
+            try {
+                method.setAccessible(true);
+                handles.put(method.getName(), MethodHandles.lookup().unreflect(method).asType(methodType));
+            } catch (IllegalAccessException | RuntimeException e) {
+                // inaccessible element (for example in non-open module) is read using reflection
+            }
+        }
+        return Collections.unmodifiableMap(handles);
+    }
+
+    private static @Nullable Object getElementValueReflectively(Annotation annotation, String annotationElementName) {
+        try {
+            for (Method method : annotation.getClass().getMethods()) {
+                if (method.getName().equals(annotationElementName) && method.getParameterCount() == 0) {
+                    return method.invoke(annotation);
+                }
+            }
+            return null;
+        } catch (ReflectiveOperationException e) {
+            throw new RuntimeException(e);
+        }
+    }
+
+}
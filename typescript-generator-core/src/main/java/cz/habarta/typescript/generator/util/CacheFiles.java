@@ -0,0 +1,89 @@
+
+package cz.habarta.typescript.generator.util;
+
+import cz.habarta.typescript.generator.TypeScriptGenerator;
+import java.io.BufferedOutputStream;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.security.DigestInputStream;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+
+
+/**
+ * Helpers for on-disk caches (classpath scan results, Javadoc index).
+ */
+public final class CacheFiles {
+
+    private CacheFiles() {
+    }
+
+    @FunctionalInterface
+    public static interface ContentWriter {
+        public void write(DataOutputStream output) throws IOException;
+    }
+
+    /**
+     * Writes cache file atomically (to temporary file which is then moved) so concurrent readers never see partial content.
+     * Errors are only logged.
+     */
+    public static void write(File cacheFile, String description, ContentWriter contentWriter) {
+        try {
+            final Path directory = cacheFile.getAbsoluteFile().getParentFile().toPath();
+            Files.createDirectories(directory);
+            final Path tempFile = Files.createTempFile(directory, "." + cacheFile.getName() + "-", ".tmp");
+            try {
+                try (DataOutputStream output = new DataOutputStream(new BufferedOutputStream(Files.newOutputStream(tempFile)))) {
+                    contentWriter.write(output);
+                }
+                Files.move(tempFile, cacheFile.toPath(), StandardCopyOption.REPLACE_EXISTING);
+            } finally {
+                Files.deleteIfExists(tempFile);
+            }
+        } catch (IOException e) {
+            // cache is only optimization
+            TypeScriptGenerator.getLogger().warning("Cannot write " + description + " cache file " + cacheFile + ": " + e.getMessage());
+        }
+    }
+
+    public static String hash(String value) {
+        final MessageDigest digest = createDigest();
+        return toHex(digest.digest(value.getBytes(StandardCharsets.UTF_8)));
+    }
+
+    public static String hash(File file) {
+        final MessageDigest digest = createDigest();
+        try (InputStream input = new DigestInputStream(Files.newInputStream(file.toPath()), digest)) {
+            final byte[] buffer = new byte[64 * 1024];
+            while (input.read(buffer) != -1) {
+                // reading updates digest
+            }
+        } catch (IOException e) {
+            throw new RuntimeException(e);
+        }
+        return toHex(digest.digest());
+    }
+
+    private static MessageDigest createDigest() {
+        try {
+            return MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new RuntimeException(e);
+        }
+    }
+
+    private static String toHex(byte[] bytes) {
+        final StringBuilder sb = new StringBuilder();
+        for (byte b : bytes) {
+            sb.append(String.format("%02x", b));
+        }
+        return sb.toString();
+    }
+
+}
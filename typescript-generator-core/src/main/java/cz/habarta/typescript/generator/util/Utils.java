@@ -167,37 +167,21 @@ public final class Utils {
     }
 
     public static @Nullable Annotation getAnnotation(AnnotatedElement annotatedElement, String annotationClassName) {
-        if (annotatedElement != null) {
-            for (Annotation annotation : annotatedElement.getAnnotations()) {
-                if (annotation.annotationType().getName().equals(annotationClassName)) {
-                    return annotation;
-                }
-            }
-        }
-        return null;
+        return AnnotationCache.getAnnotation(annotatedElement, annotationClassName);
     }
 
     public static <T> T getRequiredAnnotationElementValue(Annotation annotation, String annotationElementName, Class<T> annotationElementType) {
         return Objects.requireNonNull(getAnnotationElementValue(annotation, annotationElementName, annotationElementType));
     }
 
-    @SuppressWarnings("unchecked")
     public static <T> @Nullable T getAnnotationElementValue(@Nullable Annotation annotation, String annotationElementName, Class<T> annotationElementType) {
-        try {
-            if (annotation != null) {
-                for (Method method : annotation.getClass().getMethods()) {
-                    if (method.getName().equals(annotationElementName)) {
-                        final Object value = method.invoke(annotation);
-                        if (annotationElementType.isInstance(value)) {
-                            return (T) value;
-                        }
-                    }
-                }
+        if (annotation != null) {
+            final Object value = AnnotationCache.getElementValue(annotation, annotationElementName);
+            if (annotationElementType.isInstance(value)) {
+                return annotationElementType.cast(value);
             }
-            return null;
-        } catch (ReflectiveOperationException e) {
-            throw new RuntimeException(e);
         }
+        return null;
     }
 
     public static List<Annotation> getRepeatableAnnotation(@Nullable Annotation directAnnotation, @Nullable Annotation containerAnnotation) {
@@ -323,6 +323,39 @@ public class ClassesTest {
     private interface FooBarInterface {
     }
 
+    @Test
+    public void testConstructorInDeepHierarchy() {
+        final Settings settings = TestUtils.settings();
+        settings.outputFileType = TypeScriptFileType.implementationFile;
+        settings.mapClasses = ClassMapping.asClasses;
+        settings.generateConstructors = true;
+        final String output = new TypeScriptGenerator(settings).generateTypeScript(Input.from(Level3a.class, Level3b.class));
+        final String nl = settings.newline;
+        Assertions.assertTrue(output.contains("constructor(data: Level3a) {" + nl + "        super(data);" + nl + "        this.l3a = data.l3a;" + nl + "    }"));
+        Assertions.assertTrue(output.contains("constructor(data: Level3b) {" + nl + "        super(data);" + nl + "        this.l3b = data.l3b;" + nl + "    }"));
+        Assertions.assertTrue(output.contains("constructor(data: Level2) {" + nl + "        super(data);" + nl + "        this.l2 = data.l2;" + nl + "    }"));
+    }
+
+    @SuppressWarnings("NullAway.Init")
+    private static class Level1 {
+        public String l1;
+    }
+
+    @SuppressWarnings("NullAway.Init")
+    private static class Level2 extends Level1 {
+        public String l2;
+    }
+
+    @SuppressWarnings("NullAway.Init")
+    private static class Level3a extends Level2 {
+        public String l3a;
+    }
+
+    @SuppressWarnings("NullAway.Init")
+    private static class Level3b extends Level2 {
+        public String l3b;
+    }
+
     @Test
     public void testConstructorWithGenericsAndInheritance() {
         final Settings settings = TestUtils.settings();
@@ -0,0 +1,47 @@
+
+package cz.habarta.typescript.generator;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.LinkedHashSet;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+
+public class ClassesWatcherTest {
+
+    @Test
+    public void testChanges(@TempDir Path root) throws Exception {
+        final Path packageDirectory = Files.createDirectories(root.resolve("com/example"));
+        Files.write(packageDirectory.resolve("A.class"), new byte[] {1});
+        Files.write(packageDirectory.resolve("A$Inner.class"), new byte[] {1});
+
+        try (ClassesWatcher watcher = new ClassesWatcher(Arrays.asList(root.toFile()))) {
+            // modified classes
+            Files.write(packageDirectory.resolve("A.class"), new byte[] {2});
+            Files.write(packageDirectory.resolve("A$Inner.class"), new byte[] {2});
+            Files.write(packageDirectory.resolve("readme.txt"), new byte[] {2});
+            final ClassesWatcher.Changes changes1 = watcher.awaitChanges(200);
+            Assertions.assertEquals(new LinkedHashSet<>(Arrays.asList("com.example.A", "com.example.A$Inner")), changes1.changedClassNames);
+            Assertions.assertFalse(changes1.fullGenerationRequired);
+
+            // replaced class
+            Files.delete(packageDirectory.resolve("A.class"));
+            Files.write(packageDirectory.resolve("A.class"), new byte[] {3});
+            final ClassesWatcher.Changes changes2 = watcher.awaitChanges(200);
+            Assertions.assertEquals(Collections.singleton("com.example.A"), changes2.changedClassNames);
+            Assertions.assertFalse(changes2.fullGenerationRequired);
+
+            // added class in new directory
+            final Path newPackageDirectory = Files.createDirectories(root.resolve("com/example/sub"));
+            Files.write(newPackageDirectory.resolve("B.class"), new byte[] {1});
+            final ClassesWatcher.Changes changes3 = watcher.awaitChanges(200);
+            Assertions.assertTrue(changes3.changedClassNames.contains("com.example.sub.B"));
+            Assertions.assertTrue(changes3.fullGenerationRequired);
+        }
+    }
+
+}
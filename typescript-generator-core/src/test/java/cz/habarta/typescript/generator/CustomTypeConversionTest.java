@@ -6,6 +6,7 @@ import java.lang.reflect.ParameterizedType;
 import java.lang.reflect.Type;
 import java.util.Date;
 import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
 import org.jspecify.annotations.Nullable;
 import org.junit.jupiter.api.Test;
 
@@ -105,4 +106,87 @@ public class CustomTypeConversionTest {
     public static class CustomOptional<T> {
     }
 
+    @Test
+    public void testTypeProcessorCache() {
+        final AtomicInteger cachedCalls = new AtomicInteger();
+        final AtomicInteger uncachedCalls = new AtomicInteger();
+        final TypeScriptGenerator cachedGenerator = createGeneratorWithCountingProcessor(true, cachedCalls);
+        final TypeScriptGenerator uncachedGenerator = createGeneratorWithCountingProcessor(false, uncachedCalls);
+        final String cachedOutput = cachedGenerator.generateTypeScript(Input.from(RepeatedTypesUsage.class));
+        final String uncachedOutput = uncachedGenerator.generateTypeScript(Input.from(RepeatedTypesUsage.class));
+        assertEquals(uncachedOutput, cachedOutput);
+        final CachingTypeProcessor cachingProcessor = requireNonNull(cachedGenerator.getParsingTypeProcessor());
+        assertThat(cachingProcessor.getHitCount()).isGreaterThanOrEqualTo(2);
+        assertThat(cachedCalls.get()).isEqualTo(uncachedCalls.get() - 2);
+        final CachingTypeProcessor disabledProcessor = requireNonNull(uncachedGenerator.getParsingTypeProcessor());
+        assertThat(disabledProcessor.getHitCount()).isEqualTo(0);
+        assertThat(disabledProcessor.getMissCount()).isEqualTo(0);
+    }
+
+    @Test
+    public void testTypeProcessorCacheWithJacksonPropertyContext() {
+        testTypeProcessorCacheWithPropertyContext(JsonLibrary.jackson2);
+        testTypeProcessorCacheWithPropertyContext(JsonLibrary.jackson3);
+    }
+
+    private static void testTypeProcessorCacheWithPropertyContext(JsonLibrary jsonLibrary) {
+        final AtomicInteger cachedCalls = new AtomicInteger();
+        final AtomicInteger uncachedCalls = new AtomicInteger();
+        final TypeScriptGenerator cachedGenerator = createGeneratorWithCountingProcessor(jsonLibrary, true, true, cachedCalls);
+        final TypeScriptGenerator uncachedGenerator = createGeneratorWithCountingProcessor(jsonLibrary, true, false, uncachedCalls);
+        final Input input = Input.from(InheritedListUsage1.class, InheritedListUsage2.class, InheritedListUsage3.class);
+        assertEquals(uncachedGenerator.generateTypeScript(input), cachedGenerator.generateTypeScript(input));
+        // `list` property inherited from the base class is processed for each bean with equal type contexts
+        assertThat(uncachedCalls.get()).isGreaterThan(0);
+        assertThat(cachedCalls.get()).isLessThan(uncachedCalls.get());
+    }
+
+    private static TypeScriptGenerator createGeneratorWithCountingProcessor(boolean cacheable, AtomicInteger listCalls) {
+        return createGeneratorWithCountingProcessor(JsonLibrary.jsonb, false, cacheable, listCalls);
+    }
+
+    private static TypeScriptGenerator createGeneratorWithCountingProcessor(JsonLibrary jsonLibrary, boolean onlyWithTypeContext, boolean cacheable, AtomicInteger listCalls) {
+        final Settings settings = TestUtils.settings();
+        settings.jsonLibrary = jsonLibrary;
+        settings.customTypeProcessor = new TypeProcessor() {
+            @Override
+            public TypeProcessor.@Nullable Result processType(Type javaType, TypeProcessor.Context context) {
+                if (onlyWithTypeContext && context.getTypeContext() == null) {
+                    return null;
+                }
+                if (tryGetParameterizedTypeArguments(javaType, List.class) != null) {
+                    listCalls.incrementAndGet();
+                }
+                return null;
+            }
+
+            @Override
+            public boolean isCacheable() {
+                return cacheable;
+            }
+        };
+        return new TypeScriptGenerator(settings);
+    }
+
+    @SuppressWarnings("NullAway.Init")
+    public static class RepeatedTypesUsage {
+        public List<SomeObject> list1;
+        public List<SomeObject> list2;
+        public List<SomeObject> list3;
+    }
+
+    @SuppressWarnings("NullAway.Init")
+    public static class InheritedListBase {
+        public List<SomeObject> list;
+    }
+
+    public static class InheritedListUsage1 extends InheritedListBase {
+    }
+
+    public static class InheritedListUsage2 extends InheritedListBase {
+    }
+
+    public static class InheritedListUsage3 extends InheritedListBase {
+    }
+
 }
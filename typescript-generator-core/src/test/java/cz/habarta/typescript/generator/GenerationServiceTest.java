@@ -0,0 +1,138 @@
+
+package cz.habarta.typescript.generator;
+
+import java.io.BufferedReader;
+import java.io.ByteArrayOutputStream;
+import java.io.File;
+import java.io.PrintStream;
+import java.io.StringReader;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Objects;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+
+public class GenerationServiceTest {
+
+    @Test
+    public void testClasspathReuse() throws Exception {
+        final File outputFile = new File("target/GenerationServiceTest/reuse.d.ts");
+        try (GenerationService service = new GenerationService()) {
+            final GenerationService.Request request = createRequest(outputFile);
+            final GenerationService.Response response1 = service.generate(request);
+            Assertions.assertTrue(response1.success, response1.error);
+            Assertions.assertFalse(response1.classpathReused);
+            Assertions.assertFalse(response1.generatorReused);
+            final String output = TestUtils.readFile(outputFile.getPath());
+            Assertions.assertTrue(output.contains("export interface A {"));
+            Assertions.assertTrue(output.contains("export interface B extends A {"));
+
+            request.changedFiles = Collections.emptyList();
+            final GenerationService.Response response2 = service.generate(request);
+            Assertions.assertTrue(response2.success, response2.error);
+            Assertions.assertTrue(response2.classpathReused);
+            Assertions.assertTrue(response2.generatorReused);
+            Assertions.assertEquals(output, TestUtils.readFile(outputFile.getPath()));
+
+            request.changedFiles = null;
+            final GenerationService.Response response3 = service.generate(request);
+            Assertions.assertTrue(response3.success, response3.error);
+            Assertions.assertTrue(response3.classpathReused);
+            Assertions.assertTrue(response3.generatorReused);
+
+            request.changedFiles = Arrays.asList(new File("target/test-classes/cz/habarta/typescript/generator/p1/A.class").getPath());
+            final GenerationService.Response response4 = service.generate(request);
+            Assertions.assertTrue(response4.success, response4.error);
+            Assertions.assertFalse(response4.classpathReused);
+            Assertions.assertFalse(response4.generatorReused);
+
+            // fingerprint of session created for delta is unknown
+            request.changedFiles = null;
+            final GenerationService.Response response5 = service.generate(request);
+            Assertions.assertTrue(response5.success, response5.error);
+            Assertions.assertFalse(response5.classpathReused);
+            final GenerationService.Response response6 = service.generate(request);
+            Assertions.assertTrue(response6.success, response6.error);
+            Assertions.assertTrue(response6.classpathReused);
+
+            // changed settings
+            final Map<String, Object> settings = new LinkedHashMap<>(Objects.requireNonNull(request.settings));
+            settings.put("addTypeNamePrefix", "I");
+            request.settings = settings;
+            final GenerationService.Response response7 = service.generate(request);
+            Assertions.assertTrue(response7.success, response7.error);
+            Assertions.assertTrue(response7.classpathReused);
+            Assertions.assertFalse(response7.generatorReused);
+            Assertions.assertTrue(TestUtils.readFile(outputFile.getPath()).contains("export interface IA {"));
+        }
+    }
+
+    @Test
+    public void testInvalidSettings() throws Exception {
+        try (GenerationService service = new GenerationService()) {
+            final GenerationService.Request request = createRequest(new File("target/GenerationServiceTest/invalid.d.ts"));
+            request.settings = Collections.singletonMap("unknownSetting", true);
+            final GenerationService.Response response = service.generate(request);
+            Assertions.assertFalse(response.success);
+            Assertions.assertNotNull(response.error);
+        }
+    }
+
+    @Test
+    public void testLinkageError() throws Exception {
+        try (GenerationService service = new GenerationService()) {
+            final GenerationService.Request request = createRequest(new File("target/GenerationServiceTest/linkage.d.ts"));
+            request.classPatterns = null;
+            request.classes = Arrays.asList(FailingEnum.class.getName());
+            final GenerationService.Response response = service.generate(request);
+            Assertions.assertFalse(response.success);
+            Assertions.assertNotNull(response.error);
+            Assertions.assertTrue(response.error.contains("Error"), response.error);
+        }
+    }
+
+    private static enum FailingEnum {
+        A;
+        static {
+            if (Boolean.parseBoolean("true")) {
+                throw new IllegalStateException("Failing static initializer");
+            }
+        }
+    }
+
+    @Test
+    public void testServer() throws Exception {
+        final File outputFile = new File("target/GenerationServiceTest/server.d.ts");
+        final String request = "{\"id\":\"r1\",\"classpath\":[\"target/test-classes\"],\"outputFile\":\"" + outputFile.getPath().replace('\\', '/') + "\","
+            + "\"scanCacheDirectory\":\"target/GenerationServiceTest/cache\",\"settings\":{\"outputKind\":\"module\",\"jsonLibrary\":\"jackson2\"},"
+            + "\"classPatterns\":[\"cz.habarta.typescript.generator.p1.*\"]}";
+        final String input = request + "\n" + "not json\n";
+        final ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        new GenerationServer().run(new BufferedReader(new StringReader(input)), new PrintStream(bytes, true, StandardCharsets.UTF_8));
+        final String[] lines = bytes.toString(StandardCharsets.UTF_8).split("\\R");
+        Assertions.assertEquals(2, lines.length);
+        Assertions.assertTrue(lines[0].startsWith("{\"id\":\"r1\",\"success\":true"), lines[0]);
+        Assertions.assertTrue(lines[1].contains("\"success\":false"), lines[1]);
+        Assertions.assertTrue(lines[1].contains("Invalid request"), lines[1]);
+        Assertions.assertTrue(TestUtils.readFile(outputFile.getPath()).contains("export interface A {"));
+    }
+
+    private static GenerationService.Request createRequest(File outputFile) {
+        final GenerationService.Request request = new GenerationService.Request();
+        request.classpath = Arrays.asList("target/test-classes");
+        request.outputFile = outputFile.getPath();
+        request.scanCacheDirectory = "target/GenerationServiceTest/cache";
+        final Map<String, Object> settings = new LinkedHashMap<>();
+        settings.put("outputKind", "module");
+        settings.put("jsonLibrary", "jackson2");
+        settings.put("outputFileType", "declarationFile");
+        request.settings = settings;
+        request.classPatterns = Arrays.asList("cz.habarta.typescript.generator.p1.*", "cz.habarta.typescript.generator.p2.*");
+        return request;
+    }
+
+}
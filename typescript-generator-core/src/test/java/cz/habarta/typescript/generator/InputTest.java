@@ -1,12 +1,25 @@
 
 package cz.habarta.typescript.generator;
 
+import cz.habarta.typescript.generator.p1.A;
+import cz.habarta.typescript.generator.p1.C;
+import cz.habarta.typescript.generator.p1.E;
+import cz.habarta.typescript.generator.p2.B;
+import cz.habarta.typescript.generator.parser.Model;
+import com.fasterxml.jackson.databind.ObjectMapper;
 import io.github.classgraph.ClassGraph;
 import io.github.classgraph.ScanResult;
+import java.io.File;
+import java.io.StringWriter;
 import java.lang.annotation.Retention;
 import java.lang.annotation.RetentionPolicy;
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.nio.file.Files;
+import java.nio.file.attribute.FileTime;
 import java.util.Arrays;
 import java.util.List;
+import java.util.stream.Collectors;
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.Test;
 
@@ -104,6 +117,121 @@ public class InputTest {
             .anyMatch(sourceType -> sourceType.type instanceof Class<?> cls ? cls.isRecord() : false);
     }
 
+    @Test
+    public void testSharedScannerAndModel() {
+        try (Input.ClasspathScanner scanner = new Input.ClasspathScanner(null, Arrays.asList("cz.habarta"), false)) {
+            final Input.Parameters parameters1 = new Input.Parameters();
+            parameters1.classesImplementingInterfaces = Arrays.asList(MyJsonInterface.class.getName());
+            final Input input1 = Input.from(parameters1, scanner);
+            final ScanResult scanResult = scanner.getScanResult();
+            final Input.Parameters parameters2 = new Input.Parameters();
+            parameters2.classesWithAnnotations = Arrays.asList(MyJsonClass.class.getName());
+            final Input input2 = Input.from(parameters2, scanner);
+            Assertions.assertSame(scanResult, scanner.getScanResult());
+            Assertions.assertEquals(2, input1.getSourceTypes().size());
+            Assertions.assertEquals(1, input2.getSourceTypes().size());
+
+            // one parsed model used by generators with different output settings
+            final Settings settings1 = TestUtils.settings();
+            final Settings settings2 = TestUtils.settings();
+            settings2.outputKind = TypeScriptOutputKind.module;
+            settings2.outputFileType = TypeScriptFileType.implementationFile;
+            settings2.mapClasses = ClassMapping.asClasses;
+            final Model model = new TypeScriptGenerator(settings1).parseModel(input1);
+            final String output1 = generate(new TypeScriptGenerator(settings1), model);
+            final String output2 = generate(new TypeScriptGenerator(settings2), model);
+            Assertions.assertEquals(new TypeScriptGenerator(settings1).generateTypeScript(input1), output1);
+            Assertions.assertEquals(new TypeScriptGenerator(settings2).generateTypeScript(input1), output2);
+            Assertions.assertTrue(output2.contains("export class MyJsonInterfaceSubclass"));
+        }
+    }
+
+    @Test
+    public void testScanningAcceptedPackages() {
+        Assertions.assertEquals(Arrays.asList("cz.habarta.typescript.generator.p1", "com.example", "org"),
+            Input.getScanningAcceptedPackages(Arrays.asList(
+                parameters(Arrays.asList("cz.habarta.typescript.generator.p1.*", "com.example.**Dto")),
+                parameters(Arrays.asList("org.Foo", "org.*.Bar")),
+                new Input.Parameters())));
+        Assertions.assertNull(Input.getScanningAcceptedPackages(Arrays.asList(parameters(Arrays.asList("**Dto")))));
+        Assertions.assertNull(Input.getScanningAcceptedPackages(Arrays.asList(parameters(Arrays.asList("Foo*")))));
+        Assertions.assertNull(Input.getScanningAcceptedPackages(Arrays.asList(new Input.Parameters())));
+        final Input.Parameters withAnnotations = parameters(Arrays.asList("com.example.*"));
+        withAnnotations.classesWithAnnotations = Arrays.asList(MyJsonClass.class.getName());
+        Assertions.assertNull(Input.getScanningAcceptedPackages(Arrays.asList(withAnnotations)));
+        withAnnotations.scanningAcceptedPackages = Arrays.asList("com.example");
+        Assertions.assertEquals(Arrays.asList("com.example"), Input.getScanningAcceptedPackages(Arrays.asList(withAnnotations)));
+
+        final Input input = Input.from(parameters(Arrays.asList("cz.habarta.typescript.generator.p1.*")));
+        Assertions.assertEquals(3, input.getSourceTypes().size());
+    }
+
+    @Test
+    public void testDeduplicationAndExclusionBeforeLoading() {
+        final Input.Parameters parameters = parameters(Arrays.asList("cz.habarta.typescript.generator.p1.*"));
+        parameters.classNames = Arrays.asList(E.class.getName());
+        parameters.classesExtendingClasses = Arrays.asList(B.class.getName());
+        parameters.isClassNameExcluded = className -> className.equals(A.class.getName());
+        final Input input = Input.from(parameters);
+        Assertions.assertEquals(Arrays.asList(E.class, C.class),
+            input.getSourceTypes().stream().map(sourceType -> sourceType.type).collect(Collectors.toList()));
+
+        try (Input.ClasspathScanner scanner = new Input.ClasspathScanner(null, Arrays.asList("cz.habarta"), false)) {
+            final List<String> allClassNames = scanner.getAllClassNames();
+            Assertions.assertTrue(allClassNames.contains(InputTest.class.getName()));
+            Assertions.assertTrue(allClassNames.stream().noneMatch(className -> className.matches(".*\\$[0-9]+")));
+        }
+    }
+
+    private static Input.Parameters parameters(List<String> classNamePatterns) {
+        final Input.Parameters parameters = new Input.Parameters();
+        parameters.classNamePatterns = classNamePatterns;
+        return parameters;
+    }
+
+    @Test
+    public void testScanCache() throws Exception {
+        final File cacheDirectory = new File("target/InputTest-scan-cache");
+        final URL[] classpath = {
+            ObjectMapper.class.getProtectionDomain().getCodeSource().getLocation(),
+            InputTest.class.getProtectionDomain().getCodeSource().getLocation(),
+        };
+        final List<String> queries = Arrays.asList(
+            MyJsonInterface.class.getName(),
+            "com.fasterxml.jackson.databind.JsonSerializable",
+            "com.fasterxml.jackson.databind.JsonSerializer",
+            "com.fasterxml.jackson.databind.annotation.JacksonStdImpl",
+            MyJsonClass.class.getName());
+        try (URLClassLoader classLoader = new URLClassLoader(classpath, null);
+            Input.ClasspathScanner scanner = new Input.ClasspathScanner(classLoader, null, false);
+            Input.ClasspathScanner cachingScanner = new Input.ClasspathScanner(classLoader, null, false, cacheDirectory)) {
+            Assertions.assertEquals(scanner.getAllClassNames(), cachingScanner.getAllClassNames());
+            for (String query : queries) {
+                Assertions.assertEquals(scanner.getClassesImplementing(query), cachingScanner.getClassesImplementing(query));
+                Assertions.assertEquals(scanner.getSubclasses(query), cachingScanner.getSubclasses(query));
+                Assertions.assertEquals(scanner.getClassesWithAnnotation(query), cachingScanner.getClassesWithAnnotation(query));
+            }
+            Assertions.assertFalse(cachingScanner.getSubclasses("com.fasterxml.jackson.databind.JsonSerializer").isEmpty());
+            Assertions.assertFalse(cachingScanner.getClassesWithAnnotation(MyJsonClass.class.getName()).isEmpty());
+
+            // only jar is cached, cache file is reused
+            final File[] cacheFiles = cacheDirectory.listFiles();
+            Assertions.assertEquals(1, cacheFiles.length);
+            final FileTime oldTime = FileTime.fromMillis(System.currentTimeMillis() - 3_600_000);
+            Files.setLastModifiedTime(cacheFiles[0].toPath(), oldTime);
+            try (Input.ClasspathScanner cachingScanner2 = new Input.ClasspathScanner(classLoader, null, false, cacheDirectory)) {
+                Assertions.assertEquals(scanner.getAllClassNames(), cachingScanner2.getAllClassNames());
+            }
+            Assertions.assertEquals(oldTime, Files.getLastModifiedTime(cacheFiles[0].toPath()));
+        }
+    }
+
+    private static String generate(TypeScriptGenerator generator, Model model) {
+        final StringWriter stringWriter = new StringWriter();
+        generator.generateTypeScript(model, Output.to(stringWriter));
+        return stringWriter.toString();
+    }
+
     @Retention(RetentionPolicy.RUNTIME)
     private static @interface MyJsonClass {
     }
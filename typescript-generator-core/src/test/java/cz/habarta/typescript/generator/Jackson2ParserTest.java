@@ -113,6 +113,18 @@ public class Jackson2ParserTest {
         Assertions.assertEquals("NamedByModule", bean5.getDiscriminantLiteral());
     }
 
+    @Test
+    public void testTaggedUnionFromRoot() {
+        final Jackson2Parser jacksonParser = getJackson2Parser();
+        final Model model = jacksonParser.parseModel(ParentWithNameDiscriminant.class);
+        Assertions.assertEquals(5, model.getBeans().size());
+        Assertions.assertEquals(4, requireNonNull(model.getBeanNonNull(ParentWithNameDiscriminant.class).getTaggedUnionClasses()).size());
+        Assertions.assertEquals("explicit-name1", model.getBeanNonNull(SubTypeDiscriminatedByName1.class).getDiscriminantLiteral());
+        Assertions.assertEquals("SubType2", model.getBeanNonNull(SubTypeDiscriminatedByName2.class).getDiscriminantLiteral());
+        Assertions.assertEquals("Jackson2ParserTest$SubTypeDiscriminatedByName3", model.getBeanNonNull(SubTypeDiscriminatedByName3.class).getDiscriminantLiteral());
+        Assertions.assertEquals("Jackson2ParserTest$SubTypeDiscriminatedByName4", model.getBeanNonNull(SubTypeDiscriminatedByName4.class).getDiscriminantLiteral());
+    }
+
     static Jackson2Parser getJackson2Parser() {
         final Settings settings = new Settings();
         settings.jackson2Modules.add(NamedSubtypeModule.class);
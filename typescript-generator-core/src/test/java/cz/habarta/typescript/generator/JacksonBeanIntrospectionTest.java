@@ -0,0 +1,125 @@
+
+package cz.habarta.typescript.generator;
+
+import cz.habarta.typescript.generator.parser.BeanModel;
+import cz.habarta.typescript.generator.parser.Jackson2Parser;
+import cz.habarta.typescript.generator.parser.Jackson3Parser;
+import cz.habarta.typescript.generator.parser.Model;
+import cz.habarta.typescript.generator.parser.ModelParser;
+import cz.habarta.typescript.generator.parser.PropertyModel;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+
+/**
+ * Compares properties collected using lightweight bean introspection with properties collected from serializers and deserializers.
+ * Benchmark of both ways (see logged times) is excluded from default build, it can be run using <code>-P benchmark</code>.
+ */
+public class JacksonBeanIntrospectionTest {
+
+    private static final List<Class<?>> jackson2TestClasses = Arrays.asList(
+        Jackson2ParserTest.class, Jackson2PolymorphismTest.class, MapEntryJ2Test.class,
+        ClassesTest.class, DuplicatePropertyTest.class, GenericsTest.class, ImmutablesTest.class, IncludeExcludePropertyTest.class,
+        InterfaceTest.class, JsonUnwrappedTest.class, JsonViewTest.class, NullabilityTest.class, ObjectAsIdTest.class,
+        OptionalTest.class, ReadOnlyWriteOnlyTest.class, RecordTest.class, TaggedUnionsTest.class
+    );
+
+    private static final List<Class<?>> jackson3TestClasses = Arrays.asList(
+        Jackson3ParserTest.class, Jackson3PolymorphismTest.class, MapEntryJ3Test.class,
+        ClassesTest.class, DuplicatePropertyTest.class, GenericsTest.class, ImmutablesTest.class, IncludeExcludePropertyTest.class,
+        InterfaceTest.class, JsonUnwrappedTest.class, NullabilityTest.class, OptionalTest.class, ReadOnlyWriteOnlyTest.class,
+        RecordTest.class, TaggedUnionsTest.class
+    );
+
+    @Test
+    public void testJackson2() {
+        compare(getClasses(jackson2TestClasses), JacksonBeanIntrospectionTest::createJackson2Parser);
+    }
+
+    @Test
+    public void testJackson3() {
+        compare(getClasses(jackson3TestClasses), JacksonBeanIntrospectionTest::createJackson3Parser);
+    }
+
+    @Test
+    @Tag("benchmark")
+    public void benchmarkJackson2() {
+        benchmark("Jackson2", getClasses(jackson2TestClasses), JacksonBeanIntrospectionTest::createJackson2Parser);
+    }
+
+    @Test
+    @Tag("benchmark")
+    public void benchmarkJackson3() {
+        benchmark("Jackson3", getClasses(jackson3TestClasses), JacksonBeanIntrospectionTest::createJackson3Parser);
+    }
+
+    private static ModelParser createJackson2Parser(boolean lightweight) {
+        final Settings settings = TestUtils.settings();
+        settings.jackson2Configuration = new Jackson2ConfigurationResolved();
+        settings.jackson2Configuration.lightweightBeanIntrospection = lightweight;
+        return new Jackson2Parser(settings, new DefaultTypeProcessor());
+    }
+
+    private static ModelParser createJackson3Parser(boolean lightweight) {
+        final Settings settings = TestUtils.settings();
+        settings.jackson3Configuration = new Jackson3ConfigurationResolved();
+        settings.jackson3Configuration.lightweightBeanIntrospection = lightweight;
+        return new Jackson3Parser(settings, new DefaultTypeProcessor());
+    }
+
+    private static void compare(List<Class<?>> classes, Function<Boolean, ModelParser> parserFactory) {
+        Assertions.assertEquals(describe(parserFactory.apply(false), classes), describe(parserFactory.apply(true), classes));
+    }
+
+    private static void benchmark(String name, List<Class<?>> classes, Function<Boolean, ModelParser> parserFactory) {
+        // rounds are interleaved so that both ways are measured with similarly warmed up JVM
+        final int rounds = 10;
+        long fullTime = 0;
+        long lightweightTime = 0;
+        for (int i = 0; i < rounds; i++) {
+            final long fullStart = System.nanoTime();
+            describe(parserFactory.apply(false), classes);
+            fullTime += System.nanoTime() - fullStart;
+            final long lightweightStart = System.nanoTime();
+            describe(parserFactory.apply(true), classes);
+            lightweightTime += System.nanoTime() - lightweightStart;
+        }
+        TypeScriptGenerator.getLogger().info(String.format("%s parsing %d classes %d times: serializers %d ms, lightweight introspection %d ms",
+            name, classes.size(), rounds, fullTime / 1_000_000, lightweightTime / 1_000_000));
+    }
+
+    private static List<Class<?>> getClasses(List<Class<?>> testClasses) {
+        return testClasses.stream()
+            .flatMap(cls -> Stream.of(cls.getDeclaredClasses()))
+            .filter(cls -> !cls.isAnnotation())
+            .collect(Collectors.toList());
+    }
+
+    private static List<String> describe(ModelParser parser, List<Class<?>> classes) {
+        final List<String> lines = new ArrayList<>();
+        for (Class<?> cls : classes) {
+            final Model model;
+            try {
+                model = parser.parseModel(cls);
+            } catch (RuntimeException e) {
+                lines.add(cls.getName() + " failed: " + e.getClass().getName());
+                continue;
+            }
+            for (BeanModel bean : model.getBeans()) {
+                lines.add(bean.getOrigin().getName());
+                for (PropertyModel property : bean.getProperties()) {
+                    lines.add("    " + property.getName() + ": " + property.getType() + (property.isOptional() ? " optional " : " ") + property.getAccess());
+                }
+            }
+        }
+        return lines;
+    }
+
+}
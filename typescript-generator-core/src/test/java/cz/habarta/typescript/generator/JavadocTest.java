@@ -12,6 +12,7 @@ import java.util.Arrays;
 import org.jspecify.annotations.Nullable;
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
 
 import static java.util.Objects.requireNonNull;
 import static org.assertj.core.api.Assertions.assertThat;
@@ -112,6 +113,21 @@ public class JavadocTest {
         }
     }
 
+    @Test
+    public void testJavadocCache(@TempDir File cacheDirectory) {
+        final Input input = Input.from(ClassWithJavadoc.class, InterfaceWithJavadoc.class, ClassWithEmbeddedExample.class);
+        final Settings settings = TestUtils.settings();
+        settings.javadocXmlFiles = Arrays.asList(new File("src/test/javadoc/test-javadoc.xml"));
+        final String expected = new TypeScriptGenerator(settings).generateTypeScript(input);
+        settings.javadocCacheDirectory = cacheDirectory;
+        final String generatedAndCached = new TypeScriptGenerator(settings).generateTypeScript(input);
+        Assertions.assertEquals(1, requireNonNull(cacheDirectory.list()).length);
+        final String generatedFromCache = new TypeScriptGenerator(settings).generateTypeScript(input);
+        Assertions.assertEquals(expected, generatedAndCached);
+        Assertions.assertEquals(expected, generatedFromCache);
+        assertThat(generatedFromCache).contains("Documentation for ClassWithJavadoc. First line.");
+    }
+
     /**
      * Documentation for ClassWithJavadoc. First line.
      * Second line.
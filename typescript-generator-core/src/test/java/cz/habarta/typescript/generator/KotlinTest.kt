@@ -181,6 +181,21 @@ class KotlinTest {
         Assertions.assertEquals(expected.replace('\'', '"'), output.trim { it <= ' ' })
     }
 
+    @Test
+    fun testTypeParserCache() {
+        val settings = TestUtils.settings()
+        settings.nullabilityDefinition = NullabilityDefinition.undefinedInlineUnion
+        val typeParser = settings.typeParser
+        val getter = A::class.java.getMethod("getNullableList")
+        val cachedType = typeParser.getMethodReturnType(getter)
+        Assertions.assertSame(cachedType, typeParser.getMethodReturnType(getter))
+        // parsing with the same settings (and type parser) again must produce the same output
+        val output1 = TypeScriptGenerator(settings).generateTypeScript(Input.from(A::class.java))
+        val output2 = TypeScriptGenerator(settings).generateTypeScript(Input.from(A::class.java))
+        Assertions.assertEquals(output1, output2)
+        Assertions.assertTrue(output2.contains("nullableList?: (string | undefined)[];"), "Unexpected output: $output2")
+    }
+
     @Test
     fun testEnumTypeVariableBound() {
         val settings = TestUtils.settings()
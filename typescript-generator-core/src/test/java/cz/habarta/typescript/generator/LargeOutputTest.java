@@ -0,0 +1,61 @@
+package cz.habarta.typescript.generator;
+
+import cz.habarta.typescript.generator.compiler.SymbolTable;
+import cz.habarta.typescript.generator.emitter.Emitter;
+import cz.habarta.typescript.generator.emitter.TsBeanCategory;
+import cz.habarta.typescript.generator.emitter.TsBeanModel;
+import cz.habarta.typescript.generator.emitter.TsModel;
+import cz.habarta.typescript.generator.emitter.TsPropertyModel;
+import java.io.File;
+import java.io.StringWriter;
+import java.util.ArrayList;
+import java.util.List;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+
+/**
+ * Emits 50k lines .d.ts file, also serves as simple benchmark of emitting (see logged times).
+ */
+public class LargeOutputTest {
+
+    @Test
+    public void testLargeDeclarationFile() {
+        final Settings settings = TestUtils.settings();
+        final TsModel tsModel = createModel(settings, 5_000, 8);
+
+        final File file = new File("target/LargeOutputTest.d.ts");
+        final long fileStart = System.nanoTime();
+        emit(settings, tsModel, Output.to(file));
+        final long fileTime = System.nanoTime() - fileStart;
+
+        final StringWriter stringWriter = new StringWriter();
+        final long stringStart = System.nanoTime();
+        emit(settings, tsModel, Output.to(stringWriter));
+        final long stringTime = System.nanoTime() - stringStart;
+
+        final String output = stringWriter.toString();
+        Assertions.assertEquals(output, TestUtils.readFile(file.getPath()) + "\n");
+        Assertions.assertTrue(output.split("\n").length >= 50_000);
+        TypeScriptGenerator.getLogger().info(String.format("Emitting %d characters: file %d ms, string %d ms",
+            output.length(), fileTime / 1_000_000, stringTime / 1_000_000));
+    }
+
+    private static void emit(Settings settings, TsModel tsModel, Output output) {
+        new Emitter(settings, output.getWriter(), output.getName()).emit(tsModel, output.shouldCloseWriter());
+    }
+
+    private static TsModel createModel(Settings settings, int beanCount, int propertyCount) {
+        final SymbolTable symbolTable = new SymbolTable(settings);
+        final List<TsBeanModel> beans = new ArrayList<>();
+        for (int i = 0; i < beanCount; i++) {
+            final List<TsPropertyModel> properties = new ArrayList<>();
+            for (int j = 0; j < propertyCount; j++) {
+                properties.add(new TsPropertyModel("property" + j, j % 2 == 0 ? TsType.String : TsType.Number, null, true, null));
+            }
+            beans.add(new TsBeanModel(null, TsBeanCategory.Data, false, symbolTable.getSyntheticSymbol("Bean" + i), null, null, null, null, properties, null, null, null));
+        }
+        return new TsModel().withBeans(beans);
+    }
+
+}
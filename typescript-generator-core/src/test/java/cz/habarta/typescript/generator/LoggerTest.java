@@ -0,0 +1,38 @@
+package cz.habarta.typescript.generator;
+
+import java.util.concurrent.atomic.AtomicReference;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+
+public class LoggerTest {
+
+    @Test
+    public void testThreadLogger() throws InterruptedException {
+        final Logger globalLogger = TypeScriptGenerator.getLogger();
+        final Logger threadLogger = new Logger(Logger.Level.Warning);
+        final AtomicReference<Logger> loggerInThread = new AtomicReference<>();
+        final AtomicReference<Logger> loggerInChildThread = new AtomicReference<>();
+        final AtomicReference<Logger> loggerAfterRemoval = new AtomicReference<>();
+        final Thread thread = new Thread(() -> {
+            TypeScriptGenerator.setThreadLogger(threadLogger);
+            loggerInThread.set(TypeScriptGenerator.getLogger());
+            final Thread childThread = new Thread(() -> loggerInChildThread.set(TypeScriptGenerator.getLogger()));
+            childThread.start();
+            try {
+                childThread.join();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            TypeScriptGenerator.setThreadLogger(null);
+            loggerAfterRemoval.set(TypeScriptGenerator.getLogger());
+        });
+        thread.start();
+        thread.join();
+        Assertions.assertSame(threadLogger, loggerInThread.get());
+        Assertions.assertSame(threadLogger, loggerInChildThread.get());
+        Assertions.assertSame(globalLogger, loggerAfterRemoval.get());
+        Assertions.assertSame(globalLogger, TypeScriptGenerator.getLogger());
+    }
+
+}
@@ -3,10 +3,14 @@ package cz.habarta.typescript.generator;
 
 import com.fasterxml.jackson.annotation.JsonTypeInfo;
 import cz.habarta.typescript.generator.compiler.ModelCompiler;
+import cz.habarta.typescript.generator.compiler.Symbol;
+import cz.habarta.typescript.generator.emitter.TsBeanCategory;
+import cz.habarta.typescript.generator.emitter.TsBeanModel;
 import cz.habarta.typescript.generator.emitter.TsModel;
 import cz.habarta.typescript.generator.parser.Jackson2Parser;
 import cz.habarta.typescript.generator.parser.Model;
 import java.lang.reflect.Type;
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Date;
 import java.util.List;
@@ -81,6 +85,51 @@ public class ModelCompilerTest {
         );
     }
 
+    @Test
+    public void testModelIndexes() throws Exception {
+        final Settings settings = TestUtils.settings();
+        final TypeScriptGenerator generator = new TypeScriptGenerator(settings);
+        final Model model = generator.getModelParser().parseModel(Implementation.class);
+        final TsModel tsModel = generator.getModelCompiler().javaToTypeScript(model);
+
+        final TsBeanModel bean = requireNonNull(tsModel.getBean(WithTypeParam.class));
+        Assertions.assertSame(bean, tsModel.getBean(bean.getName()));
+        Assertions.assertSame(bean, tsModel.withEnums(tsModel.getEnums()).getBean(WithTypeParam.class));
+        Assertions.assertNull(tsModel.withoutBeans(List.of(bean)).getBean(WithTypeParam.class));
+
+        // model lists can be appended in place
+        final Symbol symbol = new Symbol("Added");
+        final TsBeanModel added = new TsBeanModel(A.class, TsBeanCategory.Data, false, symbol, null, null, null, null, null, null, null, null);
+        tsModel.getBeans().add(added);
+        Assertions.assertSame(added, tsModel.getBean(A.class));
+        Assertions.assertSame(added, tsModel.getBean(symbol));
+
+        // changes which keep list size
+        final Symbol replacedSymbol = new Symbol("Replaced");
+        final TsBeanModel replaced = new TsBeanModel(A.class, TsBeanCategory.Data, false, replacedSymbol, null, null, null, null, null, null, null, null);
+        tsModel.getBeans().set(tsModel.getBeans().indexOf(added), replaced);
+        Assertions.assertSame(replaced, tsModel.getBean(A.class));
+        Assertions.assertNull(tsModel.getBean(symbol));
+        tsModel.getBeans().remove(replaced);
+        tsModel.getBeans().add(added);
+        Assertions.assertSame(added, tsModel.getBean(A.class));
+        Assertions.assertNull(tsModel.getBean(replacedSymbol));
+
+        // sub-list changes
+        final List<TsBeanModel> beans = tsModel.getBeans();
+        beans.subList(beans.indexOf(added), beans.size()).set(0, replaced);
+        Assertions.assertSame(replaced, tsModel.getBean(A.class));
+        beans.subList(beans.indexOf(replaced), beans.size()).clear();
+        Assertions.assertNull(tsModel.getBean(A.class));
+
+        // passed list is not copied
+        final List<TsBeanModel> passedBeans = new ArrayList<>(List.of(added));
+        final TsModel withPassedBeans = tsModel.withBeans(passedBeans);
+        Assertions.assertSame(added, withPassedBeans.getBean(A.class));
+        passedBeans.remove(added);
+        Assertions.assertNull(withPassedBeans.getBean(A.class));
+    }
+
     @JsonTypeInfo(use = JsonTypeInfo.Id.NAME, include = JsonTypeInfo.As.PROPERTY)
     private static interface WithoutTypeParam {
     }
@@ -2,11 +2,22 @@
 package cz.habarta.typescript.generator;
 
 import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.annotation.JsonSerialize;
+import com.fasterxml.jackson.databind.ser.std.ToStringSerializer;
+import cz.habarta.typescript.generator.p1.A;
+import cz.habarta.typescript.generator.p1.C;
+import cz.habarta.typescript.generator.p1.E;
+import cz.habarta.typescript.generator.p2.B;
+import cz.habarta.typescript.generator.p2.D;
 import cz.habarta.typescript.generator.parser.Jackson2Parser;
 import cz.habarta.typescript.generator.parser.Model;
 import cz.habarta.typescript.generator.parser.ModelParser;
+import cz.habarta.typescript.generator.parser.SourceType;
+import cz.habarta.typescript.generator.util.Utils;
 import java.lang.reflect.Type;
+import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
 import org.junit.jupiter.api.Assertions;
@@ -64,15 +75,88 @@ public class ModelParserTest {
         Assertions.assertEquals(0, model.getBeans().size());
     }
 
+    @Test
+    public void testEquivalentTypesParsedOnce() {
+        final Type jdkType = new TypeReference<Map<String, List<RootClass2>>>() {}.getType();
+        final Type customType = Utils.createParameterizedType(Map.class, String.class, Utils.createParameterizedType(List.class, RootClass2.class));
+        Assertions.assertEquals(jdkType, customType);
+        Assertions.assertEquals(customType, jdkType);
+        Assertions.assertEquals(jdkType.hashCode(), customType.hashCode());
+
+        final List<SourceType<Type>> types = new ArrayList<>();
+        for (int i = 0; i < 10_000; i++) {
+            types.add(new SourceType<>(i % 2 == 0 ? jdkType : Utils.createParameterizedType(Map.class, String.class, Utils.createParameterizedType(List.class, RootClass2.class))));
+        }
+        final Model model = createParser().parseModel(types);
+        Assertions.assertEquals(2, model.getBeans().size());
+    }
+
+    @Test
+    public void testParallelParsingProducesSameOutput() {
+        for (JsonLibrary jsonLibrary : Arrays.asList(JsonLibrary.jackson2, JsonLibrary.jackson3, JsonLibrary.jsonb, JsonLibrary.gson)) {
+            final Input input = Input.from(RootClass1.class, RootClass2.class, RootClass3.class, Person.class);
+            final Settings sequentialSettings = TestUtils.settings(jsonLibrary);
+            final Settings parallelSettings = TestUtils.settings(jsonLibrary);
+            parallelSettings.parallelParsing = true;
+            final String sequentialOutput = new TypeScriptGenerator(sequentialSettings).generateTypeScript(input);
+            final String parallelOutput = new TypeScriptGenerator(parallelSettings).generateTypeScript(input);
+            Assertions.assertEquals(sequentialOutput, parallelOutput, jsonLibrary.name());
+        }
+    }
+
+    @Test
+    public void testOriginClasses() {
+        final Model model = parseModel(RootClass3.class, Tag.class.getName());
+        Assertions.assertEquals(
+            new LinkedHashSet<>(Arrays.asList(RootClass3.class, Object.class, NodeClassB.class)),
+            model.getOriginClasses());
+    }
+
+    @Test
+    public void testContributingClasses() {
+        final Model model = parseModel(RootClass4.class);
+        Assertions.assertTrue(model.getContributingClasses().containsAll(model.getOriginClasses()));
+        Assertions.assertTrue(model.getContributingClasses().contains(ToStringSerializer.class));
+        Assertions.assertFalse(model.getOriginClasses().contains(ToStringSerializer.class));
+    }
+
+    @Test
+    public void testAffectedClasses() {
+        final Model model = parseModel(D.class);
+        Assertions.assertEquals(
+            new LinkedHashSet<>(Arrays.asList(E.class, D.class)),
+            model.getAffectedClasses(Arrays.asList(E.class.getName())));
+        Assertions.assertEquals(
+            new LinkedHashSet<>(Arrays.asList(A.class, D.class, B.class, C.class)),
+            model.getAffectedClasses(Arrays.asList(A.class.getName())));
+        Assertions.assertEquals(
+            new LinkedHashSet<>(Arrays.asList(D.class)),
+            model.getAffectedClasses(Arrays.asList(D.class.getName(), "com.example.Unrelated")));
+        Assertions.assertEquals(0, model.getAffectedClasses(Arrays.asList("com.example.Unrelated")).size());
+    }
+
+    @Test
+    public void testAffectedClassesBySupertypeAndAnnotation() {
+        final Model model = parseModel(DerivedFromExcluded.class, ExcludedBase.class.getName());
+        Assertions.assertEquals(
+            new LinkedHashSet<>(Arrays.asList(ExcludedBase.class, DerivedFromExcluded.class)),
+            model.getAffectedClasses(Arrays.asList(ExcludedBase.class.getName())));
+        final Model model4 = parseModel(RootClass4.class);
+        Assertions.assertTrue(model4.getAffectedClasses(Arrays.asList(ToStringSerializer.class.getName())).contains(RootClass4.class));
+    }
+
     private Model parseModel(Type type, String... excludedClassNames) {
+        final Model model = createParser(excludedClassNames).parseModel(type);
+        return model;
+    }
+
+    private ModelParser createParser(String... excludedClassNames) {
         final Settings settings = new Settings();
         settings.setExcludeFilter(Arrays.asList(excludedClassNames), null);
-        final ModelParser parser = new Jackson2Parser(settings, new TypeProcessor.Chain(
+        return new Jackson2Parser(settings, new TypeProcessor.Chain(
             new ExcludingTypeProcessor(settings.getExcludeFilter()),
             new DefaultTypeProcessor()
         ));
-        final Model model = parser.parseModel(type);
-        return model;
     }
 
 }
@@ -107,3 +191,19 @@ class NodeClassB {
 
 class Tag {
 }
+
+@SuppressWarnings("NullAway.Init")
+class RootClass4 {
+    @JsonSerialize(using = ToStringSerializer.class)
+    public NodeClassA node;
+}
+
+@SuppressWarnings("NullAway.Init")
+class ExcludedBase {
+    public String baseProperty;
+}
+
+@SuppressWarnings("NullAway.Init")
+class DerivedFromExcluded extends ExcludedBase {
+    public String derivedProperty;
+}
@@ -1,8 +1,10 @@
 
 package cz.habarta.typescript.generator;
 
+import cz.habarta.typescript.generator.compiler.Symbol;
 import cz.habarta.typescript.generator.compiler.SymbolTable;
 import cz.habarta.typescript.generator.yield.KeywordInPackage;
+import java.util.Arrays;
 import java.util.Collections;
 import java.util.LinkedHashMap;
 import org.junit.jupiter.api.Assertions;
@@ -61,6 +63,22 @@ public class NamingTest {
         Assertions.assertEquals("TestA", name);
     }
 
+    @Test
+    public void testSymbolOrigins() {
+        final SymbolTable symbolTable = new SymbolTable(TestUtils.settings());
+        final Symbol symbolA = symbolTable.getSymbol(A.class);
+        final Symbol symbolB = symbolTable.getSymbol(B.class, "Dto");
+        final Symbol synthetic = symbolTable.getSyntheticSymbol("Synthetic");
+        Assertions.assertEquals(A.class, symbolTable.getSymbolClass(symbolA));
+        Assertions.assertEquals(B.class, symbolTable.getSymbolClass(symbolB));
+        Assertions.assertEquals("Dto", symbolTable.getSymbolSuffix(symbolB));
+        Assertions.assertNull(symbolTable.getSymbolClass(synthetic));
+        final Symbol symbolBClient = symbolTable.addSuffixToSymbol(symbolB, "Client");
+        Assertions.assertSame(symbolTable.getSymbol(B.class, "DtoClient"), symbolBClient);
+        Assertions.assertEquals(B.class, symbolTable.getSymbolClass(symbolBClient));
+        Assertions.assertSame(symbolTable.getSyntheticSymbol("SyntheticRef"), symbolTable.addSuffixToSymbol(synthetic, "Ref"));
+    }
+
     @Test
     public void testTypeNamingFunctionReturnsUndefined() {
         final Settings settings = TestUtils.settings();
@@ -81,6 +99,30 @@ public class NamingTest {
         Assertions.assertEquals("java.lang.ConfObject", symbolTable.getMappedNamespacedName(Object.class));
     }
 
+    @Test
+    public void testTypeNamingFunctionInBatch() {
+        final Settings settings = TestUtils.settings();
+        settings.customTypeNamingFunction = "function(name, simpleName) { if (simpleName === 'C') return 'Func' + simpleName; }";
+        final String output = new TypeScriptGenerator(settings).generateTypeScript(Input.from(C.class, D.class));
+        Assertions.assertTrue(output.contains("interface FuncC"));
+        Assertions.assertTrue(output.contains("interface D extends FuncC"));
+        Assertions.assertTrue(output.contains("objectC: FuncC"));
+    }
+
+    @Test
+    public void testTypeNamingRegexps() {
+        final Settings settings = TestUtils.settings();
+        settings.customTypeNamingRegexps = Settings.convertToRegexpMap(Arrays.asList(
+            "(?:cz\\.habarta\\.typescript\\.generator\\.)NamingTest\\$(C):NS.Regexp$1",
+            "cz\\.habarta\\..*:Other"
+        ), "customTypeNamingRegexps");
+        settings.customTypeNamingFunction = "function(name, simpleName) { return 'Func' + simpleName; }";
+        final SymbolTable symbolTable = new SymbolTable(settings);
+        Assertions.assertEquals("NS.RegexpC", symbolTable.getMappedNamespacedName(C.class));
+        Assertions.assertEquals("Other", symbolTable.getMappedNamespacedName(D.class));
+        Assertions.assertEquals("FuncObject", symbolTable.getMappedNamespacedName(Object.class));
+    }
+
     @Test
     public void testTypeScriptKeywords() {
         final Settings settings = TestUtils.settings();
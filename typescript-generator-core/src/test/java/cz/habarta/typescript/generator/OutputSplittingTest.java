@@ -0,0 +1,99 @@
+package cz.habarta.typescript.generator;
+
+import cz.habarta.typescript.generator.emitter.MultiFileEmitter;
+import cz.habarta.typescript.generator.p1.E;
+import cz.habarta.typescript.generator.p2.D;
+import java.io.File;
+import java.util.Arrays;
+import java.util.function.Function;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+
+public class OutputSplittingTest {
+
+    @Test
+    public void testByPackage() {
+        final File directory = new File("target/OutputSplittingTest/byPackage");
+        final Settings settings = TestUtils.settings();
+        settings.outputKind = TypeScriptOutputKind.module;
+        settings.mapEnum = EnumMapping.asEnum;
+        settings.outputSplitting = OutputSplitting.byPackage;
+        new TypeScriptGenerator(settings).generateTypeScript(Input.from(D.class), Output.to(new File(directory, "main.d.ts")));
+
+        final String main = TestUtils.readFile(new File(directory, "main.d.ts").getPath());
+        final String p1 = TestUtils.readFile(new File(directory, "cz.habarta.typescript.generator.p1.d.ts").getPath());
+        final String p2 = TestUtils.readFile(new File(directory, "cz.habarta.typescript.generator.p2.d.ts").getPath());
+        Assertions.assertTrue(main.contains("export * from \"./cz.habarta.typescript.generator.p1\";"));
+        Assertions.assertTrue(main.contains("export * from \"./cz.habarta.typescript.generator.p2\";"));
+        Assertions.assertFalse(main.contains("interface"));
+        Assertions.assertTrue(p1.contains("import { B } from \"./cz.habarta.typescript.generator.p2\";"));
+        Assertions.assertTrue(p1.contains("interface A {"));
+        Assertions.assertTrue(p1.contains("interface C extends B {"));
+        Assertions.assertTrue(p1.contains("enum E {"));
+        Assertions.assertTrue(p2.contains("import { A, C, E } from \"./cz.habarta.typescript.generator.p1\";"));
+        Assertions.assertTrue(p2.contains("interface B extends A {"));
+        Assertions.assertTrue(p2.contains("interface D {"));
+    }
+
+    @Test
+    public void testRestAndData() {
+        final File directory = new File("target/OutputSplittingTest/restAndData");
+        final Settings settings = TestUtils.settings();
+        settings.outputKind = TypeScriptOutputKind.module;
+        settings.outputFileType = TypeScriptFileType.implementationFile;
+        settings.generateJaxrsApplicationClient = true;
+        settings.outputSplitting = OutputSplitting.restAndData;
+        new TypeScriptGenerator(settings).generateTypeScript(Input.from(JaxrsApplicationTest.OrganizationApplication.class), Output.to(new File(directory, "api.ts")));
+
+        final String main = TestUtils.readFile(new File(directory, "api.ts").getPath());
+        final String data = TestUtils.readFile(new File(directory, "api-data.ts").getPath());
+        Assertions.assertTrue(main.contains("export * from \"./api-data\";"));
+        Assertions.assertTrue(main.contains("import { Address, Organization, Person } from \"./api-data\";"));
+        Assertions.assertTrue(main.contains("class OrganizationApplicationClient"));
+        Assertions.assertTrue(main.contains("interface HttpClient"));
+        Assertions.assertFalse(data.contains("OrganizationApplicationClient"));
+        Assertions.assertFalse(data.contains("import "));
+        Assertions.assertTrue(data.contains("interface Organization {"));
+        Assertions.assertEquals(Arrays.asList("api-data.ts", "api.ts"), Arrays.asList(directory.list()).stream().sorted().toList());
+    }
+
+    @Test
+    public void testStalePartFilesDeleted() {
+        testStalePartFilesDeleted("stale", Output::toFileIfChanged);
+        testStalePartFilesDeleted("staleTruncated", Output::to);
+    }
+
+    private static void testStalePartFilesDeleted(String directoryName, Function<File, Output> outputFactory) {
+        final File directory = new File("target/OutputSplittingTest/" + directoryName);
+        final File mainFile = new File(directory, "main.d.ts");
+        final File p2File = new File(directory, "cz.habarta.typescript.generator.p2.d.ts");
+        final Settings settings = TestUtils.settings();
+        settings.outputKind = TypeScriptOutputKind.module;
+        settings.mapEnum = EnumMapping.asEnum;
+        settings.outputSplitting = OutputSplitting.byPackage;
+        new TypeScriptGenerator(settings).generateTypeScript(Input.from(D.class), outputFactory.apply(mainFile));
+        Assertions.assertTrue(p2File.isFile());
+        Assertions.assertEquals(2, MultiFileEmitter.getPartFiles(mainFile, ".d.ts").size());
+
+        new TypeScriptGenerator(settings).generateTypeScript(Input.from(E.class), outputFactory.apply(mainFile));
+        Assertions.assertFalse(p2File.exists());
+        Assertions.assertEquals(
+            Arrays.asList(new File(directory, "cz.habarta.typescript.generator.p1.d.ts")),
+            MultiFileEmitter.getPartFiles(mainFile, ".d.ts"));
+    }
+
+    @Test
+    public void testInvalidSettings() {
+        final Settings settings = TestUtils.settings();
+        settings.outputSplitting = OutputSplitting.byPackage;
+        Assertions.assertThrows(RuntimeException.class, () -> new TypeScriptGenerator(settings).generateTypeScript(Input.from(D.class)));
+        settings.outputKind = TypeScriptOutputKind.module;
+        settings.mapPackagesToNamespaces = true;
+        Assertions.assertThrows(RuntimeException.class, () -> new TypeScriptGenerator(settings).generateTypeScript(Input.from(D.class)));
+        settings.mapPackagesToNamespaces = false;
+        settings.outputFileType = TypeScriptFileType.implementationFile;
+        Assertions.assertThrows(RuntimeException.class, () -> new TypeScriptGenerator(settings).generateTypeScript(Input.from(D.class)));
+    }
+
+}
@@ -0,0 +1,63 @@
+package cz.habarta.typescript.generator;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.attribute.FileTime;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+
+@SuppressWarnings("unused")
+public class OutputTest {
+
+    @Test
+    public void testWriteOnlyIfChanged() throws IOException {
+        final File directory = new File("target/OutputTest");
+        final File outputFile = new File(directory, "output.d.ts");
+        final File infoJsonFile = new File(directory, "typescript-generator-info.json");
+        final File packageJsonFile = new File(directory, "package.json");
+        final Settings settings = TestUtils.settings();
+        settings.outputKind = TypeScriptOutputKind.module;
+        settings.noFileComment = false;
+        settings.generateInfoJson = true;
+        settings.generateNpmPackageJson = true;
+        settings.npmName = "output-test";
+        settings.npmVersion = "1.0.0";
+
+        new TypeScriptGenerator(settings).generateTypeScript(Input.from(A.class), Output.toFileIfChanged(outputFile));
+        // different timestamp in file comment is not considered a change
+        final String content = new String(Files.readAllBytes(outputFile.toPath()), StandardCharsets.UTF_8)
+            .replaceFirst(" on [-0-9: ]+\\.", " on 2000-01-01 00:00:00.");
+        Files.write(outputFile.toPath(), content.getBytes(StandardCharsets.UTF_8));
+        final FileTime oldTime = FileTime.fromMillis(System.currentTimeMillis() - 3_600_000);
+        for (File file : new File[] {outputFile, infoJsonFile, packageJsonFile}) {
+            Files.setLastModifiedTime(file.toPath(), oldTime);
+        }
+
+        new TypeScriptGenerator(settings).generateTypeScript(Input.from(A.class), Output.toFileIfChanged(outputFile));
+        Assertions.assertEquals(oldTime, Files.getLastModifiedTime(outputFile.toPath()));
+        Assertions.assertEquals(oldTime, Files.getLastModifiedTime(infoJsonFile.toPath()));
+        Assertions.assertEquals(oldTime, Files.getLastModifiedTime(packageJsonFile.toPath()));
+        Assertions.assertTrue(TestUtils.readFile(outputFile.getPath()).contains("on 2000-01-01 00:00:00."));
+
+        new TypeScriptGenerator(settings).generateTypeScript(Input.from(A.class, B.class), Output.toFileIfChanged(outputFile));
+        Assertions.assertNotEquals(oldTime, Files.getLastModifiedTime(outputFile.toPath()));
+        Assertions.assertNotEquals(oldTime, Files.getLastModifiedTime(infoJsonFile.toPath()));
+        Assertions.assertEquals(oldTime, Files.getLastModifiedTime(packageJsonFile.toPath()));
+        Assertions.assertTrue(TestUtils.readFile(outputFile.getPath()).contains("interface B"));
+        Assertions.assertEquals(3, directory.listFiles().length);
+    }
+
+    @SuppressWarnings("NullAway.Init")
+    private static class A {
+        public String a;
+    }
+
+    @SuppressWarnings("NullAway.Init")
+    private static class B {
+        public String b;
+    }
+
+}
@@ -32,6 +32,29 @@ public class TsTypeTest {
         assertNotEquals(new TsType.ReferenceType(new Symbol("Foo")), null);
     }
 
+    @Test
+    public void testStructuralEquals() {
+        final TsType type1 = new BasicArrayType(new UnionType(String, new TsType.GenericBasicType("Array", Number), new TsType.NumberLiteralType(1)));
+        final TsType type2 = new BasicArrayType(new UnionType(String, new TsType.GenericBasicType("Array", Number), new TsType.NumberLiteralType(1L)));
+        assertEquals(type1, type2);
+        assertEquals(type1.hashCode(), type2.hashCode());
+        assertNotEquals(type1, new BasicArrayType(new UnionType(String, new TsType.GenericBasicType("Array", String))));
+        assertNotEquals(String, new TsType.GenericVariableType("string"));
+        assertNotEquals(String, String.optional());
+    }
+
+    @Test
+    public void testHashCodeAfterSymbolResolution() {
+        final Symbol symbol = new Symbol("$Foo$");
+        final TsType unresolved = new UnionType(new TsType.ReferenceType(symbol), TsType.Null);
+        final int unresolvedHashCode = unresolved.hashCode();
+        symbol.setFullName(null, "Foo");
+        final TsType resolved = new UnionType(new TsType.ReferenceType(new Symbol("Foo")), TsType.Null);
+        assertEquals(resolved, unresolved);
+        assertEquals(resolved.hashCode(), unresolved.hashCode());
+        assertNotEquals(unresolvedHashCode, unresolved.hashCode());
+    }
+
     @Test
     public void testTypeParentheses() {
         final Settings settings = TestUtils.settings();
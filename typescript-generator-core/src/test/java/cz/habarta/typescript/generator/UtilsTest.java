@@ -3,6 +3,10 @@ package cz.habarta.typescript.generator;
 
 import cz.habarta.typescript.generator.util.Utils;
 import java.io.File;
+import java.lang.annotation.Annotation;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.reflect.Field;
 import java.util.Arrays;
 import java.util.Collection;
 import java.util.Date;
@@ -77,4 +81,40 @@ public class UtilsTest {
         Assertions.assertFalse(Utils.isPrimitiveType(NewClass.class));
     }
 
+    @Test
+    public void testAnnotationLookupByName() throws Exception {
+        final Field field = AnnotatedBean.class.getDeclaredField("value");
+        final Annotation annotation = Utils.getAnnotation(field, TestAnnotation.class.getName());
+        Assertions.assertNotNull(annotation);
+        Assertions.assertSame(annotation, Utils.getAnnotation(AnnotatedBean.class.getDeclaredField("value"), TestAnnotation.class.getName()));
+        Assertions.assertNull(Utils.getAnnotation(field, Deprecated.class.getName()));
+        Assertions.assertEquals("description", Utils.getAnnotationElementValue(annotation, "value", String.class));
+        Assertions.assertEquals(42, Utils.getRequiredAnnotationElementValue(annotation, "code", Integer.class));
+        Assertions.assertEquals(Date.class, Utils.getAnnotationElementValue(annotation, "type", Class.class));
+        Assertions.assertArrayEquals(new String[] {"a", "b"}, Utils.getAnnotationElementValue(annotation, "tags", String[].class));
+        Assertions.assertNull(Utils.getAnnotationElementValue(annotation, "code", String.class));
+        Assertions.assertNull(Utils.getAnnotationElementValue(annotation, "missing", String.class));
+        Assertions.assertNotNull(Utils.getAnnotation(AnnotatedBean.class, Deprecated.class.getName()));
+        Assertions.assertEquals("description", Utils.getAnnotationElementValue(AnnotatedBean.class.getMethod("getValue"), TestAnnotation.class.getName(), "value", String.class));
+    }
+
+    @Retention(RetentionPolicy.RUNTIME)
+    private @interface TestAnnotation {
+        String value();
+        int code() default 42;
+        Class<?> type() default Date.class;
+        String[] tags() default {"a", "b"};
+    }
+
+    @Deprecated
+    private static class AnnotatedBean {
+        @TestAnnotation("description")
+        public String value = "";
+
+        @TestAnnotation("description")
+        public String getValue() {
+            return value;
+        }
+    }
+
 }
@@ -0,0 +1,155 @@
+package cz.habarta.typescript.generator.gradle;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.net.URLClassLoader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.IdentityHashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Stream;
+
+
+/**
+ * Class loaders kept in Gradle worker daemon between builds, one for each task.
+ * Class loader is reused if Gradle reported no classpath change since previous task execution.
+ * When Gradle cannot tell (non-incremental execution) classpath hash (paths, sizes and modification times of all files) is compared.
+ */
+class ClassLoaderCache {
+
+    private static final int MAX_SIZE = 4;
+
+    private static final Map<String, Entry> entries = new LinkedHashMap<>(16, 0.75f, true);
+    private static final Map<URLClassLoader, Entry> acquiredEntries = new IdentityHashMap<>();
+
+    private static class Entry {
+        public final URLClassLoader classLoader;
+        public final ClassLoader parent;
+        public final List<File> classpath;
+        public final String classpathHash;
+        public int users = 0;
+        public boolean evicted = false;
+
+        public Entry(URLClassLoader classLoader, ClassLoader parent, List<File> classpath, String classpathHash) {
+            this.classLoader = classLoader;
+            this.parent = parent;
+            this.classpath = classpath;
+            this.classpathHash = classpathHash;
+        }
+
+        public boolean isFor(List<File> classpath, ClassLoader parent) {
+            return this.parent == parent && this.classpath.equals(classpath);
+        }
+    }
+
+    public static URLClassLoader acquire(String taskPath, String name, List<File> classpath, ClassLoader parent, boolean classpathUnchanged) throws IOException {
+        synchronized (ClassLoaderCache.class) {
+            final Entry entry = entries.get(taskPath);
+            if (entry != null && classpathUnchanged && entry.isFor(classpath, parent)) {
+                return use(entry);
+            }
+        }
+        // classpath changed or Gradle doesn't know (for example when other task inputs changed)
+        final String classpathHash = hashClasspath(classpath);
+        synchronized (ClassLoaderCache.class) {
+            final Entry entry = entries.get(taskPath);
+            if (entry != null && entry.isFor(classpath, parent) && classpathHash.equals(entry.classpathHash)) {
+                return use(entry);
+            }
+            if (entry != null) {
+                entries.remove(taskPath);
+                evict(entry);
+            }
+            final Entry newEntry = new Entry(GenerateAction.createClassLoader(name, classpath, parent), parent, classpath, classpathHash);
+            entries.put(taskPath, newEntry);
+            evictEldestEntries();
+            return use(newEntry);
+        }
+    }
+
+    private static URLClassLoader use(Entry entry) {
+        entry.users++;
+        acquiredEntries.put(entry.classLoader, entry);
+        return entry.classLoader;
+    }
+
+    public static synchronized void release(URLClassLoader classLoader) throws IOException {
+        final Entry entry = acquiredEntries.get(classLoader);
+        if (entry == null) {
+            throw new IllegalStateException("Class loader was not acquired from cache");
+        }
+        entry.users--;
+        if (entry.users == 0) {
+            acquiredEntries.remove(classLoader);
+            if (entry.evicted) {
+                classLoader.close();
+            }
+        }
+    }
+
+    private static void evictEldestEntries() throws IOException {
+        while (entries.size() > MAX_SIZE) {
+            final Map.Entry<String, Entry> eldest = entries.entrySet().iterator().next();
+            entries.remove(eldest.getKey());
+            evict(eldest.getValue());
+        }
+    }
+
+    private static void evict(Entry entry) throws IOException {
+        entry.evicted = true;
+        // class loader which is still in use is closed when released
+        if (entry.users == 0) {
+            entry.classLoader.close();
+        }
+    }
+
+    private static String hashClasspath(List<File> classpath) throws IOException {
+        final MessageDigest digest = createDigest();
+        for (File file : classpath) {
+            final Path root = file.toPath();
+            update(digest, root.toAbsolutePath().toString());
+            if (Files.isDirectory(root)) {
+                try (Stream<Path> paths = Files.walk(root)) {
+                    paths.sorted().forEach(path -> {
+                        try {
+                            final BasicFileAttributes attributes = Files.readAttributes(path, BasicFileAttributes.class);
+                            if (attributes.isRegularFile()) {
+                                update(digest, root.relativize(path) + ":" + attributes.size() + ":" + attributes.lastModifiedTime().toMillis());
+                            }
+                        } catch (IOException e) {
+                            throw new UncheckedIOException(e);
+                        }
+                    });
+                }
+            } else if (Files.isRegularFile(root)) {
+                update(digest, Files.size(root) + ":" + Files.getLastModifiedTime(root).toMillis());
+            }
+        }
+        final StringBuilder sb = new StringBuilder();
+        for (byte b : digest.digest()) {
+            sb.append(String.format("%02x", b));
+        }
+        return sb.toString();
+    }
+
+    private static void update(MessageDigest digest, String value) {
+        digest.update(value.getBytes(StandardCharsets.UTF_8));
+        digest.update((byte) '\n');
+    }
+
+    private static MessageDigest createDigest() {
+        try {
+            return MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new RuntimeException(e);
+        }
+    }
+
+}
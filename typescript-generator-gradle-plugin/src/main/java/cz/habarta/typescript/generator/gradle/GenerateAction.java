@@ -0,0 +1,259 @@
+package cz.habarta.typescript.generator.gradle;
+
+import cz.habarta.typescript.generator.Logger;
+import cz.habarta.typescript.generator.Output;
+import cz.habarta.typescript.generator.Settings;
+import cz.habarta.typescript.generator.TypeScriptGenerator;
+import cz.habarta.typescript.generator.parser.Model;
+import cz.habarta.typescript.generator.parser.SourceType;
+import cz.habarta.typescript.generator.util.Utils;
+import java.io.File;
+import java.io.IOException;
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.TreeSet;
+import org.gradle.api.file.ConfigurableFileCollection;
+import org.gradle.api.file.RegularFileProperty;
+import org.gradle.api.provider.ListProperty;
+import org.gradle.api.provider.Property;
+import org.gradle.workers.WorkAction;
+import org.gradle.workers.WorkParameters;
+
+
+/**
+ * Generates TypeScript file in Gradle worker.
+ * Runs with process isolation so generated classes, Jackson and other libraries don't leak into Gradle daemon.
+ * Worker daemon is reused by following builds (while plugin classpath doesn't change)
+ * so class loaders (see {@link ClassLoaderCache}) and Jackson mappers configured for them are kept in it.
+ * Logger is set per thread so parallel workers don't overwrite each other's logger.
+ */
+public abstract class GenerateAction implements WorkAction<GenerateAction.Parameters> {
+
+    public interface Parameters extends WorkParameters, GenerateOptions {
+
+        public Property<String> getTaskPath();
+
+        public ConfigurableFileCollection getClasspath();
+
+        /**
+         * True when Gradle reported no classpath change since previous execution of the task.
+         */
+        public Property<Boolean> getClasspathUnchanged();
+
+        public RegularFileProperty getOutputFileProperty();
+
+        public RegularFileProperty getContributingClassesFile();
+
+    }
+
+    @Override
+    public void execute() {
+        // workers of multiple tasks can run in parallel in the same class loader so logger is set only for this thread
+        TypeScriptGenerator.setThreadLogger(new Logger(getParameters().getLoggingLevel().getOrElse(Logger.Level.Info)));
+        try {
+            generate(getParameters());
+        } catch (IOException e) {
+            throw new RuntimeException(e);
+        } finally {
+            TypeScriptGenerator.setThreadLogger(null);
+        }
+    }
+
+    private static void generate(Parameters parameters) throws IOException {
+        Logger.Level logLevel = parameters.getLoggingLevel().getOrElse(Logger.Level.Info);
+        TypeScriptGenerator.printVersion();
+
+        final List<File> classpath = new ArrayList<>(parameters.getClasspath().getFiles());
+        final ClassLoader parentClassLoader = Thread.currentThread().getContextClassLoader();
+        final boolean reuseClassLoader = parameters.getReuseClassLoader().getOrElse(false);
+        final URLClassLoader classLoader = reuseClassLoader
+            ? ClassLoaderCache.acquire(parameters.getTaskPath().get(), parameters.getProjectName().get(), classpath, parentClassLoader,
+                parameters.getClasspathUnchanged().getOrElse(false))
+            : createClassLoader(parameters.getProjectName().get(), classpath, parentClassLoader);
+        try {
+            final Settings settings = createSettings(parameters, classLoader);
+
+            final cz.habarta.typescript.generator.Input.Parameters inputParameters = new cz.habarta.typescript.generator.Input.Parameters();
+            inputParameters.classNames = nullableList(parameters.getClasses());
+            inputParameters.classNamePatterns = nullableList(parameters.getClassPatterns());
+            inputParameters.classesWithAnnotations = nullableList(parameters.getClassesWithAnnotations());
+            inputParameters.classesImplementingInterfaces = nullableList(parameters.getClassesImplementingInterfaces());
+            inputParameters.classesExtendingClasses = nullableList(parameters.getClassesExtendingClasses());
+            inputParameters.jaxrsApplicationClassName = parameters.getClassesFromJaxrsApplication().getOrNull();
+            inputParameters.automaticJaxrsApplication = parameters.getClassesFromAutomaticJaxrsApplication().getOrElse(false);
+            inputParameters.isClassNameExcluded = settings.getExcludeFilter();
+            inputParameters.classLoader = classLoader;
+            inputParameters.scanningAcceptedPackages = nullableList(parameters.getScanningAcceptedPackages());
+            inputParameters.scanCacheDirectory = parameters.getScanCacheDirectory().getAsFile().getOrNull();
+            inputParameters.debug = logLevel == Logger.Level.Debug;
+
+            final File output = parameters.getOutputFileProperty().getAsFile().get();
+            settings.validateFileName(output);
+
+            final cz.habarta.typescript.generator.Input input = cz.habarta.typescript.generator.Input.from(inputParameters);
+            final Model model = new TypeScriptGenerator(settings).generateTypeScriptAndGetModel(input, Output.toFileIfChanged(output));
+
+            final Set<Class<?>> contributingClasses = new LinkedHashSet<>(model.getContributingClasses());
+            for (SourceType<?> sourceType : input.getSourceTypes()) {
+                final Class<?> rawClass = Utils.getRawClassOrNull(sourceType.type);
+                if (rawClass != null) {
+                    contributingClasses.add(rawClass);
+                }
+            }
+            writeContributingClasses(parameters.getContributingClassesFile().getAsFile().get(), contributingClasses, classLoader);
+        } finally {
+            if (reuseClassLoader) {
+                ClassLoaderCache.release(classLoader);
+            } else {
+                classLoader.close();
+            }
+        }
+    }
+
+    static URLClassLoader createClassLoader(String name, List<File> classpath, ClassLoader parent) throws IOException {
+        final List<URL> urls = new ArrayList<>();
+        for (File file : classpath) {
+            urls.add(file.toURI().toURL());
+        }
+        return Settings.createClassLoader(name, urls.toArray(new URL[0]), parent);
+    }
+
+    private static void writeContributingClasses(File file, Set<Class<?>> classes, ClassLoader classLoader) throws IOException {
+        final Set<String> resourceNames = new TreeSet<>();
+        for (Class<?> cls : classes) {
+            if (cls.getClassLoader() == classLoader) {
+                resourceNames.add(cls.getName().replace('.', '/') + ".class");
+            }
+        }
+        Files.createDirectories(file.toPath().getParent());
+        Files.write(file.toPath(), resourceNames, StandardCharsets.UTF_8);
+    }
+
+    private static Settings createSettings(Parameters parameters, URLClassLoader classLoader) {
+        final Settings settings = new Settings();
+
+        if (parameters.getOutputFileType().isPresent()) {
+            settings.outputFileType = parameters.getOutputFileType().get();
+        }
+        settings.outputKind = parameters.getOutputKind().get();
+        settings.module = parameters.getModule().getOrNull();
+        settings.namespace = parameters.getNamespace().getOrNull();
+        settings.mapPackagesToNamespaces = parameters.getMapPackagesToNamespaces().getOrElse(false);
+        settings.umdNamespace = parameters.getUmdNamespace().getOrNull();
+        settings.outputSplitting = parameters.getOutputSplitting().getOrNull();
+        settings.moduleDependencies = nullableList(parameters.getModuleDependencies());
+        settings.setExcludeFilter(
+            nullableList(parameters.getExcludeClasses()),
+            nullableList(parameters.getExcludeClassPatterns())
+        );
+        settings.jsonLibrary = parameters.getJsonLibrary().get();
+        settings.setJackson2Configuration(classLoader, parameters.getJackson2Configuration().getOrNull());
+        settings.setJackson3Configuration(classLoader, parameters.getJackson3Configuration().getOrNull());
+        settings.gsonConfiguration = parameters.getGsonConfiguration().getOrNull();
+        settings.jsonbConfiguration = parameters.getJsonbConfiguration().getOrNull();
+        settings.additionalDataLibraries = nullableList(parameters.getAdditionalDataLibraries());
+        settings.optionalProperties = parameters.getOptionalProperties().getOrNull();
+        settings.optionalPropertiesDeclaration = parameters.getOptionalPropertiesDeclaration().getOrNull();
+        settings.nullabilityDefinition = parameters.getNullabilityDefinition().getOrNull();
+        settings.declarePropertiesAsReadOnly = parameters.getDeclarePropertiesAsReadOnly().getOrElse(false);
+        settings.removeTypeNamePrefix = parameters.getRemoveTypeNamePrefix().getOrNull();
+        settings.removeTypeNameSuffix = parameters.getRemoveTypeNameSuffix().getOrNull();
+        settings.addTypeNamePrefix = parameters.getAddTypeNamePrefix().getOrNull();
+        settings.addTypeNameSuffix = parameters.getAddTypeNameSuffix().getOrNull();
+        settings.customTypeNaming = Settings.convertToMap(nullableList(parameters.getCustomTypeNaming()), "customTypeNaming");
+        settings.customTypeNamingRegexps = Settings.convertToRegexpMap(nullableList(parameters.getCustomTypeNamingRegexps()), "customTypeNamingRegexps");
+        settings.customTypeNamingFunction = parameters.getCustomTypeNamingFunction().getOrNull();
+        settings.referencedFiles = nullableList(parameters.getReferencedFiles());
+        settings.importDeclarations = nullableList(parameters.getImportDeclarations());
+        settings.customTypeMappings = Settings.convertToMap(nullableList(parameters.getCustomTypeMappings()), "customTypeMapping");
+        settings.customTypeAliases = Settings.convertToMap(nullableList(parameters.getCustomTypeAliases()), "customTypeAlias");
+        settings.mapDate = parameters.getMapDate().getOrNull();
+        settings.mapMap = parameters.getMapMap().getOrNull();
+        settings.mapEnum = parameters.getMapEnum().getOrNull();
+        settings.enumMemberCasing = parameters.getEnumMemberCasing().getOrNull();
+        settings.nonConstEnums = parameters.getNonConstEnums().getOrElse(false);
+        settings.loadNonConstEnumAnnotations(classLoader, nullableList(parameters.getNonConstEnumAnnotations()));
+        settings.mapClasses = parameters.getMapClasses().getOrNull();
+        settings.mapClassesAsClassesPatterns = nullableList(parameters.getMapClassesAsClassesPatterns());
+        settings.generateConstructors = parameters.getGenerateConstructors().getOrElse(false);
+        settings.loadDisableTaggedUnionAnnotations(classLoader, nullableList(parameters.getDisableTaggedUnionAnnotations()));
+        settings.disableTaggedUnions = parameters.getDisableTaggedUnions().getOrElse(false);
+        settings.generateReadonlyAndWriteonlyJSDocTags = parameters.getGenerateReadonlyAndWriteonlyJSDocTags().getOrElse(false);
+        settings.ignoreSwaggerAnnotations = parameters.getIgnoreSwaggerAnnotations().getOrElse(false);
+        settings.generateJaxrsApplicationInterface = parameters.getGenerateJaxrsApplicationInterface().getOrElse(false);
+        settings.generateJaxrsApplicationClient = parameters.getGenerateJaxrsApplicationClient().getOrElse(false);
+        settings.generateSpringApplicationInterface = parameters.getGenerateSpringApplicationInterface().getOrElse(false);
+        settings.generateSpringApplicationClient = parameters.getGenerateSpringApplicationClient().getOrElse(false);
+        settings.scanSpringApplication = parameters.getScanSpringApplication().getOrElse(false);
+        settings.restNamespacing = parameters.getRestNamespacing().getOrNull();
+        settings.setRestNamespacingAnnotation(classLoader, parameters.getRestNamespacingAnnotation().getOrNull());
+        settings.restResponseType = parameters.getRestResponseType().getOrNull();
+        settings.setRestOptionsType(parameters.getRestOptionsType().getOrNull());
+        settings.loadCustomTypeProcessor(classLoader, parameters.getCustomTypeProcessor().getOrNull());
+        settings.sortDeclarations = parameters.getSortDeclarations().getOrElse(false);
+        settings.sortTypeDeclarations = parameters.getSortTypeDeclarations().getOrElse(false);
+        settings.noFileComment = parameters.getNoFileComment().getOrElse(false);
+        settings.noTslintDisable = parameters.getNoTslintDisable().getOrElse(false);
+        settings.noEslintDisable = parameters.getNoEslintDisable().getOrElse(false);
+        settings.tsNoCheck = parameters.getTsNoCheck().getOrElse(false);
+
+        List<File> javadocFiles = new ArrayList<>();
+        if (parameters.getJavadocXmlFiles().getFiles() != null) {
+            javadocFiles.addAll(parameters.getJavadocXmlFiles().getFiles());
+        }
+        settings.javadocXmlFiles = javadocFiles;
+        settings.javadocCacheDirectory = parameters.getJavadocCacheDirectory().getAsFile().getOrNull();
+
+        settings.loadExtensions(
+            classLoader,
+            Utils.concatToNullable(
+                nullableList(parameters.getExtensionClasses()),
+                nullableList(parameters.getExtensionsList())
+            ),
+            nullableList(parameters.getExtensionsWithConfiguration()));
+        settings.loadIncludePropertyAnnotations(classLoader, nullableList(parameters.getIncludePropertyAnnotations()));
+        settings.loadExcludePropertyAnnotations(classLoader, nullableList(parameters.getExcludePropertyAnnotations()));
+        settings.loadOptionalAnnotations(classLoader, nullableList(parameters.getOptionalAnnotations()));
+        settings.loadRequiredAnnotations(classLoader, nullableList(parameters.getRequiredAnnotations()));
+        settings.loadNullableAnnotations(classLoader, nullableList(parameters.getNullableAnnotations()));
+        settings.primitivePropertiesRequired = parameters.getPrimitivePropertiesRequired().getOrElse(false);
+        settings.generateInfoJson = parameters.getGenerateInfoJson().getOrElse(false);
+        settings.generateNpmPackageJson = parameters.getGenerateNpmPackageJson().getOrElse(false);
+        settings.npmName = parameters.getNpmName().isPresent() ? parameters.getNpmName().get()
+            : (parameters.getGenerateNpmPackageJson().getOrElse(false) ? parameters.getProjectName().get() : null);
+        settings.npmVersion = parameters.getNpmVersion().isPresent() ? parameters.getNpmVersion().get()
+            : (parameters.getGenerateNpmPackageJson().getOrElse(false) ? settings.getDefaultNpmVersion() : null);
+        settings.npmTypescriptVersion = parameters.getNpmTypescriptVersion().getOrNull();
+        settings.npmBuildScript = parameters.getNpmBuildScript().getOrNull();
+        settings.npmPackageDependencies = Settings.convertToMap(nullableList(parameters.getNpmDependencies()), "npmDependencies");
+        settings.npmDevDependencies = Settings.convertToMap(nullableList(parameters.getNpmDevDependencies()), "npmDevDependencies");
+        settings.npmPeerDependencies = Settings.convertToMap(nullableList(parameters.getNpmPeerDependencies()), "npmPeerDependencies");
+        settings.setStringQuotes(parameters.getStringQuotes().getOrNull());
+        settings.setIndentString(parameters.getIndentString().getOrNull());
+        settings.jackson2ModuleDiscovery = parameters.getJackson2ModuleDiscovery().getOrElse(false);
+        settings.jackson3ModuleDiscovery = parameters.getJackson3ModuleDiscovery().getOrElse(false);
+        settings.loadJackson2Modules(classLoader, nullableList(parameters.getJackson2Modules()));
+        settings.loadJackson3Modules(classLoader, nullableList(parameters.getJackson3Modules()));
+        settings.parallelParsing = parameters.getParallelParsing().getOrElse(false);
+        settings.classLoader = classLoader;
+
+        return settings;
+    }
+
+    /**
+     * @return null if the list is null or if the list is empty (common case for unspecified Gradle ListProperty-s)
+     */
+    private static <T> List<T> nullableList(ListProperty<T> listProperty) {
+        List<T> list = listProperty.getOrNull();
+        if (list == null || list.isEmpty()) {
+            return null;
+        }
+        return list;
+    }
+}
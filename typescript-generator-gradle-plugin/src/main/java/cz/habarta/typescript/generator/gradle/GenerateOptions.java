@@ -0,0 +1,554 @@
+package cz.habarta.typescript.generator.gradle;
+
+import cz.habarta.typescript.generator.ClassMapping;
+import cz.habarta.typescript.generator.DateMapping;
+import cz.habarta.typescript.generator.EnumMapping;
+import cz.habarta.typescript.generator.GsonConfiguration;
+import cz.habarta.typescript.generator.IdentifierCasing;
+import cz.habarta.typescript.generator.Jackson2Configuration;
+import cz.habarta.typescript.generator.Jackson3Configuration;
+import cz.habarta.typescript.generator.JsonLibrary;
+import cz.habarta.typescript.generator.JsonbConfiguration;
+import cz.habarta.typescript.generator.Logger;
+import cz.habarta.typescript.generator.MapMapping;
+import cz.habarta.typescript.generator.ModuleDependency;
+import cz.habarta.typescript.generator.NullabilityDefinition;
+import cz.habarta.typescript.generator.OptionalProperties;
+import cz.habarta.typescript.generator.OptionalPropertiesDeclaration;
+import cz.habarta.typescript.generator.OutputSplitting;
+import cz.habarta.typescript.generator.RestNamespacing;
+import cz.habarta.typescript.generator.Settings;
+import cz.habarta.typescript.generator.StringQuotes;
+import cz.habarta.typescript.generator.TypeScriptFileType;
+import cz.habarta.typescript.generator.TypeScriptOutputKind;
+import org.gradle.api.file.ConfigurableFileCollection;
+import org.gradle.api.file.DirectoryProperty;
+import org.gradle.api.provider.ListProperty;
+import org.gradle.api.provider.Property;
+import org.gradle.api.tasks.Input;
+import org.gradle.api.tasks.InputFiles;
+import org.gradle.api.tasks.Internal;
+import org.gradle.api.tasks.Optional;
+import org.gradle.api.tasks.PathSensitive;
+import org.gradle.api.tasks.PathSensitivity;
+
+
+/**
+ * Configuration of TypeScript generation shared by {@link GenerateTask} and its worker {@link GenerateAction}.
+ */
+public interface GenerateOptions {
+
+    /**
+     * Project name for default output file naming.
+     */
+    @Input
+    public Property<String> getProjectName();
+
+    @Input
+    @Optional
+    public Property<String> getOutputFile();
+
+    @Input
+    @Optional
+    public Property<TypeScriptFileType> getOutputFileType();
+
+    @Input
+    public Property<TypeScriptOutputKind> getOutputKind();
+
+    @Input
+    @Optional
+    public Property<String> getModule();
+
+    @Input
+    @Optional
+    public Property<String> getNamespace();
+
+    @Input
+    @Optional
+    public Property<Boolean> getMapPackagesToNamespaces();
+
+    @Input
+    @Optional
+    public Property<String> getUmdNamespace();
+
+    @Input
+    @Optional
+    public Property<OutputSplitting> getOutputSplitting();
+
+    @Input
+    @Optional
+    public ListProperty<ModuleDependency> getModuleDependencies();
+
+    @Input
+    @Optional
+    public ListProperty<String> getClasses();
+
+    @Input
+    @Optional
+    public ListProperty<String> getClassPatterns();
+
+    @Input
+    @Optional
+    public ListProperty<String> getClassesWithAnnotations();
+
+    @Input
+    @Optional
+    public ListProperty<String> getClassesImplementingInterfaces();
+
+    @Input
+    @Optional
+    public ListProperty<String> getClassesExtendingClasses();
+
+    @Input
+    @Optional
+    public Property<String> getClassesFromJaxrsApplication();
+
+    @Input
+    @Optional
+    public Property<Boolean> getClassesFromAutomaticJaxrsApplication();
+
+    @Input
+    @Optional
+    public ListProperty<String> getScanningAcceptedPackages();
+
+    /**
+     * Directory where results of classpath scanning are cached, only changed jar files are scanned again.
+     */
+    @Internal
+    @Optional
+    public DirectoryProperty getScanCacheDirectory();
+
+    @Input
+    @Optional
+    public ListProperty<String> getExcludeClasses();
+
+    @Input
+    @Optional
+    public ListProperty<String> getExcludeClassPatterns();
+
+    @Input
+    @Optional
+    public ListProperty<String> getIncludePropertyAnnotations();
+
+    @Input
+    @Optional
+    public ListProperty<String> getExcludePropertyAnnotations();
+
+    @Input
+    public Property<JsonLibrary> getJsonLibrary();
+
+    @Input
+    @Optional
+    public Property<Jackson2Configuration> getJackson2Configuration();
+
+    @Input
+    @Optional
+    public Property<Jackson3Configuration> getJackson3Configuration();
+
+    @Input
+    @Optional
+    public Property<GsonConfiguration> getGsonConfiguration();
+
+    @Input
+    @Optional
+    public Property<JsonbConfiguration> getJsonbConfiguration();
+
+    @Input
+    @Optional
+    public ListProperty<String> getAdditionalDataLibraries();
+
+    @Input
+    @Optional
+    public Property<OptionalProperties> getOptionalProperties();
+
+    @Input
+    @Optional
+    public Property<OptionalPropertiesDeclaration> getOptionalPropertiesDeclaration();
+
+    @Input
+    @Optional
+    public Property<NullabilityDefinition> getNullabilityDefinition();
+
+    @Input
+    @Optional
+    public Property<Boolean> getDeclarePropertiesAsReadOnly();
+
+    @Input
+    @Optional
+    public Property<String> getRemoveTypeNamePrefix();
+
+    @Input
+    @Optional
+    public Property<String> getRemoveTypeNameSuffix();
+
+    @Input
+    @Optional
+    public Property<String> getAddTypeNamePrefix();
+
+    @Input
+    @Optional
+    public Property<String> getAddTypeNameSuffix();
+
+    @Input
+    @Optional
+    public ListProperty<String> getCustomTypeNaming();
+
+    @Input
+    @Optional
+    public ListProperty<String> getCustomTypeNamingRegexps();
+
+    @Input
+    @Optional
+    public Property<String> getCustomTypeNamingFunction();
+
+    @Input
+    @Optional
+    public ListProperty<String> getReferencedFiles();
+
+    @Input
+    @Optional
+    public ListProperty<String> getImportDeclarations();
+
+    @Input
+    @Optional
+    public ListProperty<String> getCustomTypeMappings();
+
+    @Input
+    @Optional
+    public ListProperty<String> getCustomTypeAliases();
+
+    @Input
+    @Optional
+    public Property<DateMapping> getMapDate();
+
+    @Input
+    @Optional
+    public Property<MapMapping> getMapMap();
+
+    @Input
+    @Optional
+    public Property<EnumMapping> getMapEnum();
+
+    @Input
+    @Optional
+    public Property<IdentifierCasing> getEnumMemberCasing();
+
+    @Input
+    @Optional
+    public Property<Boolean> getNonConstEnums();
+
+    @Input
+    @Optional
+    public ListProperty<String> getNonConstEnumAnnotations();
+
+    @Input
+    @Optional
+    public Property<ClassMapping> getMapClasses();
+
+    @Input
+    @Optional
+    public ListProperty<String> getMapClassesAsClassesPatterns();
+
+    @Input
+    @Optional
+    public Property<Boolean> getGenerateConstructors();
+
+    @Input
+    @Optional
+    public ListProperty<String> getDisableTaggedUnionAnnotations();
+
+    @Input
+    @Optional
+    public Property<Boolean> getDisableTaggedUnions();
+
+    @Input
+    @Optional
+    public Property<Boolean> getGenerateReadonlyAndWriteonlyJSDocTags();
+
+    @Input
+    @Optional
+    public Property<Boolean> getIgnoreSwaggerAnnotations();
+
+    @Input
+    @Optional
+    public Property<Boolean> getGenerateJaxrsApplicationInterface();
+
+    @Input
+    @Optional
+    public Property<Boolean> getGenerateJaxrsApplicationClient();
+
+    @Input
+    @Optional
+    public Property<Boolean> getGenerateSpringApplicationInterface();
+
+    @Input
+    @Optional
+    public Property<Boolean> getGenerateSpringApplicationClient();
+
+    @Input
+    @Optional
+    public Property<Boolean> getScanSpringApplication();
+
+    @Input
+    @Optional
+    public Property<RestNamespacing> getRestNamespacing();
+
+    @Input
+    @Optional
+    public Property<String> getRestNamespacingAnnotation();
+
+    @Input
+    @Optional
+    public Property<String> getRestResponseType();
+
+    @Input
+    @Optional
+    public Property<String> getRestOptionsType();
+
+    @Input
+    @Optional
+    public Property<String> getCustomTypeProcessor();
+
+    @Input
+    @Optional
+    public Property<Boolean> getSortDeclarations();
+
+    @Input
+    @Optional
+    public Property<Boolean> getSortTypeDeclarations();
+
+    @Input
+    @Optional
+    public Property<Boolean> getNoFileComment();
+
+    @Input
+    @Optional
+    public Property<Boolean> getNoTslintDisable();
+
+    @Input
+    @Optional
+    public Property<Boolean> getNoEslintDisable();
+
+    @Input
+    @Optional
+    public Property<Boolean> getTsNoCheck();
+
+    @InputFiles
+    @Optional
+    @PathSensitive(PathSensitivity.RELATIVE)
+    public ConfigurableFileCollection getJavadocXmlFiles();
+
+    /**
+     * Directory where indexed documentation from Javadoc XML files is cached, unchanged XML files are not parsed again.
+     */
+    @Internal
+    @Optional
+    public DirectoryProperty getJavadocCacheDirectory();
+
+    @Input
+    @Optional
+    public ListProperty<String> getExtensionClasses();
+
+    @Input
+    @Optional
+    public ListProperty<String> getExtensionsList();
+
+    @Input
+    @Optional
+    public ListProperty<Settings.ConfiguredExtension> getExtensionsWithConfiguration();
+
+    @Input
+    @Optional
+    public ListProperty<String> getOptionalAnnotations();
+
+    @Input
+    @Optional
+    public ListProperty<String> getRequiredAnnotations();
+
+    @Input
+    @Optional
+    public ListProperty<String> getNullableAnnotations();
+
+    @Input
+    @Optional
+    public Property<Boolean> getPrimitivePropertiesRequired();
+
+    @Input
+    @Optional
+    public Property<Boolean> getGenerateInfoJson();
+
+    @Input
+    @Optional
+    public Property<Boolean> getGenerateNpmPackageJson();
+
+    @Input
+    @Optional
+    public Property<String> getNpmName();
+
+    @Input
+    @Optional
+    public Property<String> getNpmVersion();
+
+    @Input
+    @Optional
+    public Property<String> getNpmTypescriptVersion();
+
+    @Input
+    @Optional
+    public Property<String> getNpmBuildScript();
+
+    @Input
+    @Optional
+    public ListProperty<String> getNpmDependencies();
+
+    @Input
+    @Optional
+    public ListProperty<String> getNpmDevDependencies();
+
+    @Input
+    @Optional
+    public ListProperty<String> getNpmPeerDependencies();
+
+    @Input
+    @Optional
+    public Property<StringQuotes> getStringQuotes();
+
+    @Input
+    @Optional
+    public Property<String> getIndentString();
+
+    @Input
+    @Optional
+    public Property<Boolean> getJackson2ModuleDiscovery();
+
+    @Input
+    @Optional
+    public Property<Boolean> getJackson3ModuleDiscovery();
+
+    @Input
+    @Optional
+    public ListProperty<String> getJackson2Modules();
+
+    @Input
+    @Optional
+    public ListProperty<String> getJackson3Modules();
+
+    @Input
+    @Optional
+    public Property<Boolean> getParallelParsing();
+
+    /**
+     * Keeps class loader in Gradle worker daemon and reuses it in following builds while classpath doesn't change.
+     */
+    @Input
+    @Optional
+    public Property<Boolean> getReuseClassLoader();
+
+    @Input
+    @Optional
+    public Property<Logger.Level> getLoggingLevel();
+
+    public static void copy(GenerateOptions from, GenerateOptions to) {
+        to.getProjectName().set(from.getProjectName());
+        to.getOutputFile().set(from.getOutputFile());
+        to.getOutputFileType().set(from.getOutputFileType());
+        to.getOutputKind().set(from.getOutputKind());
+        to.getModule().set(from.getModule());
+        to.getNamespace().set(from.getNamespace());
+        to.getMapPackagesToNamespaces().set(from.getMapPackagesToNamespaces());
+        to.getUmdNamespace().set(from.getUmdNamespace());
+        to.getOutputSplitting().set(from.getOutputSplitting());
+        to.getModuleDependencies().set(from.getModuleDependencies());
+        to.getClasses().set(from.getClasses());
+        to.getClassPatterns().set(from.getClassPatterns());
+        to.getClassesWithAnnotations().set(from.getClassesWithAnnotations());
+        to.getClassesImplementingInterfaces().set(from.getClassesImplementingInterfaces());
+        to.getClassesExtendingClasses().set(from.getClassesExtendingClasses());
+        to.getClassesFromJaxrsApplication().set(from.getClassesFromJaxrsApplication());
+        to.getClassesFromAutomaticJaxrsApplication().set(from.getClassesFromAutomaticJaxrsApplication());
+        to.getScanningAcceptedPackages().set(from.getScanningAcceptedPackages());
+        to.getScanCacheDirectory().set(from.getScanCacheDirectory());
+        to.getExcludeClasses().set(from.getExcludeClasses());
+        to.getExcludeClassPatterns().set(from.getExcludeClassPatterns());
+        to.getIncludePropertyAnnotations().set(from.getIncludePropertyAnnotations());
+        to.getExcludePropertyAnnotations().set(from.getExcludePropertyAnnotations());
+        to.getJsonLibrary().set(from.getJsonLibrary());
+        to.getJackson2Configuration().set(from.getJackson2Configuration());
+        to.getJackson3Configuration().set(from.getJackson3Configuration());
+        to.getGsonConfiguration().set(from.getGsonConfiguration());
+        to.getJsonbConfiguration().set(from.getJsonbConfiguration());
+        to.getAdditionalDataLibraries().set(from.getAdditionalDataLibraries());
+        to.getOptionalProperties().set(from.getOptionalProperties());
+        to.getOptionalPropertiesDeclaration().set(from.getOptionalPropertiesDeclaration());
+        to.getNullabilityDefinition().set(from.getNullabilityDefinition());
+        to.getDeclarePropertiesAsReadOnly().set(from.getDeclarePropertiesAsReadOnly());
+        to.getRemoveTypeNamePrefix().set(from.getRemoveTypeNamePrefix());
+        to.getRemoveTypeNameSuffix().set(from.getRemoveTypeNameSuffix());
+        to.getAddTypeNamePrefix().set(from.getAddTypeNamePrefix());
+        to.getAddTypeNameSuffix().set(from.getAddTypeNameSuffix());
+        to.getCustomTypeNaming().set(from.getCustomTypeNaming());
+        to.getCustomTypeNamingRegexps().set(from.getCustomTypeNamingRegexps());
+        to.getCustomTypeNamingFunction().set(from.getCustomTypeNamingFunction());
+        to.getReferencedFiles().set(from.getReferencedFiles());
+        to.getImportDeclarations().set(from.getImportDeclarations());
+        to.getCustomTypeMappings().set(from.getCustomTypeMappings());
+        to.getCustomTypeAliases().set(from.getCustomTypeAliases());
+        to.getMapDate().set(from.getMapDate());
+        to.getMapMap().set(from.getMapMap());
+        to.getMapEnum().set(from.getMapEnum());
+        to.getEnumMemberCasing().set(from.getEnumMemberCasing());
+        to.getNonConstEnums().set(from.getNonConstEnums());
+        to.getNonConstEnumAnnotations().set(from.getNonConstEnumAnnotations());
+        to.getMapClasses().set(from.getMapClasses());
+        to.getMapClassesAsClassesPatterns().set(from.getMapClassesAsClassesPatterns());
+        to.getGenerateConstructors().set(from.getGenerateConstructors());
+        to.getDisableTaggedUnionAnnotations().set(from.getDisableTaggedUnionAnnotations());
+        to.getDisableTaggedUnions().set(from.getDisableTaggedUnions());
+        to.getGenerateReadonlyAndWriteonlyJSDocTags().set(from.getGenerateReadonlyAndWriteonlyJSDocTags());
+        to.getIgnoreSwaggerAnnotations().set(from.getIgnoreSwaggerAnnotations());
+        to.getGenerateJaxrsApplicationInterface().set(from.getGenerateJaxrsApplicationInterface());
+        to.getGenerateJaxrsApplicationClient().set(from.getGenerateJaxrsApplicationClient());
+        to.getGenerateSpringApplicationInterface().set(from.getGenerateSpringApplicationInterface());
+        to.getGenerateSpringApplicationClient().set(from.getGenerateSpringApplicationClient());
+        to.getScanSpringApplication().set(from.getScanSpringApplication());
+        to.getRestNamespacing().set(from.getRestNamespacing());
+        to.getRestNamespacingAnnotation().set(from.getRestNamespacingAnnotation());
+        to.getRestResponseType().set(from.getRestResponseType());
+        to.getRestOptionsType().set(from.getRestOptionsType());
+        to.getCustomTypeProcessor().set(from.getCustomTypeProcessor());
+        to.getSortDeclarations().set(from.getSortDeclarations());
+        to.getSortTypeDeclarations().set(from.getSortTypeDeclarations());
+        to.getNoFileComment().set(from.getNoFileComment());
+        to.getNoTslintDisable().set(from.getNoTslintDisable());
+        to.getNoEslintDisable().set(from.getNoEslintDisable());
+        to.getTsNoCheck().set(from.getTsNoCheck());
+        to.getJavadocXmlFiles().from(from.getJavadocXmlFiles());
+        to.getJavadocCacheDirectory().set(from.getJavadocCacheDirectory());
+        to.getExtensionClasses().set(from.getExtensionClasses());
+        to.getExtensionsList().set(from.getExtensionsList());
+        to.getExtensionsWithConfiguration().set(from.getExtensionsWithConfiguration());
+        to.getOptionalAnnotations().set(from.getOptionalAnnotations());
+        to.getRequiredAnnotations().set(from.getRequiredAnnotations());
+        to.getNullableAnnotations().set(from.getNullableAnnotations());
+        to.getPrimitivePropertiesRequired().set(from.getPrimitivePropertiesRequired());
+        to.getGenerateInfoJson().set(from.getGenerateInfoJson());
+        to.getGenerateNpmPackageJson().set(from.getGenerateNpmPackageJson());
+        to.getNpmName().set(from.getNpmName());
+        to.getNpmVersion().set(from.getNpmVersion());
+        to.getNpmTypescriptVersion().set(from.getNpmTypescriptVersion());
+        to.getNpmBuildScript().set(from.getNpmBuildScript());
+        to.getNpmDependencies().set(from.getNpmDependencies());
+        to.getNpmDevDependencies().set(from.getNpmDevDependencies());
+        to.getNpmPeerDependencies().set(from.getNpmPeerDependencies());
+        to.getStringQuotes().set(from.getStringQuotes());
+        to.getIndentString().set(from.getIndentString());
+        to.getJackson2ModuleDiscovery().set(from.getJackson2ModuleDiscovery());
+        to.getJackson3ModuleDiscovery().set(from.getJackson3ModuleDiscovery());
+        to.getJackson2Modules().set(from.getJackson2Modules());
+        to.getJackson3Modules().set(from.getJackson3Modules());
+        to.getParallelParsing().set(from.getParallelParsing());
+        to.getReuseClassLoader().set(from.getReuseClassLoader());
+        to.getLoggingLevel().set(from.getLoggingLevel());
+    }
+
+}
@@ -16,14 +16,17 @@ import cz.habarta.typescript.generator.ModuleDependency;
 import cz.habarta.typescript.generator.NullabilityDefinition;
 import cz.habarta.typescript.generator.OptionalProperties;
 import cz.habarta.typescript.generator.OptionalPropertiesDeclaration;
+import cz.habarta.typescript.generator.OutputSplitting;
 import cz.habarta.typescript.generator.RestNamespacing;
 import cz.habarta.typescript.generator.Settings;
 import cz.habarta.typescript.generator.StringQuotes;
 import cz.habarta.typescript.generator.TypeScriptFileType;
 import cz.habarta.typescript.generator.TypeScriptOutputKind;
+import org.gradle.api.file.DirectoryProperty;
 import org.gradle.api.provider.ListProperty;
 import org.gradle.api.provider.Property;
 import org.gradle.api.tasks.Input;
+import org.gradle.api.tasks.Internal;
 import org.gradle.api.tasks.Optional;
 
 import java.io.File;
@@ -63,6 +66,10 @@ public abstract class TypeScriptGeneratorExtension {
     @Optional
     public abstract Property<String> getUmdNamespace();
 
+    @Input
+    @Optional
+    public abstract Property<OutputSplitting> getOutputSplitting();
+
     @Input
     @Optional
     public abstract ListProperty<ModuleDependency> getModuleDependencies();
@@ -99,6 +106,10 @@ public abstract class TypeScriptGeneratorExtension {
     @Optional
     public abstract ListProperty<String> getScanningAcceptedPackages();
 
+    @Internal
+    @Optional
+    public abstract DirectoryProperty getScanCacheDirectory();
+
     @Input
     @Optional
     public abstract ListProperty<String> getExcludeClasses();
@@ -175,6 +186,10 @@ public abstract class TypeScriptGeneratorExtension {
     @Optional
     public abstract ListProperty<String> getCustomTypeNaming();
 
+    @Input
+    @Optional
+    public abstract ListProperty<String> getCustomTypeNamingRegexps();
+
     @Input
     @Optional
     public abstract Property<String> getCustomTypeNamingFunction();
@@ -315,6 +330,10 @@ public abstract class TypeScriptGeneratorExtension {
     @Optional
     public abstract ListProperty<File> getJavadocXmlFiles();
 
+    @Internal
+    @Optional
+    public abstract DirectoryProperty getJavadocCacheDirectory();
+
     @Input
     @Optional
     public abstract ListProperty<String> getExtensionClasses();
@@ -403,6 +422,18 @@ public abstract class TypeScriptGeneratorExtension {
     @Optional
     public abstract ListProperty<String> getJackson3Modules();
 
+    @Input
+    @Optional
+    public abstract Property<Boolean> getParallelParsing();
+
+    @Input
+    @Optional
+    public abstract Property<Boolean> getIncrementalGeneration();
+
+    @Input
+    @Optional
+    public abstract Property<Boolean> getReuseClassLoader();
+
     @Input
     @Optional
     public abstract Property<Logger.Level> getLoggingLevel();
@@ -433,6 +464,9 @@ public abstract class TypeScriptGeneratorExtension {
         getGenerateNpmPackageJson().convention(false);
         getJackson2ModuleDiscovery().convention(false);
         getJackson3ModuleDiscovery().convention(false);
+        getParallelParsing().convention(false);
+        getIncrementalGeneration().convention(false);
+        getReuseClassLoader().convention(false);
         getLoggingLevel().convention(Logger.Level.Info);
     }
 }
@@ -105,6 +105,12 @@ public class TypeScriptGeneratorPlugin implements Plugin<Project> {
                     .getAsFile();
             })));
 
+        task.getContributingClassesFile().set(task.getBuildDirectory()
+            .file("typescript-generator/" + task.getName() + "-contributing-classes.txt"));
+
+        // names of split output files are known only after generation so they cannot be declared as task outputs
+        task.getOutputs().doNotCacheIf("Output splitting is enabled", t -> task.getOutputSplitting().isPresent());
+
         // Copy all properties from extension to task
         task.getOutputFile().set(extension.getOutputFile());
         task.getOutputFileType().set(extension.getOutputFileType());
@@ -113,6 +119,7 @@ public class TypeScriptGeneratorPlugin implements Plugin<Project> {
         task.getNamespace().set(extension.getNamespace());
         task.getMapPackagesToNamespaces().set(extension.getMapPackagesToNamespaces());
         task.getUmdNamespace().set(extension.getUmdNamespace());
+        task.getOutputSplitting().set(extension.getOutputSplitting());
         task.getModuleDependencies().set(extension.getModuleDependencies());
         task.getClasses().set(extension.getClasses());
         task.getClassPatterns().set(extension.getClassPatterns());
@@ -122,6 +129,7 @@ public class TypeScriptGeneratorPlugin implements Plugin<Project> {
         task.getClassesFromJaxrsApplication().set(extension.getClassesFromJaxrsApplication());
         task.getClassesFromAutomaticJaxrsApplication().set(extension.getClassesFromAutomaticJaxrsApplication());
         task.getScanningAcceptedPackages().set(extension.getScanningAcceptedPackages());
+        task.getScanCacheDirectory().set(extension.getScanCacheDirectory());
         task.getExcludeClasses().set(extension.getExcludeClasses());
         task.getExcludeClassPatterns().set(extension.getExcludeClassPatterns());
         task.getIncludePropertyAnnotations().set(extension.getIncludePropertyAnnotations());
@@ -141,6 +149,7 @@ public class TypeScriptGeneratorPlugin implements Plugin<Project> {
         task.getAddTypeNamePrefix().set(extension.getAddTypeNamePrefix());
         task.getAddTypeNameSuffix().set(extension.getAddTypeNameSuffix());
         task.getCustomTypeNaming().set(extension.getCustomTypeNaming());
+        task.getCustomTypeNamingRegexps().set(extension.getCustomTypeNamingRegexps());
         task.getCustomTypeNamingFunction().set(extension.getCustomTypeNamingFunction());
         task.getReferencedFiles().set(extension.getReferencedFiles());
         task.getImportDeclarations().set(extension.getImportDeclarations());
@@ -176,6 +185,7 @@ public class TypeScriptGeneratorPlugin implements Plugin<Project> {
         task.getNoEslintDisable().set(extension.getNoEslintDisable());
         task.getTsNoCheck().set(extension.getTsNoCheck());
         task.getJavadocXmlFiles().from(extension.getJavadocXmlFiles());
+        task.getJavadocCacheDirectory().set(extension.getJavadocCacheDirectory());
         task.getExtensionClasses().set(extension.getExtensionClasses());
         task.getExtensionsList().set(extension.getExtensionsList());
         task.getExtensionsWithConfiguration().set(extension.getExtensionsWithConfiguration());
@@ -198,6 +208,9 @@ public class TypeScriptGeneratorPlugin implements Plugin<Project> {
         task.getJackson3ModuleDiscovery().set(extension.getJackson3ModuleDiscovery());
         task.getJackson2Modules().set(extension.getJackson2Modules());
         task.getJackson3Modules().set(extension.getJackson3Modules());
+        task.getParallelParsing().set(extension.getParallelParsing());
+        task.getIncrementalGeneration().set(extension.getIncrementalGeneration());
+        task.getReuseClassLoader().set(extension.getReuseClassLoader());
         task.getLoggingLevel().set(extension.getLoggingLevel());
     }
 }
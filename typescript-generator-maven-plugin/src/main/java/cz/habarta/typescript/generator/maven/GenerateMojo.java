@@ -18,19 +18,32 @@ import cz.habarta.typescript.generator.NullabilityDefinition;
 import cz.habarta.typescript.generator.OptionalProperties;
 import cz.habarta.typescript.generator.OptionalPropertiesDeclaration;
 import cz.habarta.typescript.generator.Output;
+import cz.habarta.typescript.generator.OutputSplitting;
 import cz.habarta.typescript.generator.RestNamespacing;
 import cz.habarta.typescript.generator.Settings;
 import cz.habarta.typescript.generator.StringQuotes;
 import cz.habarta.typescript.generator.TypeScriptFileType;
 import cz.habarta.typescript.generator.TypeScriptGenerator;
 import cz.habarta.typescript.generator.TypeScriptOutputKind;
+import cz.habarta.typescript.generator.parser.Model;
 import java.io.File;
 import java.io.IOException;
+import java.lang.reflect.Field;
 import java.net.URL;
 import java.net.URLClassLoader;
 import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.stream.Collectors;
+import javax.inject.Inject;
+import org.apache.maven.artifact.Artifact;
 import org.apache.maven.artifact.DependencyResolutionRequiredException;
+import org.apache.maven.plugin.MojoExecution;
+import org.apache.maven.plugin.descriptor.PluginDescriptor;
 import org.apache.maven.plugin.AbstractMojo;
 import org.apache.maven.plugins.annotations.LifecyclePhase;
 import org.apache.maven.plugins.annotations.Mojo;
@@ -38,6 +51,7 @@ import org.apache.maven.plugins.annotations.Parameter;
 import org.apache.maven.plugins.annotations.ResolutionScope;
 import org.apache.maven.project.MavenProject;
 import org.jspecify.annotations.Nullable;
+import org.sonatype.plexus.build.incremental.BuildContext;
 
 
 /**
@@ -107,6 +121,21 @@ public class GenerateMojo extends AbstractMojo {
     @Parameter
     private @Nullable String umdNamespace;
 
+    /**
+     * Splits generated module into multiple files. Supported values are:
+     * <ul>
+     * <li><code>byPackage</code> - data declarations are emitted to files named by Java packages
+     * (only applicable to declaration files since package files can import each other)</li>
+     * <li><code>restAndData</code> - data declarations are emitted to <code>&lt;outputFile&gt;-data</code> file</li>
+     * </ul>
+     * REST declarations, helpers and output of extensions stay in main <code>outputFile</code> which re-exports all other files.
+     * Files are emitted in parallel and import declarations from each other.
+     * Files of previous generation which are not generated anymore are deleted.
+     * Only applicable to modules (<code>outputKind</code> <code>module</code>), cannot be used with namespaces.
+     */
+    @Parameter
+    private @Nullable OutputSplitting outputSplitting;
+
     /**
      * List of modules (generated by typescript-generator!) on which currently generated module depends on.
      * Each item of this list has
@@ -185,10 +214,23 @@ public class GenerateMojo extends AbstractMojo {
      * <li><code>classesFromAutomaticJaxrsApplication</code></li>
      * </ul>
      * This parameter is passed directly to underlying classpath scanning library (ClassGraph) without any validation or interpretation.
+     * When this parameter is not specified and classes are searched only using <code>classPatterns</code>
+     * scanning is automatically limited to packages derived from patterns (part before first wildcard),
+     * for example <code>com.example.**Dto</code> limits scanning to <code>com.example</code> package.
      */
     @Parameter
     private @Nullable List<String> scanningAcceptedPackages;
 
+    /**
+     * Directory where results of classpath scanning are cached.
+     * When specified each classpath entry is scanned separately and results for jar files are stored in this directory
+     * so subsequent builds scan only jar files which changed (different size or modification time) and project class directories.
+     * For example <code>${project.build.directory}/typescript-generator/scan-cache</code>
+     * or directory outside of build directory to keep cache after <code>mvn clean</code>.
+     */
+    @Parameter
+    private @Nullable File scanCacheDirectory;
+
     /**
      * List of classes excluded from processing.
      */
@@ -380,6 +422,17 @@ public class GenerateMojo extends AbstractMojo {
     @Parameter
     private @Nullable String customTypeNamingFunction;
 
+    /**
+     * Specifies custom TypeScript names for Java classes using regular expressions.
+     * Each item has format <code>regexp:replacement</code> (separated by last colon).
+     * Regular expression must match whole Java class name, replacement can reference groups (<code>$1</code>).
+     * First matching regular expression is used.
+     * This is faster alternative to <code>customTypeNamingFunction</code> because it doesn't need JavaScript engine.<br>
+     * Example: <code>cz\.habarta\.(\w+)\.dto\.(\w+)Dto:$1.$2</code>
+     */
+    @Parameter
+    private @Nullable List<String> customTypeNamingRegexps;
+
     /**
      * List of files which will be referenced using triple-slash directive: <code>/// &lt;reference path="file" /></code>.
      * This can be used with {@link #customTypeMappings} to provide needed TypeScript types.
@@ -681,6 +734,14 @@ public class GenerateMojo extends AbstractMojo {
     @Parameter
     private @Nullable List<File> javadocXmlFiles;
 
+    /**
+     * Directory where indexed documentation from <code>javadocXmlFiles</code> is cached in binary form.
+     * Cache files are keyed by hash of Javadoc XML file content so unchanged XML files are not parsed again.
+     * For example <code>${project.build.directory}/typescript-generator/javadoc-cache</code>
+     */
+    @Parameter
+    private @Nullable File javadocCacheDirectory;
+
     /**
      * List of extensions specified as fully qualified class name.
      * Known extensions:
@@ -864,6 +925,61 @@ public class GenerateMojo extends AbstractMojo {
     @Parameter
     private @Nullable List<String> jackson3Modules;
 
+    /**
+     * If <code>true</code> Java classes are parsed in parallel using all available processors.
+     * Generated output is the same as with sequential parsing.
+     * When enabled, custom type processor (see {@link #customTypeProcessor}) must be thread-safe.
+     */
+    @Parameter
+    private boolean parallelParsing;
+
+    /**
+     * List of outputs generated by this execution.
+     * Each output is configured using parameters of this plugin execution
+     * and can override following parameters:
+     * <code>outputFile</code>, <code>outputFileType</code>, <code>outputKind</code>,
+     * <code>module</code>, <code>namespace</code>, <code>umdNamespace</code>,
+     * <code>classes</code>, <code>classPatterns</code>, <code>classesWithAnnotations</code>,
+     * <code>classesImplementingInterfaces</code>, <code>classesExtendingClasses</code>,
+     * <code>excludeClasses</code>, <code>excludeClassPatterns</code> and <code>generateInfoJson</code>.
+     * <p>
+     * All outputs share one class loader and one classpath scan.
+     * Outputs which have the same input classes and excluded classes also share parsed model
+     * so Java classes are parsed only once.
+     * This is faster than multiple plugin executions which generate the same classes with different output settings.
+     * <p>
+     * Example:
+     * <pre>
+     * &lt;outputs&gt;
+     *     &lt;output&gt;
+     *         &lt;outputFile&gt;target/rest.d.ts&lt;/outputFile&gt;
+     *     &lt;/output&gt;
+     *     &lt;output&gt;
+     *         &lt;outputFile&gt;target/rest.ts&lt;/outputFile&gt;
+     *         &lt;outputKind&gt;module&lt;/outputKind&gt;
+     *         &lt;outputFileType&gt;implementationFile&lt;/outputFileType&gt;
+     *     &lt;/output&gt;
+     * &lt;/outputs&gt;
+     * </pre>
+     * Each output must generate different file.
+     * When this parameter is not specified single output is generated.
+     */
+    @Parameter
+    private @Nullable List<OutputConfiguration> outputs;
+
+    /**
+     * If <code>true</code> generation is skipped when nothing which can affect generated output changed since previous generation.
+     * Checked are evaluated plugin parameters, compile classpath (content of class directories, size and modification time of other files),
+     * plugin dependencies, <code>javadocXmlFiles</code> and <code>infoJson</code> files of <code>moduleDependencies</code>.
+     * Content of class directory files is only read when their size or modification time changed.
+     * State of previous generation is stored in <code>target/typescript-generator</code> directory.
+     * In Eclipse (m2e) incremental builds generation is also skipped when project output directory didn't change,
+     * plugin configuration and dependency jars are the same and no upstream workspace module is on the classpath.
+     * Default value is <code>false</code>.
+     */
+    @Parameter(property = "typescript.generator.incrementalBuild", defaultValue = "false")
+    private boolean incrementalBuild;
+
     /**
      * Specifies level of logging output.
      * Supported values are:
@@ -890,18 +1006,32 @@ public class GenerateMojo extends AbstractMojo {
     @SuppressWarnings("NullAway.Init")
     private String projectBuildDirectory;
 
-    private Settings createSettings(URLClassLoader classLoader) {
+    @Parameter(defaultValue = "${mojoExecution}", readonly = true, required = true)
+    @SuppressWarnings("NullAway.Init")
+    private MojoExecution mojoExecution;
+
+    @Parameter(defaultValue = "${plugin}", readonly = true, required = true)
+    @SuppressWarnings("NullAway.Init")
+    private PluginDescriptor plugin;
+
+    @Inject
+    @SuppressWarnings("NullAway.Init")
+    private BuildContext buildContext;
+
+    private Settings createSettings(URLClassLoader classLoader, OutputConfiguration output) {
         final Settings settings = new Settings();
+        final TypeScriptFileType outputFileType = override(output.outputFileType, this.outputFileType);
         if (outputFileType != null) {
             settings.outputFileType = outputFileType;
         }
-        settings.outputKind = outputKind;
-        settings.module = module;
-        settings.namespace = namespace;
+        settings.outputKind = override(output.outputKind, outputKind);
+        settings.module = override(output.module, module);
+        settings.namespace = override(output.namespace, namespace);
         settings.mapPackagesToNamespaces = mapPackagesToNamespaces;
-        settings.umdNamespace = umdNamespace;
+        settings.umdNamespace = override(output.umdNamespace, umdNamespace);
+        settings.outputSplitting = outputSplitting;
         settings.moduleDependencies = moduleDependencies;
-        settings.setExcludeFilter(excludeClasses, excludeClassPatterns);
+        settings.setExcludeFilter(override(output.excludeClasses, excludeClasses), override(output.excludeClassPatterns, excludeClassPatterns));
         settings.jsonLibrary = jsonLibrary;
         settings.setJackson2Configuration(classLoader, jackson2Configuration);
         settings.setJackson3Configuration(classLoader, jackson3Configuration);
@@ -918,6 +1048,7 @@ public class GenerateMojo extends AbstractMojo {
         settings.addTypeNameSuffix = addTypeNameSuffix;
         settings.customTypeNaming = Settings.convertToMap(customTypeNaming, "customTypeNaming");
         settings.customTypeNamingFunction = customTypeNamingFunction;
+        settings.customTypeNamingRegexps = Settings.convertToRegexpMap(customTypeNamingRegexps, "customTypeNamingRegexps");
         settings.referencedFiles = referencedFiles;
         settings.importDeclarations = importDeclarations;
         settings.customTypeMappings = Settings.convertToMap(customTypeMappings, "customTypeMapping");
@@ -952,6 +1083,7 @@ public class GenerateMojo extends AbstractMojo {
         settings.noEslintDisable = noEslintDisable;
         settings.tsNoCheck = tsNoCheck;
         settings.javadocXmlFiles = javadocXmlFiles;
+        settings.javadocCacheDirectory = javadocCacheDirectory;
         settings.loadExtensions(classLoader, extensions, extensionsWithConfiguration);
         settings.loadIncludePropertyAnnotations(classLoader, includePropertyAnnotations);
         settings.loadExcludePropertyAnnotations(classLoader, excludePropertyAnnotations);
@@ -959,7 +1091,7 @@ public class GenerateMojo extends AbstractMojo {
         settings.loadRequiredAnnotations(classLoader, requiredAnnotations);
         settings.loadNullableAnnotations(classLoader, nullableAnnotations);
         settings.primitivePropertiesRequired = primitivePropertiesRequired;
-        settings.generateInfoJson = generateInfoJson;
+        settings.generateInfoJson = output.generateInfoJson != null ? output.generateInfoJson : generateInfoJson;
         settings.generateNpmPackageJson = generateNpmPackageJson;
         settings.npmName = npmName == null && generateNpmPackageJson ? project.getArtifactId() : npmName;
         settings.npmVersion = npmVersion == null && generateNpmPackageJson ? settings.getDefaultNpmVersion() : npmVersion;
@@ -974,56 +1106,269 @@ public class GenerateMojo extends AbstractMojo {
         settings.jackson3ModuleDiscovery = jackson3ModuleDiscovery;
         settings.loadJackson2Modules(classLoader, jackson2Modules);
         settings.loadJackson3Modules(classLoader, jackson3Modules);
+        settings.parallelParsing = parallelParsing;
         settings.classLoader = classLoader;
         return settings;
     }
 
     @Override
     public void execute() {
+        if (!startExecution()) {
+            return;
+        }
+        final List<File> classpath = getClasspath();
+        final List<OutputConfiguration> outputConfigurations = getOutputConfigurations();
+        final List<File> outputFiles = outputConfigurations.stream()
+            .map(this::getOutputFile)
+            .collect(Collectors.toList());
+
+        // up-to-date check
+        final File stateFile = new File(new File(projectBuildDirectory, "typescript-generator"), mojoExecution.getExecutionId() + ".state");
+        final UpToDateCheck.@Nullable State state;
+        if (incrementalBuild) {
+            final UpToDateCheck.State previousState = UpToDateCheck.State.read(stateFile);
+            final String configurationHash = computeConfigurationHash(classpath);
+            final File projectOutputDirectory = new File(project.getBuild().getOutputDirectory());
+            // upstream workspace modules are not covered by build context delta (dependency jars are part of configuration hash)
+            final boolean onlyProjectClassesChanged = classpath.stream()
+                .allMatch(file -> !file.isDirectory() || file.getAbsoluteFile().equals(projectOutputDirectory.getAbsoluteFile()));
+            if (buildContext.isIncremental() && onlyProjectClassesChanged && !buildContext.hasDelta(projectOutputDirectory)
+                    && previousState != null && previousState.configurationHash.equals(configurationHash)
+                    && UpToDateCheck.outputsExist(outputFiles)) {
+                TypeScriptGenerator.getLogger().info("No changes in compiled classes, skipping generation");
+                return;
+            }
+            final UpToDateCheck check = new UpToDateCheck(previousState != null ? previousState.files : Collections.emptyMap())
+                .add(configurationHash)
+                .addClasspath(classpath);
+            state = new UpToDateCheck.State(configurationHash, check.getHash(), check.getFiles());
+            if (previousState != null && previousState.hash.equals(state.hash) && UpToDateCheck.outputsExist(outputFiles)) {
+                TypeScriptGenerator.getLogger().info("Output is up to date, skipping generation");
+                return;
+            }
+        } else {
+            state = null;
+        }
+        // state is saved only after successful generation
+        UpToDateCheck.deleteState(stateFile);
+
+        generate(classpath, outputConfigurations);
+
+        if (state != null) {
+            state.write(stateFile);
+        }
+    }
+
+    /**
+     * Sets logger and checks <code>skip</code> parameter.
+     * @return <code>false</code> if execution should be skipped
+     */
+    boolean startExecution() {
         TypeScriptGenerator.setLogger(new Logger(loggingLevel));
         TypeScriptGenerator.printVersion();
         if (skip) {
             TypeScriptGenerator.getLogger().info("Skipping plugin execution");
-            return;
+            return false;
         }
+        return true;
+    }
 
-        // class loader
-        final List<URL> urls = new ArrayList<>();
+    List<File> getClasspath() {
+        final List<File> classpath = new ArrayList<>();
         try {
             for (String element : project.getCompileClasspathElements()) {
-                urls.add(new File(element).toURI().toURL());
+                classpath.add(new File(element));
             }
-        } catch (DependencyResolutionRequiredException | IOException e) {
+        } catch (DependencyResolutionRequiredException e) {
             throw new RuntimeException(e);
         }
+        return classpath;
+    }
 
-        try (URLClassLoader classLoader = Settings.createClassLoader(project.getArtifactId(), urls.toArray(new URL[0]), Thread.currentThread().getContextClassLoader())) {
-
-            final Settings settings = createSettings(classLoader);
-
-            final Input.Parameters parameters = new Input.Parameters();
-            parameters.classNames = classes;
-            parameters.classNamePatterns = classPatterns;
-            parameters.classesWithAnnotations = classesWithAnnotations;
-            parameters.classesImplementingInterfaces = classesImplementingInterfaces;
-            parameters.classesExtendingClasses = classesExtendingClasses;
-            parameters.jaxrsApplicationClassName = classesFromJaxrsApplication;
-            parameters.automaticJaxrsApplication = classesFromAutomaticJaxrsApplication;
-            parameters.isClassNameExcluded = settings.getExcludeFilter();
-            parameters.classLoader = classLoader;
-            parameters.scanningAcceptedPackages = scanningAcceptedPackages;
-            parameters.debug = loggingLevel == Logger.Level.Debug;
+    List<OutputConfiguration> getOutputConfigurations() {
+        if (outputs == null || outputs.isEmpty()) {
+            return Arrays.asList(new OutputConfiguration());
+        }
+        // outputs without outputFile use default file name so they could overwrite each other
+        final Map<File, Integer> outputIndexes = new LinkedHashMap<>();
+        for (int i = 0; i < outputs.size(); i++) {
+            final File file = getOutputFile(outputs.get(i)).getAbsoluteFile().toPath().normalize().toFile();
+            final Integer previousIndex = outputIndexes.putIfAbsent(file, i);
+            if (previousIndex != null) {
+                throw new RuntimeException(String.format(
+                    "Outputs #%d and #%d generate the same file '%s'. Specify different 'outputFile' for each output.",
+                    previousIndex + 1, i + 1, file));
+            }
+        }
+        return outputs;
+    }
 
-            final File output = outputFile != null
-                ? outputFile
-                : new File(new File(projectBuildDirectory, "typescript-generator"), project.getArtifactId() + settings.getExtension());
-            settings.validateFileName(output);
+    /**
+     * Generates all outputs.
+     * @return parsed models (one for each group of outputs sharing the same input)
+     */
+    List<Model> generate(List<File> classpath, List<OutputConfiguration> outputConfigurations) {
+        final List<URL> urls = new ArrayList<>();
+        try {
+            for (File file : classpath) {
+                urls.add(file.toURI().toURL());
+            }
+        } catch (IOException e) {
+            throw new RuntimeException(e);
+        }
 
-            new TypeScriptGenerator(settings).generateTypeScript(Input.from(parameters), Output.to(output));
+        final List<Input.Parameters> inputParameters = new ArrayList<>();
+        for (OutputConfiguration outputConfiguration : outputConfigurations) {
+            inputParameters.add(createInputParameters(outputConfiguration));
+        }
+        final List<String> acceptedPackages = Input.getScanningAcceptedPackages(inputParameters);
+
+        try (URLClassLoader classLoader = Settings.createClassLoader(project.getArtifactId(), urls.toArray(new URL[0]), Thread.currentThread().getContextClassLoader());
+            Input.ClasspathScanner classpathScanner = new Input.ClasspathScanner(classLoader, acceptedPackages, loggingLevel == Logger.Level.Debug, scanCacheDirectory)) {
+
+            // outputs with the same input share parsed model
+            final Map<List<@Nullable Object>, Model> models = new LinkedHashMap<>();
+            for (int i = 0; i < outputConfigurations.size(); i++) {
+                final OutputConfiguration outputConfiguration = outputConfigurations.get(i);
+                final Settings settings = createSettings(classLoader, outputConfiguration);
+
+                final Input.Parameters parameters = inputParameters.get(i);
+                parameters.isClassNameExcluded = settings.getExcludeFilter();
+                parameters.classLoader = classLoader;
+
+                final File output = getOutputFile(outputConfiguration);
+                settings.validateFileName(output);
+
+                final TypeScriptGenerator generator = new TypeScriptGenerator(settings);
+                final List<@Nullable Object> modelKey = Arrays.asList(
+                    parameters.classNames,
+                    parameters.classNamePatterns,
+                    parameters.classesWithAnnotations,
+                    parameters.classesImplementingInterfaces,
+                    parameters.classesExtendingClasses,
+                    override(outputConfiguration.excludeClasses, excludeClasses),
+                    override(outputConfiguration.excludeClassPatterns, excludeClassPatterns)
+                );
+                Model model = models.get(modelKey);
+                if (model == null) {
+                    model = generator.parseModel(Input.from(parameters, classpathScanner));
+                    models.put(modelKey, model);
+                } else {
+                    TypeScriptGenerator.getLogger().info("Reusing parsed model for " + output);
+                }
+                generator.generateTypeScript(model, Output.toFileIfChanged(output));
+                buildContext.refresh(output.getAbsoluteFile().getParentFile());
+            }
+            return new ArrayList<>(models.values());
 
         } catch (IOException e) {
             throw new RuntimeException(e);
         }
     }
 
+    /**
+     * @return <code>true</code> if input classes of some output are selected by scanning
+     * (annotations, interfaces, superclasses, JAX-RS or Spring application),
+     * in that case any changed class can become part of the output
+     */
+    boolean isInputSelectedByScanning(List<OutputConfiguration> outputConfigurations) {
+        if (classesFromJaxrsApplication != null || classesFromAutomaticJaxrsApplication || scanSpringApplication) {
+            return true;
+        }
+        for (OutputConfiguration outputConfiguration : outputConfigurations) {
+            final Input.Parameters parameters = createInputParameters(outputConfiguration);
+            if (isNotEmpty(parameters.classesWithAnnotations)
+                || isNotEmpty(parameters.classesImplementingInterfaces)
+                || isNotEmpty(parameters.classesExtendingClasses)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static boolean isNotEmpty(@Nullable List<String> list) {
+        return list != null && !list.isEmpty();
+    }
+
+    private Input.Parameters createInputParameters(OutputConfiguration outputConfiguration) {
+        final Input.Parameters parameters = new Input.Parameters();
+        parameters.classNames = override(outputConfiguration.classes, classes);
+        parameters.classNamePatterns = override(outputConfiguration.classPatterns, classPatterns);
+        parameters.classesWithAnnotations = override(outputConfiguration.classesWithAnnotations, classesWithAnnotations);
+        parameters.classesImplementingInterfaces = override(outputConfiguration.classesImplementingInterfaces, classesImplementingInterfaces);
+        parameters.classesExtendingClasses = override(outputConfiguration.classesExtendingClasses, classesExtendingClasses);
+        parameters.jaxrsApplicationClassName = classesFromJaxrsApplication;
+        parameters.automaticJaxrsApplication = classesFromAutomaticJaxrsApplication;
+        parameters.scanningAcceptedPackages = scanningAcceptedPackages;
+        parameters.debug = loggingLevel == Logger.Level.Debug;
+        return parameters;
+    }
+
+    private File getOutputFile(OutputConfiguration output) {
+        final File file = override(output.outputFile, outputFile);
+        if (file != null) {
+            return file;
+        }
+        final Settings settings = new Settings();
+        final TypeScriptFileType outputFileType = override(output.outputFileType, this.outputFileType);
+        if (outputFileType != null) {
+            settings.outputFileType = outputFileType;
+        }
+        return new File(new File(projectBuildDirectory, "typescript-generator"), project.getArtifactId() + settings.getExtension());
+    }
+
+    /**
+     * Hashes evaluated parameter values (including expressions and user properties), files referenced by them
+     * and classpath files which are not directories (dependency jars).
+     */
+    private String computeConfigurationHash(List<File> classpath) {
+        final UpToDateCheck check = new UpToDateCheck()
+            .add(TypeScriptGenerator.Version != null ? TypeScriptGenerator.Version : "");
+        for (org.apache.maven.plugin.descriptor.Parameter parameter : mojoExecution.getMojoDescriptor().getParameters()) {
+            if (!parameter.isEditable()) {
+                // project, mojoExecution, ...
+                continue;
+            }
+            final Field field = findField(getClass(), parameter.getName());
+            if (field != null) {
+                check.addValue(parameter.getName(), UpToDateCheck.getFieldValue(field, this));
+            }
+        }
+        final List<File> files = new ArrayList<>();
+        if (javadocXmlFiles != null) {
+            files.addAll(javadocXmlFiles);
+        }
+        if (moduleDependencies != null) {
+            for (ModuleDependency moduleDependency : moduleDependencies) {
+                if (moduleDependency.infoJson != null) {
+                    files.add(moduleDependency.infoJson);
+                }
+            }
+        }
+        for (File file : classpath) {
+            if (!file.isDirectory()) {
+                files.add(file);
+            }
+        }
+        return check
+            .addFiles(plugin.getArtifacts().stream().map(Artifact::getFile).filter(Objects::nonNull).collect(Collectors.toList()))
+            .addFiles(files)
+            .getHash();
+    }
+
+    private static @Nullable Field findField(Class<?> cls, String name) {
+        for (Class<?> c = cls; c != null && c != Object.class; c = c.getSuperclass()) {
+            try {
+                return c.getDeclaredField(name);
+            } catch (NoSuchFieldException e) {
+                // continue with superclass
+            }
+        }
+        return null;
+    }
+
+    private static <T> @Nullable T override(@Nullable T value, @Nullable T defaultValue) {
+        return value != null ? value : defaultValue;
+    }
+
 }
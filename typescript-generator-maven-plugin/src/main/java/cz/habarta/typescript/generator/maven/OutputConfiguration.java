@@ -0,0 +1,31 @@
+package cz.habarta.typescript.generator.maven;
+
+import cz.habarta.typescript.generator.TypeScriptFileType;
+import cz.habarta.typescript.generator.TypeScriptOutputKind;
+import java.io.File;
+import java.util.List;
+import org.jspecify.annotations.Nullable;
+
+
+/**
+ * One of the outputs configured using <code>outputs</code> parameter.
+ * Parameters which are not specified are taken from plugin configuration.
+ */
+public class OutputConfiguration {
+
+    public @Nullable File outputFile;
+    public @Nullable TypeScriptFileType outputFileType;
+    public @Nullable TypeScriptOutputKind outputKind;
+    public @Nullable String module;
+    public @Nullable String namespace;
+    public @Nullable String umdNamespace;
+    public @Nullable List<String> classes;
+    public @Nullable List<String> classPatterns;
+    public @Nullable List<String> classesWithAnnotations;
+    public @Nullable List<String> classesImplementingInterfaces;
+    public @Nullable List<String> classesExtendingClasses;
+    public @Nullable List<String> excludeClasses;
+    public @Nullable List<String> excludeClassPatterns;
+    public @Nullable Boolean generateInfoJson;
+
+}
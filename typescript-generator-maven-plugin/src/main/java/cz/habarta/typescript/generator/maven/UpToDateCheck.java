@@ -0,0 +1,283 @@
+package cz.habarta.typescript.generator.maven;
+
+import cz.habarta.typescript.generator.util.CacheFiles;
+import java.io.File;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.lang.reflect.Array;
+import java.lang.reflect.Field;
+import java.lang.reflect.Modifier;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.stream.Stream;
+import org.jspecify.annotations.Nullable;
+
+
+/**
+ * Computes hash of everything which can affect generated output
+ * and compares it with hash stored in state file by previous successful generation.
+ */
+class UpToDateCheck {
+
+    private final MessageDigest digest = createDigest();
+    // content hashes of classpath directory files from previous state, reused when size and modification time didn't change
+    private final Map<String, FileRecord> previousFiles;
+    private final Map<String, FileRecord> files = new TreeMap<>();
+
+    public UpToDateCheck() {
+        this(Collections.emptyMap());
+    }
+
+    public UpToDateCheck(Map<String, FileRecord> previousFiles) {
+        this.previousFiles = previousFiles;
+    }
+
+    public UpToDateCheck add(String value) {
+        update(value);
+        return this;
+    }
+
+    /**
+     * Adds evaluated value of plugin parameter.
+     * Values are described structurally so the hash doesn't depend on <code>toString()</code> implementations
+     * of configuration classes.
+     */
+    public UpToDateCheck addValue(String name, @Nullable Object value) {
+        update(name + "=" + describe(value));
+        return this;
+    }
+
+    private static String describe(@Nullable Object value) {
+        if (value == null) {
+            return "null";
+        }
+        if (value instanceof String || value instanceof Number || value instanceof Boolean || value instanceof Character || value instanceof Enum) {
+            return value.getClass().getSimpleName() + ":" + value;
+        }
+        if (value instanceof File) {
+            return "File:" + ((File) value).getAbsolutePath();
+        }
+        if (value instanceof Class) {
+            return "Class:" + ((Class<?>) value).getName();
+        }
+        if (value instanceof Collection) {
+            final StringBuilder sb = new StringBuilder("[");
+            for (Object item : (Collection<?>) value) {
+                sb.append(describe(item)).append(",");
+            }
+            return sb.append("]").toString();
+        }
+        if (value.getClass().isArray()) {
+            final StringBuilder sb = new StringBuilder("[");
+            for (int i = 0; i < Array.getLength(value); i++) {
+                sb.append(describe(Array.get(value, i))).append(",");
+            }
+            return sb.append("]").toString();
+        }
+        if (value instanceof Map) {
+            final Map<String, String> sorted = new TreeMap<>();
+            for (Map.Entry<?, ?> entry : ((Map<?, ?>) value).entrySet()) {
+                sorted.put(describe(entry.getKey()), describe(entry.getValue()));
+            }
+            return "{" + sorted + "}";
+        }
+        // configuration objects (OutputConfiguration, ModuleDependency, Jackson2Configuration, ...)
+        final StringBuilder sb = new StringBuilder(value.getClass().getName()).append("{");
+        for (Class<?> cls = value.getClass(); cls != null && cls != Object.class; cls = cls.getSuperclass()) {
+            final List<Field> fields = Arrays.asList(cls.getDeclaredFields());
+            fields.sort(Comparator.comparing(Field::getName));
+            for (Field field : fields) {
+                if (Modifier.isStatic(field.getModifiers()) || field.isSynthetic()) {
+                    continue;
+                }
+                sb.append(field.getName()).append("=").append(describe(getFieldValue(field, value))).append(",");
+            }
+        }
+        return sb.append("}").toString();
+    }
+
+    static @Nullable Object getFieldValue(Field field, Object object) {
+        try {
+            field.setAccessible(true);
+            return field.get(object);
+        } catch (ReflectiveOperationException | RuntimeException e) {
+            throw new RuntimeException("Cannot read value of '" + field.getName() + "'", e);
+        }
+    }
+
+    /**
+     * Classpath directories are hashed by content (recompiled but unchanged classes don't trigger generation),
+     * content of file is read only when its size or modification time differs from previous state.
+     * Other files (jars) are hashed by size and modification time.
+     */
+    public UpToDateCheck addClasspath(List<File> classpath) {
+        for (File file : classpath) {
+            final Path root = file.toPath().toAbsolutePath();
+            if (Files.isDirectory(root)) {
+                update(root.toString());
+                addDirectory(root);
+            } else {
+                addFile(file);
+            }
+        }
+        return this;
+    }
+
+    public UpToDateCheck addFiles(List<File> files) {
+        for (File file : files) {
+            addFile(file);
+        }
+        return this;
+    }
+
+    private void addDirectory(Path root) {
+        try (Stream<Path> paths = Files.walk(root)) {
+            paths.filter(Files::isRegularFile).sorted().forEach(path -> {
+                try {
+                    final String key = path.toString();
+                    final long size = Files.size(path);
+                    final long lastModified = Files.getLastModifiedTime(path).toMillis();
+                    final FileRecord previous = previousFiles.get(key);
+                    final FileRecord record = previous != null && previous.size == size && previous.lastModified == lastModified
+                        ? previous
+                        : new FileRecord(size, lastModified, CacheFiles.hash(path.toFile()));
+                    files.put(key, record);
+                    update(root.relativize(path).toString());
+                    update(record.contentHash);
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                }
+            });
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private void addFile(File file) {
+        final Path path = file.toPath().toAbsolutePath();
+        update(path.toString());
+        try {
+            if (Files.isRegularFile(path)) {
+                update(Files.size(path) + ":" + Files.getLastModifiedTime(path).toMillis());
+            } else {
+                update("-");
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    public Map<String, FileRecord> getFiles() {
+        return files;
+    }
+
+    public String getHash() {
+        final StringBuilder sb = new StringBuilder();
+        for (byte b : digest.digest()) {
+            sb.append(String.format("%02x", b));
+        }
+        return sb.toString();
+    }
+
+    public static class FileRecord {
+        public final long size;
+        public final long lastModified;
+        public final String contentHash;
+
+        public FileRecord(long size, long lastModified, String contentHash) {
+            this.size = size;
+            this.lastModified = lastModified;
+            this.contentHash = contentHash;
+        }
+    }
+
+    /**
+     * State of previous successful generation.
+     * State file contains configuration hash on the first line, complete hash on the second line
+     * and records of classpath directory files on the following lines.
+     */
+    public static class State {
+        public final String configurationHash;
+        public final String hash;
+        public final Map<String, FileRecord> files;
+
+        public State(String configurationHash, String hash, Map<String, FileRecord> files) {
+            this.configurationHash = configurationHash;
+            this.hash = hash;
+            this.files = files;
+        }
+
+        public static @Nullable State read(File stateFile) {
+            if (!stateFile.isFile()) {
+                return null;
+            }
+            try {
+                final List<String> lines = Files.readAllLines(stateFile.toPath(), StandardCharsets.UTF_8);
+                if (lines.size() < 2) {
+                    return null;
+                }
+                final Map<String, FileRecord> files = new HashMap<>();
+                for (String line : lines.subList(2, lines.size())) {
+                    final String[] parts = line.split("\t", 4);
+                    if (parts.length == 4) {
+                        files.put(parts[3], new FileRecord(Long.parseLong(parts[0]), Long.parseLong(parts[1]), parts[2]));
+                    }
+                }
+                return new State(lines.get(0), lines.get(1), files);
+            } catch (IOException | RuntimeException e) {
+                // state is only optimization
+                return null;
+            }
+        }
+
+        public void write(File stateFile) {
+            final List<String> lines = new ArrayList<>();
+            lines.add(configurationHash);
+            lines.add(hash);
+            for (Map.Entry<String, FileRecord> entry : files.entrySet()) {
+                final FileRecord record = entry.getValue();
+                lines.add(record.size + "\t" + record.lastModified + "\t" + record.contentHash + "\t" + entry.getKey());
+            }
+            try {
+                stateFile.getParentFile().mkdirs();
+                Files.write(stateFile.toPath(), lines, StandardCharsets.UTF_8);
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        }
+    }
+
+    public static boolean outputsExist(List<File> outputFiles) {
+        return outputFiles.stream().allMatch(File::isFile);
+    }
+
+    public static void deleteState(File stateFile) {
+        stateFile.delete();
+    }
+
+    private void update(String value) {
+        digest.update(value.getBytes(StandardCharsets.UTF_8));
+        digest.update((byte) '\n');
+    }
+
+    private static MessageDigest createDigest() {
+        try {
+            return MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new RuntimeException(e);
+        }
+    }
+
+}
@@ -0,0 +1,96 @@
+package cz.habarta.typescript.generator.maven;
+
+import cz.habarta.typescript.generator.ClassesWatcher;
+import cz.habarta.typescript.generator.TypeScriptGenerator;
+import cz.habarta.typescript.generator.parser.Model;
+import java.io.File;
+import java.io.IOException;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+import org.apache.maven.plugins.annotations.Mojo;
+import org.apache.maven.plugins.annotations.Parameter;
+import org.apache.maven.plugins.annotations.ResolutionScope;
+
+
+/**
+ * Generates TypeScript files and then watches class directories on compile classpath
+ * and regenerates output when classes which affect it change.
+ * Classes are expected to be recompiled by IDE or by another build (for example <code>mvn compile</code>).
+ * Watching runs until the build is interrupted (for example using Ctrl+C).
+ * <p>
+ * Example: <code>mvn typescript-generator:watch</code> (or <code>mvn typescript-generator:watch@execution-id</code>
+ * to use configuration of specific execution).
+ * <p>
+ * This goal has the same parameters as <code>generate</code> goal.
+ */
+@Mojo(name = "watch", requiresDependencyResolution = ResolutionScope.COMPILE, threadSafe = true)
+public class WatchMojo extends GenerateMojo {
+
+    /**
+     * Time in milliseconds without further class changes after which generation starts
+     * so generation runs once after compilation of multiple classes.
+     * Default value is <code>300</code>.
+     */
+    @Parameter(property = "typescript.generator.watchQuietPeriod", defaultValue = "300")
+    private long watchQuietPeriod;
+
+    @Override
+    public void execute() {
+        if (!startExecution()) {
+            return;
+        }
+        final List<File> classpath = getClasspath();
+        final List<File> directories = classpath.stream()
+            .filter(File::isDirectory)
+            .collect(Collectors.toList());
+        final List<OutputConfiguration> outputConfigurations = getOutputConfigurations();
+        final boolean inputSelectedByScanning = isInputSelectedByScanning(outputConfigurations);
+
+        try (ClassesWatcher watcher = new ClassesWatcher(directories)) {
+            List<Model> models = generate(classpath, outputConfigurations);
+            boolean failed = false;
+            while (true) {
+                TypeScriptGenerator.getLogger().info("Watching class directories for changes: " + directories);
+                final ClassesWatcher.Changes changes = watcher.awaitChanges(watchQuietPeriod);
+                if (!failed && !changes.fullGenerationRequired) {
+                    final Set<String> affectedClasses = new LinkedHashSet<>();
+                    for (Model model : models) {
+                        for (Class<?> cls : model.getAffectedClasses(changes.changedClassNames)) {
+                            affectedClasses.add(cls.getName());
+                        }
+                    }
+                    final Set<String> unknownClasses = new LinkedHashSet<>(changes.changedClassNames);
+                    unknownClasses.removeAll(affectedClasses);
+                    if (inputSelectedByScanning && !unknownClasses.isEmpty()) {
+                        // changed class can newly match input (for example by adding annotation)
+                        TypeScriptGenerator.getLogger().info("Regenerating output, changed classes can match input: " + unknownClasses);
+                    } else if (affectedClasses.isEmpty()) {
+                        TypeScriptGenerator.getLogger().info("Changed classes don't affect output, skipping generation: " + changes.changedClassNames);
+                        continue;
+                    } else {
+                        TypeScriptGenerator.getLogger().info("Regenerating output affected by changed classes: " + affectedClasses);
+                    }
+                } else {
+                    TypeScriptGenerator.getLogger().info("Regenerating output");
+                }
+                try {
+                    // changed classes must be reloaded so model is parsed using new class loader
+                    models = generate(classpath, outputConfigurations);
+                    failed = false;
+                } catch (RuntimeException e) {
+                    // classes can be in inconsistent state during compilation, next change triggers full generation
+                    TypeScriptGenerator.getLogger().error("Generation failed: " + e);
+                    failed = true;
+                }
+            }
+        } catch (IOException e) {
+            throw new RuntimeException(e);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            TypeScriptGenerator.getLogger().info("Watching stopped");
+        }
+    }
+
+}
@@ -65,21 +65,29 @@ public class SpringApplicationParser extends RestApplicationParser {
 
         @Override
         public TypeProcessor getSpecificTypeProcessor() {
-            return (javaType, context) -> {
-                final Class<?> rawClass = Utils.getRawClassOrNull(javaType);
-                if (rawClass != null) {
-                    for (Map.Entry<Class<?>, TsType> entry : getStandardEntityClassesMapping().entrySet()) {
-                        final Class<?> cls = entry.getKey();
-                        final TsType type = entry.getValue();
-                        if (cls.isAssignableFrom(rawClass) && type != null) {
-                            return new TypeProcessor.Result(type);
+            return new TypeProcessor() {
+                @Override
+                public boolean isCacheable() {
+                    return true;
+                }
+
+                @Override
+                public TypeProcessor.@Nullable Result processType(Type javaType, TypeProcessor.Context context) {
+                    final Class<?> rawClass = Utils.getRawClassOrNull(javaType);
+                    if (rawClass != null) {
+                        for (Map.Entry<Class<?>, TsType> entry : getStandardEntityClassesMapping().entrySet()) {
+                            final Class<?> cls = entry.getKey();
+                            final TsType type = entry.getValue();
+                            if (cls.isAssignableFrom(rawClass) && type != null) {
+                                return new TypeProcessor.Result(type);
+                            }
+                        }
+                        if (getDefaultExcludedClassNames().contains(rawClass.getName())) {
+                            return new TypeProcessor.Result(TsType.Any);
                         }
                     }
-                    if (getDefaultExcludedClassNames().contains(rawClass.getName())) {
-                        return new TypeProcessor.Result(TsType.Any);
-                    }
+                    return null;
                 }
-                return null;
             };
         }
 